@@ -38,6 +38,7 @@ include(
     "time",
     "time-java",
     "time-kotlin",
+    "time-scheduler",
     "testlib",
     "gradle-plugin",
     "validation",
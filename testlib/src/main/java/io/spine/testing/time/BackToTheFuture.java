@@ -31,6 +31,8 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Timestamp;
 import io.spine.base.Time;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import static com.google.protobuf.util.Timestamps.add;
 import static com.google.protobuf.util.Timestamps.subtract;
 import static io.spine.base.Time.systemTime;
@@ -42,25 +44,23 @@ import static io.spine.util.Preconditions2.checkPositive;
  *
  * <p>Created in the future, {@linkplain #THIRTY_YEARS_IN_HOURS 30 years} from
  * the {@link Time#systemTime() current system time}.
+ *
+ * <p>The provider does not use locks, so it does not pin virtual threads reading the time.
  */
 @VisibleForTesting
 public class BackToTheFuture implements Time.Provider {
 
     public static final long THIRTY_YEARS_IN_HOURS = 262800L;
 
-    private Timestamp currentTime;
+    private final AtomicReference<Timestamp> currentTime;
 
     public BackToTheFuture() {
-        this.currentTime = add(systemTime(), hours(THIRTY_YEARS_IN_HOURS));
+        this.currentTime = new AtomicReference<>(add(systemTime(), hours(THIRTY_YEARS_IN_HOURS)));
     }
 
     @Override
-    public synchronized Timestamp currentTime() {
-        return this.currentTime;
-    }
-
-    private synchronized void setCurrentTime(Timestamp currentTime) {
-        this.currentTime = currentTime;
+    public Timestamp currentTime() {
+        return currentTime.get();
     }
 
     /**
@@ -68,11 +68,10 @@ public class BackToTheFuture implements Time.Provider {
      * by the passed amount of hours.
      */
     @CanIgnoreReturnValue
-    public synchronized Timestamp forward(long hoursDelta) {
+    public Timestamp forward(long hoursDelta) {
         checkPositive(hoursDelta);
-        var newTime = add(this.currentTime, hours(hoursDelta));
-        setCurrentTime(newTime);
-        return newTime;
+        var delta = hours(hoursDelta);
+        return currentTime.updateAndGet(time -> add(time, delta));
     }
 
     /**
@@ -80,10 +79,9 @@ public class BackToTheFuture implements Time.Provider {
      * by the passed amount of hours.
      */
     @CanIgnoreReturnValue
-    public synchronized Timestamp backward(long hoursDelta) {
+    public Timestamp backward(long hoursDelta) {
         checkPositive(hoursDelta);
-        var newTime = subtract(this.currentTime, hours(hoursDelta));
-        setCurrentTime(newTime);
-        return newTime;
+        var delta = hours(hoursDelta);
+        return currentTime.updateAndGet(time -> subtract(time, delta));
     }
 }
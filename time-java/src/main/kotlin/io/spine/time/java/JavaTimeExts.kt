@@ -37,7 +37,7 @@ import java.time.Instant
 /**
  * Converts this `Timestamp` to `Instant`.
  */
-public fun Timestamp.toInstant(): Instant = InstantConverter.reversed().convert(this)!!
+public fun Timestamp.toInstant(): Instant = InstantConverter.toInstant(this)
 
 /**
  * Converts this `Duration` to a Java Time `Duration`.
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.java
+
+import io.spine.base.Time
+import java.lang.Math.addExact
+import java.lang.Math.multiplyExact
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+import java.util.Objects
+
+/**
+ * A [Clock] which reads the time via the [provider][Time.Provider] configured
+ * in the [Time] class.
+ *
+ * The clock allows JDK APIs and third-party libraries to use the same time as the code
+ * calling [Time.currentTime]. Therefore, the time used by such libraries can be controlled
+ * in tests by [setting a provider][Time.setProvider].
+ *
+ * [millis] calculates the result from the seconds and nanos of the timestamp obtained from
+ * the provider, without creating an [Instant].
+ *
+ * ## Coarse mode
+ *
+ * A [coarse] clock remembers the time obtained from the provider and returns it until
+ * the given granularity passes, as measured by [System.nanoTime]. Within the granularity,
+ * neither [millis] nor [instant] call the provider. Such a clock suits code which reads
+ * the time very often and tolerates the time lagging behind by the granularity.
+ *
+ * Please note that a coarse clock does not notice the change of the time provider until
+ * the granularity passes. Tests which change the provider should use a precise clock.
+ */
+public class ProviderClock private constructor(
+    private val zone: ZoneId,
+    private val granularityNanos: Long
+) : Clock() {
+
+    /**
+     * The last reading of a coarse clock.
+     */
+    @Volatile
+    private var reading: Reading? = null
+
+    override fun getZone(): ZoneId = zone
+
+    override fun withZone(zone: ZoneId): ProviderClock =
+        if (zone == this.zone) this else ProviderClock(zone, granularityNanos)
+
+    override fun millis(): Long {
+        if (granularityNanos > 0) {
+            return read().millis
+        }
+        val time = Time.currentTime()
+        return toMillis(time.seconds, time.nanos)
+    }
+
+    override fun instant(): Instant {
+        if (granularityNanos > 0) {
+            val current = read()
+            return Instant.ofEpochSecond(current.seconds, current.nanos.toLong())
+        }
+        val time = Time.currentTime()
+        return Instant.ofEpochSecond(time.seconds, time.nanos.toLong())
+    }
+
+    /**
+     * Obtains the last reading of a coarse clock, refreshing it if the granularity passed.
+     */
+    private fun read(): Reading {
+        val now = System.nanoTime()
+        val current = reading
+        if (current != null && now - current.readAt < granularityNanos) {
+            return current
+        }
+        val time = Time.currentTime()
+        val fresh = Reading(time.seconds, time.nanos, now)
+        reading = fresh
+        return fresh
+    }
+
+    override fun equals(other: Any?): Boolean {
+        if (this === other) {
+            return true
+        }
+        if (other !is ProviderClock) {
+            return false
+        }
+        return zone == other.zone && granularityNanos == other.granularityNanos
+    }
+
+    override fun hashCode(): Int = Objects.hash(zone, granularityNanos)
+
+    override fun toString(): String =
+        if (granularityNanos > 0) {
+            "ProviderClock[$zone, granularity=${java.time.Duration.ofNanos(granularityNanos)}]"
+        } else {
+            "ProviderClock[$zone]"
+        }
+
+    /**
+     * The time obtained from the provider along with the value of [System.nanoTime]
+     * at the moment of reading.
+     */
+    private class Reading(val seconds: Long, val nanos: Int, val readAt: Long) {
+        val millis: Long = toMillis(seconds, nanos)
+    }
+
+    public companion object {
+
+        private const val NANOS_PER_MILLI = 1_000_000
+        private const val MILLIS_PER_SECOND = 1_000L
+
+        /**
+         * Creates a clock which calls the provider each time it is asked for the time.
+         *
+         * @param zone The zone of the clock, the [current zone][Time.currentTimeZone]
+         *   by default.
+         */
+        @JvmStatic
+        @JvmOverloads
+        public fun of(zone: ZoneId = Time.currentTimeZone()): ProviderClock =
+            ProviderClock(zone, 0)
+
+        /**
+         * Creates a clock which calls the provider at most once per the given [granularity].
+         *
+         * @param granularity The period during which the clock returns the same time,
+         *   must be positive.
+         * @param zone The zone of the clock, the [current zone][Time.currentTimeZone]
+         *   by default.
+         */
+        @JvmStatic
+        @JvmOverloads
+        public fun coarse(
+            granularity: java.time.Duration,
+            zone: ZoneId = Time.currentTimeZone()
+        ): ProviderClock {
+            require(!granularity.isNegative && !granularity.isZero) {
+                "The granularity must be positive: `$granularity`."
+            }
+            return ProviderClock(zone, granularity.toNanos())
+        }
+
+        private fun toMillis(seconds: Long, nanos: Int): Long =
+            addExact(multiplyExact(seconds, MILLIS_PER_SECOND), (nanos / NANOS_PER_MILLI).toLong())
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.java
+
+import com.google.protobuf.util.Durations
+import com.google.protobuf.util.Timestamps
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.shouldBe
+import io.spine.base.Time
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZonedDateTime
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`ProviderClock` should")
+internal class ProviderClockSpec {
+
+    private val frozen = Timestamps.parse("2024-02-29T12:34:56.789123456Z")
+
+    @AfterEach
+    fun resetProvider() {
+        Time.resetProvider()
+    }
+
+    @Test
+    fun `read the time via the provider`() {
+        Time.setProvider { frozen }
+        val clock = ProviderClock.of(ZoneId.of("UTC"))
+        clock.instant() shouldBe Instant.parse("2024-02-29T12:34:56.789123456Z")
+        clock.millis() shouldBe Timestamps.toMillis(frozen)
+    }
+
+    @Test
+    fun `serve as a clock for Java Time`() {
+        Time.setProvider { frozen }
+        val clock = ProviderClock.of(ZoneId.of("Europe/Kyiv"))
+        ZonedDateTime.now(clock) shouldBe
+                ZonedDateTime.parse("2024-02-29T14:34:56.789123456+02:00[Europe/Kyiv]")
+    }
+
+    @Test
+    fun `change the zone`() {
+        val utc = ProviderClock.of(ZoneId.of("UTC"))
+        val kyiv = utc.withZone(ZoneId.of("Europe/Kyiv"))
+        kyiv.zone shouldBe ZoneId.of("Europe/Kyiv")
+        kyiv.withZone(ZoneId.of("UTC")) shouldBe utc
+        utc.withZone(ZoneId.of("UTC")) shouldBe utc
+    }
+
+    @Test
+    fun `keep the time in coarse mode until the granularity passes`() {
+        Time.setProvider { frozen }
+        val clock = ProviderClock.coarse(Duration.ofDays(1), ZoneId.of("UTC"))
+        val first = clock.millis()
+        Time.setProvider { Timestamps.add(frozen, Durations.fromHours(1)) }
+        clock.millis() shouldBe first
+        clock.instant() shouldBe Instant.ofEpochMilli(first).plusNanos(123_456)
+    }
+
+    @Test
+    fun `refresh the time in coarse mode`() {
+        Time.setProvider { frozen }
+        val clock = ProviderClock.coarse(Duration.ofNanos(1), ZoneId.of("UTC"))
+        clock.millis()
+        val later = Timestamps.add(frozen, Durations.fromHours(1))
+        Time.setProvider { later }
+        Thread.sleep(1)
+        clock.millis() shouldBe Timestamps.toMillis(later)
+    }
+
+    @Test
+    fun `reject non-positive granularity`() {
+        shouldThrow<IllegalArgumentException> {
+            ProviderClock.coarse(Duration.ZERO)
+        }
+    }
+}
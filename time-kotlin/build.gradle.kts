@@ -24,6 +24,7 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
+import io.spine.dependency.kotlinx.Coroutines
 import io.spine.dependency.kotlinx.DateTime
 import io.spine.dependency.local.Validation
 
@@ -34,5 +35,8 @@ plugins {
 dependencies {
     api(project(":time"))
     api(DateTime.lib)
+    api(Coroutines.artifact { core })
     implementation(Validation.runtime)?.because("`ValidatingBuilder` is needed for compilation.")
+
+    testImplementation(Coroutines.artifact { test })
 }
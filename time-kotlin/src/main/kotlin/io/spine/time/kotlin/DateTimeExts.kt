@@ -31,6 +31,10 @@ package io.spine.time.kotlin
 import com.google.protobuf.Timestamp
 import com.google.protobuf.timestamp
 import com.google.protobuf.duration
+import io.spine.time.ZonedDateTimes
+import java.lang.Math.floorDiv
+import java.lang.Math.floorMod
+import java.lang.Math.toIntExact
 import kotlin.time.Duration.Companion.nanoseconds
 import io.spine.time.localDate
 import io.spine.time.localDateTime
@@ -44,6 +48,7 @@ import io.spine.time.LocalTime as ProtoLocalTime
 import io.spine.time.Month as ProtoMonth
 import io.spine.time.YearMonth as ProtoYearMonth
 import io.spine.time.ZoneId as ProtoZoneId
+import io.spine.time.ZonedDateTime as ProtoZonedDateTime
 import kotlin.time.Duration as KtDuration
 import kotlin.time.Instant as KtInstant
 import kotlinx.datetime.LocalDate as KtLocalDate
@@ -68,6 +73,7 @@ public fun KtInstant.toTimestamp(): Timestamp = timestamp {
 }
 
 private const val NANOS_IN_SECOND = 1_000_000_000L
+private const val SECONDS_IN_DAY = 86_400L
 
 /**
  * Converts this Protobuf `Duration` to Kotlin `kotlin.time.Duration`.
@@ -197,8 +203,10 @@ public fun KtLocalDateTime.toProtoLocalDateTime(): ProtoLocalDateTime =
 
 /**
  * Converts Spine `ZoneId` to kotlinx.datetime `TimeZone`.
+ *
+ * The resolved zones are cached, so the rules of a zone are loaded only once.
  */
-public fun ProtoZoneId.toKotlinTimeZone(): KtTimeZone = KtTimeZone.of(this.value)
+public fun ProtoZoneId.toKotlinTimeZone(): KtTimeZone = TimeZones.of(this.value)
 
 /**
  * Converts kotlinx.datetime `TimeZone` to Spine `ZoneId`.
@@ -207,3 +215,32 @@ public fun KtTimeZone.toProtoZoneId(): ProtoZoneId =
     zoneId {
         value = id
     }
+
+/**
+ * Obtains the kotlinx.datetime `LocalDateTime` of this point in time in the given zone.
+ *
+ * The local time is calculated from the seconds and nanos of this timestamp using
+ * the offsets cached for the zone by its ID, without creating an intermediate `Instant`.
+ *
+ * @see ZonedDateTimes.localEpochSecond
+ */
+public fun Timestamp.toKotlinLocalDateTime(zone: ProtoZoneId): KtLocalDateTime {
+    val local = ZonedDateTimes.localEpochSecond(seconds, zone.value)
+    val epochDay = floorDiv(local, SECONDS_IN_DAY)
+    val secondOfDay = floorMod(local, SECONDS_IN_DAY)
+    return KtLocalDateTime(
+        KtLocalDate.fromEpochDays(toIntExact(epochDay)),
+        KtLocalTime.fromNanosecondOfDay(secondOfDay * NANOS_IN_SECOND + nanos)
+    )
+}
+
+/**
+ * Converts Spine `ZonedDateTime` to KotlinX `Instant`.
+ *
+ * The offset of the zone is resolved via the offsets cached for the zone,
+ * without creating an intermediate `Instant`.
+ *
+ * @see ZonedDateTimes.epochSecond
+ */
+public fun ProtoZonedDateTime.toKotlinInstant(): KtInstant =
+    KtInstant.fromEpochSeconds(ZonedDateTimes.epochSecond(this), dateTime.time.nano)
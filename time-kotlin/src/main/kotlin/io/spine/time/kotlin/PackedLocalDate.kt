@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.kotlin
+
+import io.spine.time.LocalDates
+import java.lang.Math.addExact
+import java.lang.Math.subtractExact
+import java.lang.Math.toIntExact
+import io.spine.time.LocalDate as ProtoLocalDate
+import kotlinx.datetime.LocalDate as KtLocalDate
+
+/**
+ * A local date packed into the number of days since `1970-01-01`.
+ *
+ * Instances of this class are represented by an `Int` in the compiled code.
+ * Comparing dates and adding days to them is performed on that `Int`, without
+ * creating objects. The Protobuf or KotlinX representation of the date is created only
+ * when requested via [toProtoLocalDate] or [toKotlinLocalDate].
+ *
+ * @property epochDay The number of days since `1970-01-01`, which is negative for
+ *   earlier dates.
+ */
+@JvmInline
+public value class PackedLocalDate(public val epochDay: Int) : Comparable<PackedLocalDate> {
+
+    override fun compareTo(other: PackedLocalDate): Int = epochDay.compareTo(other.epochDay)
+
+    /**
+     * Obtains the date which is the given number of days after this one.
+     *
+     * @throws ArithmeticException if the result overflows `Int`
+     */
+    public operator fun plus(days: Int): PackedLocalDate =
+        PackedLocalDate(addExact(epochDay, days))
+
+    /**
+     * Obtains the date which is the given number of days before this one.
+     *
+     * @throws ArithmeticException if the result overflows `Int`
+     */
+    public operator fun minus(days: Int): PackedLocalDate =
+        PackedLocalDate(subtractExact(epochDay, days))
+
+    /**
+     * Obtains the number of days from the [other] date till this one.
+     */
+    public operator fun minus(other: PackedLocalDate): Int =
+        subtractExact(epochDay, other.epochDay)
+
+    /**
+     * Obtains the next date.
+     */
+    public operator fun inc(): PackedLocalDate = plus(1)
+
+    /**
+     * Obtains the previous date.
+     */
+    public operator fun dec(): PackedLocalDate = minus(1)
+
+    /**
+     * Creates the Protobuf message of this date.
+     */
+    public fun toProtoLocalDate(): ProtoLocalDate = LocalDates.ofEpochDay(epochDay.toLong())
+
+    /**
+     * Creates the KotlinX value of this date.
+     */
+    public fun toKotlinLocalDate(): KtLocalDate = KtLocalDate.fromEpochDays(epochDay)
+
+    override fun toString(): String = toKotlinLocalDate().toString()
+}
+
+/**
+ * Packs this date into the number of days since `1970-01-01`.
+ *
+ * @throws IllegalArgumentException if this date is not valid
+ */
+public fun ProtoLocalDate.toPacked(): PackedLocalDate =
+    PackedLocalDate(toIntExact(LocalDates.toEpochDay(this)))
+
+/**
+ * Packs this date into the number of days since `1970-01-01`.
+ *
+ * @throws ArithmeticException if the number of days does not fit `Int`
+ */
+public fun KtLocalDate.toPacked(): PackedLocalDate = PackedLocalDate(toIntExact(toEpochDays()))
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.kotlin
+
+import io.spine.time.LocalTimes
+import java.lang.Math.floorMod
+import kotlin.time.Duration.Companion.nanoseconds
+import io.spine.time.LocalTime as ProtoLocalTime
+import kotlin.time.Duration as KtDuration
+import kotlinx.datetime.LocalTime as KtLocalTime
+
+/**
+ * A local time packed into the number of nanoseconds since midnight.
+ *
+ * Instances of this class are represented by a `Long` in the compiled code.
+ * Comparing times and adding durations to them is performed on that `Long`, without
+ * creating objects. The Protobuf or KotlinX representation of the time is created only
+ * when requested via [toProtoLocalTime] or [toKotlinLocalTime].
+ *
+ * @property nanoOfDay The number of nanoseconds since midnight.
+ */
+@JvmInline
+public value class PackedLocalTime(public val nanoOfDay: Long) : Comparable<PackedLocalTime> {
+
+    init {
+        require(nanoOfDay in 0 until NANOS_PER_DAY) {
+            "The nanosecond of a day is out of range: $nanoOfDay."
+        }
+    }
+
+    /** The hour of the day, from 0 to 23. */
+    public val hour: Int
+        get() = (nanoOfDay / NANOS_PER_HOUR).toInt()
+
+    /** The minute of the hour, from 0 to 59. */
+    public val minute: Int
+        get() = (nanoOfDay / NANOS_PER_MINUTE % 60).toInt()
+
+    /** The second of the minute, from 0 to 59. */
+    public val second: Int
+        get() = (nanoOfDay / NANOS_PER_SECOND % 60).toInt()
+
+    /** The fraction of the second, from 0 to 999,999,999. */
+    public val nano: Int
+        get() = (nanoOfDay % NANOS_PER_SECOND).toInt()
+
+    override fun compareTo(other: PackedLocalTime): Int = nanoOfDay.compareTo(other.nanoOfDay)
+
+    /**
+     * Obtains the time which is the given [duration] after this one.
+     *
+     * The calculation wraps around midnight, as `java.time.LocalTime.plus()` does.
+     */
+    public operator fun plus(duration: KtDuration): PackedLocalTime {
+        val delta = floorMod(duration.inWholeNanoseconds, NANOS_PER_DAY)
+        return PackedLocalTime(floorMod(nanoOfDay + delta, NANOS_PER_DAY))
+    }
+
+    /**
+     * Obtains the time which is the given [duration] before this one.
+     *
+     * The calculation wraps around midnight, as `java.time.LocalTime.minus()` does.
+     */
+    public operator fun minus(duration: KtDuration): PackedLocalTime {
+        val delta = floorMod(duration.inWholeNanoseconds, NANOS_PER_DAY)
+        return PackedLocalTime(floorMod(nanoOfDay - delta, NANOS_PER_DAY))
+    }
+
+    /**
+     * Obtains the duration from the [other] time till this one.
+     */
+    public operator fun minus(other: PackedLocalTime): KtDuration =
+        (nanoOfDay - other.nanoOfDay).nanoseconds
+
+    /**
+     * Creates the Protobuf message of this time.
+     */
+    public fun toProtoLocalTime(): ProtoLocalTime = LocalTimes.ofNanoOfDay(nanoOfDay)
+
+    /**
+     * Creates the KotlinX value of this time.
+     */
+    public fun toKotlinLocalTime(): KtLocalTime = KtLocalTime.fromNanosecondOfDay(nanoOfDay)
+
+    override fun toString(): String = toKotlinLocalTime().toString()
+
+    private companion object {
+        const val NANOS_PER_SECOND = 1_000_000_000L
+        const val NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND
+        const val NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE
+        const val NANOS_PER_DAY = 24 * NANOS_PER_HOUR
+    }
+}
+
+/**
+ * Packs this time into the number of nanoseconds since midnight.
+ */
+public fun ProtoLocalTime.toPacked(): PackedLocalTime =
+    PackedLocalTime(LocalTimes.toNanoOfDay(this))
+
+/**
+ * Packs this time into the number of nanoseconds since midnight.
+ */
+public fun KtLocalTime.toPacked(): PackedLocalTime = PackedLocalTime(toNanosecondOfDay())
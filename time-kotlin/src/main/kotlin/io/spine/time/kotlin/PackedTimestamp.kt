@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+@file:OptIn(kotlin.time.ExperimentalTime::class)
+
+package io.spine.time.kotlin
+
+import com.google.protobuf.Timestamp
+import io.spine.base.Time
+import java.lang.Math.addExact
+import java.lang.Math.floorDiv
+import java.lang.Math.floorMod
+import java.lang.Math.multiplyExact
+import java.lang.Math.subtractExact
+import kotlin.time.Duration.Companion.nanoseconds
+import kotlin.time.Duration as KtDuration
+import kotlin.time.Instant as KtInstant
+
+/**
+ * A point in time packed into the number of nanoseconds since the epoch.
+ *
+ * Instances of this class are represented by a `Long` in the compiled code.
+ * Comparing points in time and adding durations to them is performed on that `Long`,
+ * without creating objects. The [Timestamp] or KotlinX `Instant` is created only
+ * when requested via [toTimestamp] or [toInstant].
+ *
+ * A `Long` number of nanoseconds covers the points in time from the year 1677 till
+ * the year 2262. Packing a timestamp out of this range throws [ArithmeticException].
+ *
+ * @property epochNanos The number of nanoseconds since the epoch.
+ */
+@JvmInline
+public value class PackedTimestamp(public val epochNanos: Long) : Comparable<PackedTimestamp> {
+
+    /** The number of seconds since the epoch. */
+    public val seconds: Long
+        get() = floorDiv(epochNanos, NANOS_PER_SECOND)
+
+    /** The fraction of the second, from 0 to 999,999,999. */
+    public val nanos: Int
+        get() = floorMod(epochNanos, NANOS_PER_SECOND).toInt()
+
+    override fun compareTo(other: PackedTimestamp): Int = epochNanos.compareTo(other.epochNanos)
+
+    /**
+     * Obtains the point in time which is the given [duration] after this one.
+     *
+     * @throws ArithmeticException if the result overflows `Long`
+     */
+    public operator fun plus(duration: KtDuration): PackedTimestamp =
+        PackedTimestamp(addExact(epochNanos, duration.inWholeNanoseconds))
+
+    /**
+     * Obtains the point in time which is the given [duration] before this one.
+     *
+     * @throws ArithmeticException if the result overflows `Long`
+     */
+    public operator fun minus(duration: KtDuration): PackedTimestamp =
+        PackedTimestamp(subtractExact(epochNanos, duration.inWholeNanoseconds))
+
+    /**
+     * Obtains the duration from the [other] point in time till this one.
+     */
+    public operator fun minus(other: PackedTimestamp): KtDuration =
+        subtractExact(epochNanos, other.epochNanos).nanoseconds
+
+    /**
+     * Creates the Protobuf timestamp of this point in time.
+     */
+    public fun toTimestamp(): Timestamp =
+        Timestamp.newBuilder()
+            .setSeconds(seconds)
+            .setNanos(nanos)
+            .build()
+
+    /**
+     * Creates the KotlinX `Instant` of this point in time.
+     */
+    public fun toInstant(): KtInstant = KtInstant.fromEpochSeconds(seconds, nanos)
+
+    override fun toString(): String = toInstant().toString()
+
+    public companion object {
+
+        private const val NANOS_PER_SECOND = 1_000_000_000L
+
+        /**
+         * Obtains the current time via the [provider][Time.Provider] configured
+         * in the [Time] class.
+         */
+        @JvmStatic
+        public fun now(): PackedTimestamp = Time.currentTime().toPacked()
+    }
+}
+
+/**
+ * Packs this timestamp into the number of nanoseconds since the epoch.
+ *
+ * @throws ArithmeticException if this timestamp is out of the range representable
+ *   by [PackedTimestamp]
+ */
+public fun Timestamp.toPacked(): PackedTimestamp =
+    PackedTimestamp(addExact(multiplyExact(seconds, 1_000_000_000L), nanos.toLong()))
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+@file:OptIn(kotlin.time.ExperimentalTime::class)
+
+package io.spine.time.kotlin
+
+import com.google.protobuf.Timestamp
+import io.spine.base.Time
+import io.spine.time.LocalDates
+import java.lang.Math.toIntExact
+import kotlin.time.Duration as KtDuration
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.datetime.atStartOfDayIn
+import io.spine.time.LocalDate as ProtoLocalDate
+import io.spine.time.ZoneId as ProtoZoneId
+import kotlinx.datetime.LocalDate as KtLocalDate
+
+/**
+ * Obtains the points in time starting at [start] and following each other
+ * with the given [period].
+ *
+ * The sequence is infinite and does not wait for the points in time to come.
+ * The intermediate points in time are kept as [PackedTimestamp]s, so only the emitted
+ * timestamps are created.
+ *
+ * @param period The distance between two consecutive points in time, must be positive.
+ * @param start The first point in time, the [current time][Time.currentTime] by default.
+ * @throws ArithmeticException when the sequence reaches the points in time out of
+ *   the range representable by [PackedTimestamp]
+ */
+public fun timestampSequence(
+    period: KtDuration,
+    start: Timestamp = Time.currentTime()
+): Sequence<Timestamp> {
+    checkPositive(period)
+    val first = start.toPacked()
+    return sequence {
+        var next = first
+        while (true) {
+            yield(next.toTimestamp())
+            next += period
+        }
+    }
+}
+
+/**
+ * Emits the [current time][Time.currentTime] and then the points in time following
+ * each other with the given [period], waiting for each of them to come.
+ *
+ * The time is read via the [provider][Time.Provider] configured in the [Time] class.
+ * The flow is infinite. If a collector is slower than the period, the points in time which
+ * have already passed are emitted without waiting.
+ *
+ * The waits are measured by the provider, while the coroutine is suspended by its
+ * dispatcher. A wait never exceeds the [period], so a provider which does not advance
+ * with the time of the dispatcher, such as a frozen test clock, makes the flow emit once
+ * per period of the dispatcher time instead of stalling.
+ *
+ * @param period The distance between two consecutive points in time, must be positive.
+ */
+public fun timestampTicks(period: KtDuration): Flow<Timestamp> {
+    checkPositive(period)
+    return flow {
+        var next = PackedTimestamp.now()
+        while (true) {
+            emit(next.toTimestamp())
+            next += period
+            delay(minOf(next - PackedTimestamp.now(), period))
+        }
+    }
+}
+
+/**
+ * Obtains the starts of the days from [start], inclusive, to [endExclusive], exclusive,
+ * in the given [zone].
+ *
+ * The start of a day is usually the local midnight. If the midnight falls into a gap of
+ * the zone, the start of the day is the earliest valid local time of that day.
+ */
+public fun calendarSequence(
+    start: ProtoLocalDate,
+    endExclusive: ProtoLocalDate,
+    zone: ProtoZoneId
+): Sequence<Timestamp> {
+    val timeZone = zone.toKotlinTimeZone()
+    val first = toIntExact(LocalDates.toEpochDay(start))
+    val end = toIntExact(LocalDates.toEpochDay(endExclusive))
+    return sequence {
+        for (epochDay in first until end) {
+            val dayStart = KtLocalDate.fromEpochDays(epochDay).atStartOfDayIn(timeZone)
+            yield(dayStart.toTimestamp())
+        }
+    }
+}
+
+/**
+ * Emits the starts of the days from [start], inclusive, to [endExclusive], exclusive,
+ * in the given [zone], waiting for each of them to come.
+ *
+ * The time is read via the [provider][Time.Provider] configured in the [Time] class.
+ * The starts of the days which have already passed are emitted without waiting.
+ *
+ * As in [timestampTicks], a wait never exceeds the distance from the previously emitted
+ * point in time, or from the start of the flow, so the flow does not stall with a provider
+ * which does not advance.
+ *
+ * @see calendarSequence
+ */
+public fun calendarFlow(
+    start: ProtoLocalDate,
+    endExclusive: ProtoLocalDate,
+    zone: ProtoZoneId
+): Flow<Timestamp> {
+    val days = calendarSequence(start, endExclusive, zone)
+    return flow {
+        var previous = PackedTimestamp.now()
+        days.forEach { dayStart ->
+            val next = dayStart.toPacked()
+            delay(minOf(next - PackedTimestamp.now(), next - previous))
+            emit(dayStart)
+            previous = next
+        }
+    }
+}
+
+private fun checkPositive(period: KtDuration) {
+    require(period.isPositive()) { "The period must be positive: `$period`." }
+}
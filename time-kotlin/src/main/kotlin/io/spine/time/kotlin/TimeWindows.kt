@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.kotlin
+
+import com.google.protobuf.Timestamp
+import java.lang.Math.floorDiv
+import kotlin.time.Duration as KtDuration
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+
+/**
+ * Elements which belong to the period of time from [start], inclusive,
+ * to [end], exclusive.
+ *
+ * @param T The type of the elements.
+ * @property start The start of the window, inclusive.
+ * @property end The end of the window, exclusive.
+ * @property items The elements of the window in the order of their arrival.
+ */
+public data class TimeWindow<out T>(
+    public val start: Timestamp,
+    public val end: Timestamp,
+    public val items: List<T>
+)
+
+/**
+ * Groups the elements of this sequence into adjacent non-overlapping windows
+ * of the given [size].
+ *
+ * The windows are aligned to the epoch. That is, the start of each window is
+ * a multiple of the [size] since `1970-01-01T00:00:00Z`.
+ *
+ * The elements must be ordered by their time. Windows without elements are skipped.
+ *
+ * @param size The duration of a window, must be positive.
+ * @param timeOf Obtains the time of an element.
+ */
+public fun <T> Sequence<T>.tumblingWindows(
+    size: KtDuration,
+    timeOf: (T) -> Timestamp
+): Sequence<TimeWindow<T>> = slidingWindows(size, size, timeOf)
+
+/**
+ * Groups the elements of this sequence into windows of the given [size] which start
+ * each [step].
+ *
+ * The windows are aligned to the epoch. That is, the start of each window is
+ * a multiple of the [step] since `1970-01-01T00:00:00Z`. If the [step] is less than
+ * the [size], an element belongs to several windows.
+ *
+ * The elements must be ordered by their time. Windows without elements are skipped.
+ *
+ * @param size The duration of a window, must be positive.
+ * @param step The distance between the starts of two consecutive windows, must be positive.
+ * @param timeOf Obtains the time of an element.
+ */
+public fun <T> Sequence<T>.slidingWindows(
+    size: KtDuration,
+    step: KtDuration,
+    timeOf: (T) -> Timestamp
+): Sequence<TimeWindow<T>> {
+    val source = this
+    return sequence {
+        val assembler = WindowAssembler(size, step, timeOf)
+        val ready = mutableListOf<TimeWindow<T>>()
+        source.forEach {
+            assembler.add(it, ready)
+            yieldAll(ready)
+            ready.clear()
+        }
+        assembler.flush(ready)
+        yieldAll(ready)
+    }
+}
+
+/**
+ * Groups the elements of this flow into adjacent non-overlapping windows
+ * of the given [size].
+ *
+ * @see Sequence.tumblingWindows
+ */
+public fun <T> Flow<T>.tumblingWindows(
+    size: KtDuration,
+    timeOf: (T) -> Timestamp
+): Flow<TimeWindow<T>> = slidingWindows(size, size, timeOf)
+
+/**
+ * Groups the elements of this flow into windows of the given [size] which start
+ * each [step].
+ *
+ * A window is emitted as soon as an element after its end arrives, or when this flow
+ * completes.
+ *
+ * @see Sequence.slidingWindows
+ */
+public fun <T> Flow<T>.slidingWindows(
+    size: KtDuration,
+    step: KtDuration,
+    timeOf: (T) -> Timestamp
+): Flow<TimeWindow<T>> {
+    val source = this
+    return flow {
+        val assembler = WindowAssembler(size, step, timeOf)
+        val ready = mutableListOf<TimeWindow<T>>()
+        source.collect {
+            assembler.add(it, ready)
+            ready.forEach { window -> emit(window) }
+            ready.clear()
+        }
+        assembler.flush(ready)
+        ready.forEach { window -> emit(window) }
+    }
+}
+
+/**
+ * Assigns elements ordered by time to the windows aligned to the epoch.
+ *
+ * The times of the elements are kept as epoch nanoseconds in a primitive array
+ * next to the buffered elements.
+ */
+private class WindowAssembler<T>(
+    size: KtDuration,
+    step: KtDuration,
+    private val timeOf: (T) -> Timestamp
+) {
+    private val size: Long = size.inWholeNanoseconds
+    private val step: Long = step.inWholeNanoseconds
+
+    private val items = ArrayDeque<T>()
+    private var times = LongArray(INITIAL_CAPACITY)
+    private var head = 0
+
+    /**
+     * The start of the earliest window which is not emitted yet.
+     */
+    private var windowStart = Long.MIN_VALUE
+
+    init {
+        require(this.size > 0) { "The size of a window must be positive: `$size`." }
+        require(this.step > 0) { "The step of windows must be positive: `$step`." }
+    }
+
+    /**
+     * Adds the element, putting the windows which end before its time to [ready].
+     *
+     * The element is ignored if it does not belong to any window.
+     */
+    fun add(item: T, ready: MutableList<TimeWindow<T>>) {
+        val time = timeOf(item).toPacked().epochNanos
+        if (items.isNotEmpty()) {
+            require(time >= timeAt(items.size - 1)) {
+                "The elements must be ordered by time. Got `${timeOf(item)}` after" +
+                        " `${PackedTimestamp(timeAt(items.size - 1))}`."
+            }
+        }
+        while (items.isNotEmpty() && windowStart + size <= time) {
+            emitWindow(ready)
+        }
+        if (items.isEmpty()) {
+            windowStart = firstWindowStart(time)
+            head = 0
+        }
+        if (time >= windowStart) {
+            append(item, time)
+        }
+        // Otherwise, the element falls between windows, which happens if the step
+        // is greater than the size.
+    }
+
+    /**
+     * Puts all the remaining windows to [ready].
+     */
+    fun flush(ready: MutableList<TimeWindow<T>>) {
+        while (items.isNotEmpty()) {
+            emitWindow(ready)
+        }
+    }
+
+    private fun emitWindow(ready: MutableList<TimeWindow<T>>) {
+        val end = windowStart + size
+        var count = 0
+        while (count < items.size && timeAt(count) < end) {
+            count++
+        }
+        if (count > 0) {
+            val start = PackedTimestamp(windowStart).toTimestamp()
+            val window = TimeWindow(start, PackedTimestamp(end).toTimestamp(), items.take(count))
+            ready.add(window)
+        }
+        windowStart += step
+        while (items.isNotEmpty() && timeAt(0) < windowStart) {
+            items.removeFirst()
+            head++
+        }
+    }
+
+    /**
+     * Obtains the start of the earliest window which contains the given time.
+     */
+    private fun firstWindowStart(time: Long): Long = (floorDiv(time - size, step) + 1) * step
+
+    private fun timeAt(index: Int): Long = times[head + index]
+
+    private fun append(item: T, time: Long) {
+        val used = head + items.size
+        if (used == times.size) {
+            if (head > 0) {
+                times.copyInto(times, 0, head, used)
+                head = 0
+            } else {
+                times = times.copyOf(times.size * 2)
+            }
+        }
+        times[head + items.size] = time
+        items.addLast(item)
+    }
+
+    private companion object {
+        const val INITIAL_CAPACITY = 16
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.kotlin
+
+import java.util.concurrent.ConcurrentHashMap
+import kotlinx.datetime.TimeZone as KtTimeZone
+
+/**
+ * Caches KotlinX time zones by their IDs.
+ *
+ * Resolving a zone via [KtTimeZone.of] parses the ID and loads the rules of the zone
+ * on each call. The number of zone IDs is limited, so the resolved zones are kept
+ * for the lifetime of the class loader.
+ */
+internal object TimeZones {
+
+    private val zones = ConcurrentHashMap<String, KtTimeZone>()
+
+    /**
+     * Obtains the time zone with the given ID.
+     *
+     * @throws kotlinx.datetime.IllegalTimeZoneException if the ID is not valid
+     */
+    fun of(id: String): KtTimeZone = zones.computeIfAbsent(id) { KtTimeZone.of(it) }
+}
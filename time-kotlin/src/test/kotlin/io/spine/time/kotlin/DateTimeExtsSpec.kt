@@ -40,6 +40,7 @@ import io.spine.time.LocalTime
 import io.spine.time.Month as ProtoMonth
 import io.spine.time.YearMonth as ProtoYearMonth
 import io.spine.time.ZoneId
+import io.spine.time.ZonedDateTimes
 import kotlinx.datetime.LocalDate as KtLocalDate
 import kotlinx.datetime.LocalDateTime as KtLocalDateTime
 import kotlinx.datetime.LocalTime as KtLocalTime
@@ -48,6 +49,7 @@ import kotlinx.datetime.TimeZone as KtTimeZone
 import kotlinx.datetime.YearMonth as KtYearMonth
 import kotlin.time.Duration.Companion.nanoseconds
 import kotlin.time.Instant
+import kotlinx.datetime.toLocalDateTime
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
@@ -187,5 +189,47 @@ internal class DateTimeExtsSpec {
             proto.value shouldBe "Europe/Amsterdam"
             proto.toKotlinTimeZone() shouldBe kx
         }
+
+        @Test
+        fun `reuse resolved zones`() {
+            val proto = KtTimeZone.of("Asia/Tokyo").toProtoZoneId()
+            (proto.toKotlinTimeZone() === proto.toKotlinTimeZone()) shouldBe true
+        }
+    }
+
+    @Nested
+    inner class ZonedConversions {
+
+        private val zones = listOf("Europe/Kyiv", "America/New_York", "Asia/Kolkata", "UTC")
+
+        @Test
+        fun `localize a timestamp as KotlinX does`() {
+            val start = Instant.parse("2024-03-09T00:00:00.123456789Z")
+            zones.forEach { id ->
+                val zone = KtTimeZone.of(id)
+                val protoZone = zone.toProtoZoneId()
+                (0..200).forEach { hour ->
+                    val instant = Instant.fromEpochSeconds(start.epochSeconds + hour * 3_571L,
+                        start.nanosecondsOfSecond)
+                    val timestamp = instant.toTimestamp()
+                    timestamp.toKotlinLocalDateTime(protoZone) shouldBe
+                            instant.toLocalDateTime(zone)
+                }
+            }
+        }
+
+        @Test
+        fun `obtain the instant of a zoned date-time`() {
+            val instant = Instant.parse("2024-10-27T00:30:00.5Z")
+            zones.forEach { id ->
+                val zoned = ZonedDateTimes.of(
+                    java.time.ZonedDateTime.ofInstant(
+                        java.time.Instant.parse(instant.toString()),
+                        java.time.ZoneId.of(id)
+                    )
+                )
+                zoned.toKotlinInstant() shouldBe instant
+            }
+        }
     }
 }
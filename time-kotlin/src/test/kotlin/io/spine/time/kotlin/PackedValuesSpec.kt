@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+@file:OptIn(kotlin.time.ExperimentalTime::class)
+
+package io.spine.time.kotlin
+
+import com.google.protobuf.util.Timestamps
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.shouldBe
+import io.spine.time.LocalDates
+import io.spine.time.LocalTimes
+import kotlin.time.Duration.Companion.hours
+import kotlin.time.Duration.Companion.milliseconds
+import kotlin.time.Duration.Companion.minutes
+import kotlinx.datetime.LocalDate as KtLocalDate
+import kotlinx.datetime.LocalTime as KtLocalTime
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+
+@DisplayName("Packed time values should")
+internal class PackedValuesSpec {
+
+    @Nested
+    inner class `'PackedLocalDate'` {
+
+        private val leapDay = LocalDates.parse("2024-02-29")
+
+        @Test
+        fun `convert to and from Protobuf`() {
+            val packed = leapDay.toPacked()
+            packed.epochDay shouldBe 19_782
+            packed.toProtoLocalDate() shouldBe leapDay
+        }
+
+        @Test
+        fun `convert to and from KotlinX`() {
+            val date = KtLocalDate(1969, 12, 31)
+            date.toPacked().epochDay shouldBe -1
+            date.toPacked().toKotlinLocalDate() shouldBe date
+        }
+
+        @Test
+        fun `add and subtract days`() {
+            var packed = leapDay.toPacked()
+            (packed + 1).toProtoLocalDate() shouldBe LocalDates.parse("2024-03-01")
+            (packed - 60).toProtoLocalDate() shouldBe LocalDates.parse("2023-12-31")
+            packed++
+            (packed - leapDay.toPacked()) shouldBe 1
+        }
+
+        @Test
+        fun `compare dates`() {
+            val packed = leapDay.toPacked()
+            (packed < packed + 1) shouldBe true
+            (packed > packed - 1) shouldBe true
+        }
+    }
+
+    @Nested
+    inner class `'PackedLocalTime'` {
+
+        private val time = LocalTimes.parse("23:30:15.5")
+
+        @Test
+        fun `convert to and from Protobuf`() {
+            val packed = time.toPacked()
+            packed.hour shouldBe 23
+            packed.minute shouldBe 30
+            packed.second shouldBe 15
+            packed.nano shouldBe 500_000_000
+            packed.toProtoLocalTime() shouldBe time
+        }
+
+        @Test
+        fun `convert to and from KotlinX`() {
+            val ktTime = KtLocalTime(7, 5, 3, 1)
+            ktTime.toPacked().toKotlinLocalTime() shouldBe ktTime
+        }
+
+        @Test
+        fun `wrap around midnight`() {
+            val packed = time.toPacked()
+            (packed + 1.hours).toProtoLocalTime() shouldBe LocalTimes.parse("00:30:15.5")
+            (packed - 24.hours) shouldBe packed
+            (packed + 30.minutes - packed) shouldBe (-23).hours - 30.minutes
+        }
+
+        @Test
+        fun `reject out of range values`() {
+            shouldThrow<IllegalArgumentException> {
+                PackedLocalTime(-1)
+            }
+            shouldThrow<IllegalArgumentException> {
+                PackedLocalTime(24.hours.inWholeNanoseconds)
+            }
+        }
+    }
+
+    @Nested
+    inner class `'PackedTimestamp'` {
+
+        private val timestamp = Timestamps.parse("1969-12-31T23:59:59.250Z")
+
+        @Test
+        fun `convert to and from Protobuf`() {
+            val packed = timestamp.toPacked()
+            packed.epochNanos shouldBe -750_000_000L
+            packed.seconds shouldBe -1L
+            packed.nanos shouldBe 250_000_000
+            packed.toTimestamp() shouldBe timestamp
+        }
+
+        @Test
+        fun `add and subtract durations`() {
+            val packed = timestamp.toPacked()
+            val later = packed + 1_500.milliseconds
+            later.toTimestamp() shouldBe Timestamps.parse("1970-01-01T00:00:00.750Z")
+            (later - 1_500.milliseconds) shouldBe packed
+            (later - packed) shouldBe 1_500.milliseconds
+            (packed < later) shouldBe true
+        }
+
+        @Test
+        fun `reject timestamps out of range`() {
+            shouldThrow<ArithmeticException> {
+                Timestamps.parse("2263-01-01T00:00:00Z").toPacked()
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.kotlin
+
+import com.google.protobuf.util.Durations
+import com.google.protobuf.util.Timestamps
+import io.kotest.matchers.shouldBe
+import io.spine.base.Time
+import io.spine.time.LocalDates
+import io.spine.time.ZoneIds
+import kotlin.time.Duration.Companion.milliseconds
+import kotlin.time.Duration.Companion.seconds
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.test.TestScope
+import kotlinx.coroutines.test.currentTime
+import kotlinx.coroutines.test.runTest
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@OptIn(ExperimentalCoroutinesApi::class)
+@DisplayName("Time series builders should")
+internal class TimeSeriesSpec {
+
+    private val start = Timestamps.parse("2024-03-30T00:00:00Z")
+
+    @AfterEach
+    fun resetProvider() {
+        Time.resetProvider()
+    }
+
+    @Test
+    fun `obtain a sequence of timestamps`() {
+        val ticks = timestampSequence(1_500.milliseconds, start).take(3).toList()
+        ticks shouldBe listOf(
+            start,
+            Timestamps.parse("2024-03-30T00:00:01.500Z"),
+            Timestamps.parse("2024-03-30T00:00:03Z")
+        )
+    }
+
+    @Test
+    fun `emit ticks reading the configured provider`() = runTest {
+        useVirtualTime()
+        val ticks = timestampTicks(1.seconds).take(3).toList()
+        ticks shouldBe listOf(
+            start,
+            Timestamps.parse("2024-03-30T00:00:01Z"),
+            Timestamps.parse("2024-03-30T00:00:02Z")
+        )
+        currentTime shouldBe 2_000L
+    }
+
+    @Test
+    fun `emit ticks once per period with a frozen provider`() = runTest {
+        Time.setProvider { start }
+        val ticks = timestampTicks(1.seconds).take(3).toList()
+        ticks shouldBe listOf(
+            start,
+            Timestamps.parse("2024-03-30T00:00:01Z"),
+            Timestamps.parse("2024-03-30T00:00:02Z")
+        )
+        currentTime shouldBe 2_000L
+    }
+
+    @Test
+    fun `obtain the starts of days in a zone`() {
+        val days = calendarSequence(
+            LocalDates.parse("2024-03-30"),
+            LocalDates.parse("2024-04-01"),
+            ZoneIds.of("Europe/Kyiv")
+        ).toList()
+        days shouldBe listOf(
+            Timestamps.parse("2024-03-29T22:00:00Z"),
+            Timestamps.parse("2024-03-30T22:00:00Z"),
+        )
+    }
+
+    @Test
+    fun `emit the starts of days waiting for them`() = runTest {
+        useVirtualTime()
+        val days = calendarFlow(
+            LocalDates.parse("2024-03-30"),
+            LocalDates.parse("2024-04-02"),
+            ZoneIds.of("UTC")
+        ).toList()
+        days.size shouldBe 3
+        currentTime shouldBe 2.days()
+    }
+
+    @Test
+    fun `emit the starts of days with a frozen provider`() = runTest {
+        Time.setProvider { start }
+        val days = calendarFlow(
+            LocalDates.parse("2024-03-30"),
+            LocalDates.parse("2024-04-02"),
+            ZoneIds.of("UTC")
+        ).toList()
+        days.size shouldBe 3
+        currentTime shouldBe 2.days()
+    }
+
+    /**
+     * Makes the [Time] provider follow the virtual time of this test scope.
+     */
+    private fun TestScope.useVirtualTime() {
+        val scheduler = testScheduler
+        Time.setProvider {
+            Timestamps.add(start, Durations.fromMillis(scheduler.currentTime))
+        }
+    }
+
+    private fun Int.days(): Long = this * 24L * 60 * 60 * 1000
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.kotlin
+
+import com.google.protobuf.Timestamp
+import com.google.protobuf.util.Timestamps
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.shouldBe
+import kotlin.time.Duration.Companion.seconds
+import kotlinx.coroutines.flow.asFlow
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.test.runTest
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("Time window operators should")
+internal class TimeWindowsSpec {
+
+    private val events = listOf(
+        event("a", "2024-01-01T00:00:00.5Z"),
+        event("b", "2024-01-01T00:00:09Z"),
+        event("c", "2024-01-01T00:00:10Z"),
+        event("d", "2024-01-01T00:00:35Z"),
+    )
+
+    @Test
+    fun `group elements into tumbling windows skipping empty ones`() {
+        val windows = events.asSequence()
+            .tumblingWindows(10.seconds) { it.time }
+            .toList()
+        windows.map { it.items.names() } shouldBe listOf("ab", "c", "d")
+        windows[0].start shouldBe time("2024-01-01T00:00:00Z")
+        windows[0].end shouldBe time("2024-01-01T00:00:10Z")
+        windows[2].start shouldBe time("2024-01-01T00:00:30Z")
+    }
+
+    @Test
+    fun `group elements into sliding windows`() {
+        val windows = events.asSequence()
+            .slidingWindows(10.seconds, 5.seconds) { it.time }
+            .toList()
+        windows.map { it.start to it.items.names() } shouldBe listOf(
+            time("2023-12-31T23:59:55Z") to "a",
+            time("2024-01-01T00:00:00Z") to "ab",
+            time("2024-01-01T00:00:05Z") to "bc",
+            time("2024-01-01T00:00:10Z") to "c",
+            time("2024-01-01T00:00:30Z") to "d",
+            time("2024-01-01T00:00:35Z") to "d",
+        )
+    }
+
+    @Test
+    fun `skip elements between hopping windows`() {
+        val windows = events.asSequence()
+            .slidingWindows(5.seconds, 10.seconds) { it.time }
+            .toList()
+        windows.map { it.items.names() } shouldBe listOf("a", "c")
+    }
+
+    @Test
+    fun `group elements of a flow`() = runTest {
+        val windows = events.asFlow()
+            .tumblingWindows(10.seconds) { it.time }
+            .toList()
+        windows.map { it.items.names() } shouldBe listOf("ab", "c", "d")
+    }
+
+    @Test
+    fun `reject unordered elements`() {
+        shouldThrow<IllegalArgumentException> {
+            events.reversed()
+                .asSequence()
+                .tumblingWindows(10.seconds) { it.time }
+                .toList()
+        }
+    }
+
+    private data class Event(val name: String, val time: Timestamp)
+
+    private fun event(name: String, time: String) = Event(name, time(time))
+
+    private fun time(value: String): Timestamp = Timestamps.parse(value)
+
+    private fun List<Event>.names(): String = joinToString("") { it.name }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.scheduler
+
+import com.google.protobuf.Timestamp
+import com.google.protobuf.util.Timestamps
+
+/**
+ * A handle of a payload scheduled in a [TimerWheel].
+ *
+ * The handle also serves as the node of the list of timeouts in a slot of the wheel.
+ * This allows [cancelling][cancel] a timeout in constant time.
+ *
+ * @param T The type of the payload.
+ * @property payload The scheduled value.
+ * @property deadline The point in time after which the timeout expires.
+ */
+public class Timeout<T : Any> internal constructor(
+    private val wheel: TimerWheel<T>,
+    public val payload: T,
+    public val deadline: Timestamp,
+    internal val tick: Long
+) {
+
+    internal var prev: Timeout<T>? = null
+    internal var next: Timeout<T>? = null
+
+    /**
+     * The index of the slot holding this timeout, or [DETACHED].
+     */
+    internal var slot: Int = DETACHED
+
+    @Volatile
+    private var state: Int = PENDING
+
+    /**
+     * Tells if the timeout was passed to the [ExpiryListener] of the wheel.
+     */
+    public val isExpired: Boolean
+        get() = state == EXPIRED
+
+    /**
+     * Tells if the timeout was cancelled before it expired.
+     */
+    public val isCancelled: Boolean
+        get() = state == CANCELLED
+
+    /**
+     * Removes the timeout from the wheel.
+     *
+     * @return `true` if the timeout was pending and is now cancelled,
+     *   `false` if it already expired or was cancelled earlier.
+     */
+    public fun cancel(): Boolean = wheel.cancel(this)
+
+    internal fun expire() {
+        state = EXPIRED
+    }
+
+    internal fun markCancelled() {
+        state = CANCELLED
+    }
+
+    override fun toString(): String =
+        "Timeout[payload=$payload, deadline=${Timestamps.toString(deadline)}]"
+
+    internal companion object {
+        internal const val DETACHED = -1
+        private const val PENDING = 0
+        private const val EXPIRED = 1
+        private const val CANCELLED = 2
+    }
+}
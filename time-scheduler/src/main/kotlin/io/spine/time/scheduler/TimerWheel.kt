@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.scheduler
+
+import com.google.protobuf.Duration
+import com.google.protobuf.Timestamp
+import com.google.protobuf.util.Durations
+import com.google.protobuf.util.Timestamps
+import io.spine.base.Time
+import io.spine.time.Temporal
+import java.lang.Long.numberOfLeadingZeros
+import java.lang.Long.numberOfTrailingZeros
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * A hierarchical timer wheel which expires timeouts by the time
+ * of the [provider][Time.Provider] configured in the [Time] class.
+ *
+ * The wheel does not run a thread of its own. Instead, the owner of the wheel calls
+ * [advance], for example, from a single periodic task of a `ScheduledExecutorService`.
+ * Each call reads [Time.currentTime] and passes all the timeouts with the deadlines
+ * up to the current time to the [listener] in one batch. As the time is read via the provider,
+ * tests may move the wheel forward by changing the provider, for example, with
+ * `BackToTheFuture`.
+ *
+ * ## Structure
+ *
+ * The time is measured in ticks of the wheel, counted from the creation of the wheel.
+ * Deadlines are rounded up to a whole tick, so that a timeout never expires earlier
+ * than its deadline.
+ *
+ * The wheel has [LEVELS] levels of [SLOTS] slots. A slot of the level `k` spans
+ * `SLOTS^k` ticks. A timeout is placed to the level of the most significant digit in which
+ * its tick differs from the current tick of the wheel. When the wheel reaches a slot of
+ * an upper level, the timeouts of the slot are redistributed to the lower levels.
+ * Eleven levels of 64 slots cover the whole range of `long` ticks, so the wheel needs
+ * no overflow list even for the most distant deadlines.
+ *
+ * Scheduling and cancelling a timeout take constant time, as a slot is an intrusive
+ * doubly-linked list of [Timeout]s. The wheel keeps a bitmap of non-empty slots for each level.
+ * This allows jumping over the empty slots, so moving the time far forward does not
+ * iterate over the ticks in between.
+ *
+ * ## Thread safety
+ *
+ * The wheel is safe for use from multiple threads. The state of the wheel is guarded by
+ * a lock, which is held for constant time when scheduling or cancelling. The listener is
+ * called outside the lock.
+ *
+ * @param T The type of the scheduled payloads.
+ * @property listener Receives the batches of the expired timeouts.
+ * @param tick The resolution of the wheel, one millisecond by default.
+ *   Must be positive.
+ */
+public class TimerWheel<T : Any> @JvmOverloads constructor(
+    private val listener: ExpiryListener<T>,
+    tick: Duration = Durations.fromMillis(1)
+) {
+
+    private val tickNanos: Long
+    private val origin: Timestamp = Time.currentTime()
+    private val lock = ReentrantLock()
+
+    /**
+     * Heads of the lists of timeouts in the slots, followed by
+     * the head of the [ready][READY] list.
+     */
+    private val slots = arrayOfNulls<Timeout<T>>(READY + 1)
+
+    /**
+     * Bitmaps of non-empty slots, one per level.
+     */
+    private val occupied = LongArray(LEVELS)
+
+    /**
+     * The last tick reached by the wheel.
+     *
+     * The tick never decreases, even if the time provider goes back in time.
+     */
+    private var current = 0L
+    private var pending = 0
+
+    init {
+        require(Durations.isPositive(tick)) {
+            "The tick of the wheel must be positive: `${Durations.toString(tick)}`."
+        }
+        tickNanos = Durations.toNanos(tick)
+    }
+
+    /**
+     * The number of the timeouts which neither expired nor were cancelled.
+     */
+    public val size: Int
+        get() = lock.withLock { pending }
+
+    /**
+     * Schedules the given payload to expire at the [deadline].
+     *
+     * If the deadline is already in the past, the timeout expires
+     * upon the next [advance].
+     */
+    public fun schedule(deadline: Timestamp, payload: T): Timeout<T> {
+        val timeout = Timeout(this, payload, deadline, deadlineTick(deadline))
+        lock.withLock {
+            place(timeout)
+            pending++
+        }
+        return timeout
+    }
+
+    /**
+     * Schedules the given payload to expire at the point in time of the [deadline].
+     */
+    public fun schedule(deadline: Temporal<*>, payload: T): Timeout<T> =
+        schedule(deadline.toTimestamp(), payload)
+
+    /**
+     * Schedules the given payload to expire after the [delay]
+     * from the [current time][Time.currentTime].
+     */
+    public fun scheduleAfter(delay: Duration, payload: T): Timeout<T> =
+        schedule(Timestamps.add(Time.currentTime(), delay), payload)
+
+    /**
+     * Moves the wheel to the [current time][Time.currentTime] and passes the timeouts
+     * expired by this time to the [listener].
+     *
+     * @return the number of the expired timeouts.
+     */
+    public fun advance(): Int {
+        val now = currentTick(Time.currentTime())
+        val expired = ArrayList<Timeout<T>>()
+        lock.withLock {
+            redistribute(READY, expired)
+            while (true) {
+                val level = occupied.indexOfFirst { it != 0L }
+                if (level < 0) {
+                    break
+                }
+                val slot = numberOfTrailingZeros(occupied[level])
+                val next = slotStart(level, slot)
+                if (next > now) {
+                    break
+                }
+                current = next
+                redistribute(level * SLOTS + slot, expired)
+            }
+            if (now > current) {
+                current = now
+            }
+            pending -= expired.size
+        }
+        if (expired.isNotEmpty()) {
+            listener.onExpired(expired)
+        }
+        return expired.size
+    }
+
+    /**
+     * Removes the given timeout from its slot.
+     */
+    internal fun cancel(timeout: Timeout<T>): Boolean = lock.withLock {
+        if (timeout.slot == Timeout.DETACHED) {
+            return false
+        }
+        unlink(timeout)
+        timeout.markCancelled()
+        pending--
+        true
+    }
+
+    /**
+     * Obtains the first tick of the given slot in the current round of the level.
+     *
+     * The digits of the current tick above the level are kept, the digit of the level
+     * is replaced with the slot, and the lower digits are set to zero.
+     */
+    private fun slotStart(level: Int, slot: Int): Long {
+        val shift = level * BITS
+        val upperShift = shift + BITS
+        val upper = if (upperShift >= Long.SIZE_BITS) 0L else current ushr upperShift shl upperShift
+        return upper or (slot.toLong() shl shift)
+    }
+
+    /**
+     * Takes all the timeouts from the given slot and either expires them
+     * or places them to the lower levels.
+     */
+    private fun redistribute(index: Int, expired: MutableList<Timeout<T>>) {
+        var timeout = slots[index]
+        if (timeout == null) {
+            return
+        }
+        slots[index] = null
+        if (index != READY) {
+            occupied[index / SLOTS] = occupied[index / SLOTS] and (1L shl index % SLOTS).inv()
+        }
+        while (timeout != null) {
+            val following = timeout.next
+            timeout.prev = null
+            timeout.next = null
+            timeout.slot = Timeout.DETACHED
+            if (timeout.tick <= current) {
+                timeout.expire()
+                expired.add(timeout)
+            } else {
+                place(timeout)
+            }
+            timeout = following
+        }
+    }
+
+    /**
+     * Puts the timeout to the slot matching its tick relative to the current tick.
+     */
+    private fun place(timeout: Timeout<T>) {
+        val tick = timeout.tick
+        if (tick <= current) {
+            link(timeout, READY)
+            return
+        }
+        val highestBit = Long.SIZE_BITS - 1 - numberOfLeadingZeros(tick xor current)
+        val level = highestBit / BITS
+        val slot = (tick ushr level * BITS).toInt() and MASK
+        link(timeout, level * SLOTS + slot)
+        occupied[level] = occupied[level] or (1L shl slot)
+    }
+
+    private fun link(timeout: Timeout<T>, index: Int) {
+        val head = slots[index]
+        timeout.next = head
+        head?.prev = timeout
+        timeout.slot = index
+        slots[index] = timeout
+    }
+
+    private fun unlink(timeout: Timeout<T>) {
+        val index = timeout.slot
+        val prev = timeout.prev
+        val next = timeout.next
+        if (prev == null) {
+            slots[index] = next
+            if (next == null && index != READY) {
+                occupied[index / SLOTS] = occupied[index / SLOTS] and (1L shl index % SLOTS).inv()
+            }
+        } else {
+            prev.next = next
+        }
+        next?.prev = prev
+        timeout.prev = null
+        timeout.next = null
+        timeout.slot = Timeout.DETACHED
+    }
+
+    /**
+     * Obtains the tick containing the given time.
+     */
+    private fun currentTick(time: Timestamp): Long =
+        Math.floorDiv(nanosSinceOrigin(time), tickNanos)
+
+    /**
+     * Obtains the first tick which starts at or after the given deadline.
+     */
+    private fun deadlineTick(deadline: Timestamp): Long =
+        -Math.floorDiv(-nanosSinceOrigin(deadline), tickNanos)
+
+    /**
+     * Obtains the nanoseconds passed from the creation of the wheel to the given time.
+     *
+     * The result saturates for the times too far from the creation of the wheel
+     * to be represented in nanoseconds.
+     */
+    private fun nanosSinceOrigin(time: Timestamp): Long {
+        val seconds = time.seconds - origin.seconds
+        return when {
+            seconds > MAX_SECONDS -> Long.MAX_VALUE
+            seconds < -MAX_SECONDS -> -Long.MAX_VALUE
+            else -> seconds * NANOS_PER_SECOND + (time.nanos - origin.nanos)
+        }
+    }
+
+    public companion object {
+
+        /**
+         * The number of bits of a tick handled by one level of the wheel.
+         */
+        private const val BITS = 6
+
+        /**
+         * The number of slots in each level of the wheel.
+         */
+        public const val SLOTS: Int = 1 shl BITS
+
+        /**
+         * The number of levels of the wheel.
+         */
+        public const val LEVELS: Int = (Long.SIZE_BITS + BITS - 1) / BITS
+
+        private const val MASK = SLOTS - 1
+
+        /**
+         * The index of the list of timeouts due upon the next advance.
+         */
+        private const val READY = LEVELS * SLOTS
+
+        private const val NANOS_PER_SECOND = 1_000_000_000L
+        private const val MAX_SECONDS = Long.MAX_VALUE / NANOS_PER_SECOND - 1
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.scheduler
+
+import com.google.protobuf.Timestamp
+import com.google.protobuf.util.Durations
+import com.google.protobuf.util.Timestamps
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.shouldBe
+import io.spine.base.Time
+import io.spine.testing.time.BackToTheFuture
+import io.spine.time.ZonedDateTimes
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZonedDateTime
+import kotlin.random.Random
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`TimerWheel` should")
+internal class TimerWheelSpec {
+
+    private val batches = mutableListOf<List<String>>()
+    private val listener = ExpiryListener<String> { timeouts ->
+        batches.add(timeouts.map { it.payload })
+    }
+
+    @AfterEach
+    fun resetProvider() {
+        Time.resetProvider()
+    }
+
+    @Test
+    fun `expire timeouts when the provider moves forward`() {
+        val provider = BackToTheFuture()
+        Time.setProvider(provider)
+        val wheel = TimerWheel(listener, Durations.fromSeconds(1))
+        val start = Time.currentTime()
+        wheel.schedule(start.plusHours(1), "first")
+        wheel.schedule(start.plusHours(2), "second")
+        wheel.schedule(start.plusHours(2), "third")
+
+        wheel.advance() shouldBe 0
+        provider.forward(1)
+        wheel.advance() shouldBe 1
+        provider.forward(1)
+        wheel.advance() shouldBe 2
+
+        batches.map { it.toSet() } shouldBe listOf(setOf("first"), setOf("second", "third"))
+        wheel.size shouldBe 0
+    }
+
+    @Test
+    fun `not expire timeouts before their deadlines`() {
+        var now = Timestamps.parse("2024-01-01T00:00:00Z")
+        Time.setProvider { now }
+        val wheel = TimerWheel(listener, Durations.fromMillis(10))
+        wheel.schedule(Timestamps.add(now, Durations.fromMillis(15)), "due")
+
+        now = Timestamps.add(now, Durations.fromMillis(14))
+        wheel.advance() shouldBe 0
+        now = Timestamps.add(now, Durations.fromMillis(1))
+        wheel.advance() shouldBe 0
+        now = Timestamps.add(now, Durations.fromMillis(5))
+        wheel.advance() shouldBe 1
+    }
+
+    @Test
+    fun `accept temporal deadlines`() {
+        val provider = BackToTheFuture()
+        Time.setProvider(provider)
+        val wheel = TimerWheel(listener)
+        val instant = Time.currentTime().plusHours(3)
+        val deadline = ZonedDateTimes.of(
+            ZonedDateTime.ofInstant(
+                Instant.ofEpochSecond(instant.seconds, instant.nanos.toLong()),
+                ZoneId.of("Europe/Kyiv")
+            )
+        )
+        val timeout = wheel.schedule(deadline, "zoned")
+        timeout.deadline shouldBe deadline.toTimestamp()
+
+        provider.forward(3)
+        wheel.advance() shouldBe 1
+        timeout.isExpired shouldBe true
+    }
+
+    @Test
+    fun `expire overdue timeouts upon the next advance`() {
+        Time.setProvider(BackToTheFuture())
+        val wheel = TimerWheel(listener)
+        wheel.schedule(Time.currentTime().plusHours(-1), "overdue")
+        wheel.advance() shouldBe 1
+        batches shouldBe listOf(listOf("overdue"))
+    }
+
+    @Test
+    fun `cancel timeouts`() {
+        val provider = BackToTheFuture()
+        Time.setProvider(provider)
+        val wheel = TimerWheel(listener)
+        val cancelled = wheel.scheduleAfter(Durations.fromHours(1), "cancelled")
+        val kept = wheel.scheduleAfter(Durations.fromHours(1), "kept")
+        wheel.size shouldBe 2
+
+        cancelled.cancel() shouldBe true
+        cancelled.cancel() shouldBe false
+        cancelled.isCancelled shouldBe true
+        wheel.size shouldBe 1
+
+        provider.forward(1)
+        wheel.advance() shouldBe 1
+        batches shouldBe listOf(listOf("kept"))
+        kept.cancel() shouldBe false
+        kept.isCancelled shouldBe false
+    }
+
+    @Test
+    fun `not go back when the provider does`() {
+        val provider = BackToTheFuture()
+        Time.setProvider(provider)
+        val wheel = TimerWheel(listener)
+        wheel.scheduleAfter(Durations.fromHours(2), "later")
+
+        provider.backward(5)
+        wheel.advance() shouldBe 0
+        provider.forward(7)
+        wheel.advance() shouldBe 1
+    }
+
+    @Test
+    fun `jump over distant deadlines`() {
+        val provider = BackToTheFuture()
+        Time.setProvider(provider)
+        val wheel = TimerWheel(listener, Durations.fromNanos(1))
+        wheel.scheduleAfter(Durations.fromHours(BackToTheFuture.THIRTY_YEARS_IN_HOURS), "far")
+
+        provider.forward(BackToTheFuture.THIRTY_YEARS_IN_HOURS - 1)
+        wheel.advance() shouldBe 0
+        provider.forward(1)
+        wheel.advance() shouldBe 1
+    }
+
+    @Test
+    fun `expire the same timeouts as a full scan`() {
+        var now = Timestamps.parse("2024-01-01T00:00:00Z")
+        Time.setProvider { now }
+        val expired = mutableListOf<Timeout<String>>()
+        val wheel = TimerWheel<String>({ expired.addAll(it) }, Durations.fromMillis(1))
+        val pending = mutableListOf<Timeout<String>>()
+        val random = Random(42)
+        repeat(STEPS) { step ->
+            repeat(random.nextInt(5)) {
+                val delay = Durations.fromMillis(random.nextLong(-10, 100_000_000))
+                pending.add(wheel.schedule(Timestamps.add(now, delay), "$step-$it"))
+            }
+            if (random.nextInt(10) == 0 && pending.isNotEmpty()) {
+                pending.removeAt(random.nextInt(pending.size)).cancel() shouldBe true
+            }
+            now = Timestamps.add(now, Durations.fromMillis(random.nextLong(0, 1_000_000)))
+            expired.clear()
+            wheel.advance()
+
+            val due = pending.filter { Timestamps.compare(it.deadline, now) <= 0 }
+            expired.toSet() shouldBe due.toSet()
+            pending.removeAll(due)
+            wheel.size shouldBe pending.size
+        }
+    }
+
+    @Test
+    fun `reject a non-positive tick`() {
+        shouldThrow<IllegalArgumentException> {
+            TimerWheel(listener, Durations.ZERO)
+        }
+    }
+
+    private companion object {
+        const val STEPS = 1_000
+    }
+}
+
+private fun Timestamp.plusHours(hours: Long): Timestamp =
+    Timestamps.add(this, Durations.fromHours(hours))
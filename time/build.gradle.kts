@@ -58,3 +58,40 @@ configurations {
     }
     excludeProtobufLite()
 }
+
+/*
+ * The tests which run with a `TimeListener` installed.
+ *
+ * `Instrumentation` discovers the listeners once per JVM. Therefore, the listener is declared
+ * only in the resources of this source set, and its tests run in a JVM of their own,
+ * keeping the main test suite free of instrumentation.
+ */
+val instrumentationTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations {
+    named(instrumentationTest.implementationConfigurationName) {
+        extendsFrom(testImplementation.get())
+    }
+    named(instrumentationTest.runtimeOnlyConfigurationName) {
+        extendsFrom(testRuntimeOnly.get())
+    }
+}
+
+tasks {
+    val instrumentationTestTask = register<Test>("instrumentationTest") {
+        description = "Executes JUnit tests with a `TimeListener` installed."
+        group = "Verification"
+        testClassesDirs = instrumentationTest.output.classesDirs
+        classpath = instrumentationTest.runtimeClasspath
+        useJUnitPlatform {
+            includeEngines("junit-jupiter")
+        }
+        shouldRunAfter(test)
+    }
+    check {
+        dependsOn(instrumentationTestTask)
+    }
+}
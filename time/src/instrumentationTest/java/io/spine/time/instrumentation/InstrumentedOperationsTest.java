@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.instrumentation;
+
+import io.spine.time.LocalDate;
+import io.spine.time.LocalDates;
+import io.spine.time.ZoneId;
+import io.spine.time.ZoneIds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.time.instrumentation.RecordingListener.completed;
+import static io.spine.time.instrumentation.RecordingListener.failed;
+import static io.spine.time.instrumentation.TimeOperation.FORMAT;
+import static io.spine.time.instrumentation.TimeOperation.FROM_MESSAGE;
+import static io.spine.time.instrumentation.TimeOperation.PARSE;
+import static io.spine.time.instrumentation.TimeOperation.TO_MESSAGE;
+import static io.spine.time.instrumentation.TimeOperation.ZONE_LOOKUP;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the instrumentation with {@link RecordingListener} installed via
+ * {@code META-INF/services} of the {@code instrumentationTest} source set.
+ */
+@DisplayName("Instrumented operations should")
+class InstrumentedOperationsTest {
+
+    private RecordingListener listener;
+
+    @BeforeEach
+    void clearRecords() {
+        listener = RecordingListener.installed();
+        listener.clear();
+    }
+
+    @Test
+    @DisplayName("enable instrumentation when a listener is installed")
+    void enabled() {
+        assertThat(Instrumentation.enabled())
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("not activate the JFR listener unless asked")
+    void inactiveJfr() {
+        assertThat(Instrumentation.listener(JfrTimeListener.class))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("report parsing and formatting")
+    void parseAndFormat() {
+        var date = LocalDates.parse("2024-02-29");
+        var unused = LocalDates.toString(date);
+
+        assertThat(listener.recorded())
+                .containsAtLeast(completed(PARSE, LocalDate.class),
+                                 completed(FORMAT, LocalDate.class))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("report failed parsing")
+    void parseFailure() {
+        assertThrows(IllegalArgumentException.class, () -> LocalDates.parse("2024-02-30"));
+
+        var recorded = listener.recorded();
+        assertThat(recorded)
+                .contains(failed(PARSE, LocalDate.class));
+        assertThat(recorded)
+                .doesNotContain(completed(PARSE, LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("report conversions under the type of the message")
+    void conversions() {
+        var date = LocalDates.of(java.time.LocalDate.of(2024, 2, 29));
+        var unused = LocalDates.toJavaTime(date);
+
+        assertThat(listener.recorded())
+                .containsExactly(completed(TO_MESSAGE, LocalDate.class),
+                                 completed(FROM_MESSAGE, LocalDate.class))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("report zone lookups")
+    void zoneLookups() {
+        var unused = ZoneIds.of("Europe/Kyiv");
+
+        assertThat(listener.recorded())
+                .contains(completed(ZONE_LOOKUP, ZoneId.class));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.instrumentation;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A listener owned by the instrumentation tests.
+ *
+ * <p>The listener is installed via {@code META-INF/services} of the {@code instrumentationTest}
+ * source set. It records the operations per thread, so a test sees only the operations
+ * it has performed, even if other tests run concurrently.
+ */
+public final class RecordingListener implements TimeListener {
+
+    private static final ThreadLocal<List<Operation>> operations =
+            ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * Obtains the instance discovered by {@link Instrumentation}.
+     */
+    static RecordingListener installed() {
+        return Instrumentation.listener(RecordingListener.class)
+                              .orElseThrow();
+    }
+
+    @Override
+    public void completed(TimeOperation operation, Class<?> type, long nanos) {
+        operations.get()
+                  .add(new Operation(operation, type, false));
+    }
+
+    @Override
+    public void failed(TimeOperation operation, Class<?> type, long nanos,
+                       RuntimeException error) {
+        operations.get()
+                  .add(new Operation(operation, type, true));
+    }
+
+    /**
+     * Forgets the operations recorded in the current thread.
+     */
+    void clear() {
+        operations.get()
+                  .clear();
+    }
+
+    /**
+     * Obtains the operations recorded in the current thread since the last {@link #clear()}.
+     */
+    ImmutableList<Operation> recorded() {
+        return ImmutableList.copyOf(operations.get());
+    }
+
+    /**
+     * Creates the record of a successfully completed operation.
+     */
+    static Operation completed(TimeOperation operation, Class<?> type) {
+        return new Operation(operation, type, false);
+    }
+
+    /**
+     * Creates the record of an operation which threw an exception.
+     */
+    static Operation failed(TimeOperation operation, Class<?> type) {
+        return new Operation(operation, type, true);
+    }
+
+    /**
+     * A reported operation.
+     */
+    static final class Operation {
+
+        private final TimeOperation operation;
+        private final Class<?> type;
+        private final boolean failed;
+
+        private Operation(TimeOperation operation, Class<?> type, boolean failed) {
+            this.operation = operation;
+            this.type = type;
+            this.failed = failed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Operation)) {
+                return false;
+            }
+            var other = (Operation) o;
+            return operation == other.operation
+                    && type.equals(other.type)
+                    && failed == other.failed;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operation, type, failed);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                              .add("operation", operation)
+                              .add("type", type.getSimpleName())
+                              .add("failed", failed)
+                              .toString();
+        }
+    }
+}
@@ -26,11 +26,18 @@
 
 package io.spine.time;
 
+import io.spine.time.instrumentation.Instrumentation;
 import io.spine.util.SerializableConverter;
 
+import static io.spine.time.instrumentation.TimeOperation.FROM_MESSAGE;
+import static io.spine.time.instrumentation.TimeOperation.TO_MESSAGE;
+
 /**
  * Abstract base for converters from Java Time.
  *
+ * <p>Conversions are reported to the {@link Instrumentation} under the type
+ * of the message.
+ *
  * @param <T> a Java Time type
  * @param <P> either a Protobuf {@code Message} or {@code ProtocolMessageEnum}
  */
@@ -45,6 +52,32 @@ abstract class AbstractConverter<T, P> extends SerializableConverter<T, P> {
         this.identify = identity;
     }
 
+    /**
+     * Converts the Java Time value to the message.
+     */
+    protected abstract P toMessage(T value);
+
+    /**
+     * Converts the message to the Java Time value.
+     */
+    protected abstract T fromMessage(P value);
+
+    @Override
+    protected final P doForward(T value) {
+        var start = Instrumentation.start();
+        var result = toMessage(value);
+        Instrumentation.completed(TO_MESSAGE, result.getClass(), start);
+        return result;
+    }
+
+    @Override
+    protected final T doBackward(P value) {
+        var start = Instrumentation.start();
+        var result = fromMessage(value);
+        Instrumentation.completed(FROM_MESSAGE, value.getClass(), start);
+        return result;
+    }
+
     /**
      * Returns converter identity.
      */
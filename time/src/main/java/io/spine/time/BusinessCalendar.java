@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.base.MoreObjects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A calendar of working days within a range of dates.
+ *
+ * <p>The working days are stored as a bitset indexed by the number of days since the first
+ * day of the calendar. Along with the bitset, the calendar keeps the number of working days
+ * preceding each word of the bitset. This allows to:
+ * <ul>
+ *     <li>check if a day is working in a constant time;
+ *     <li>count the working days between two dates in a constant time, by counting
+ *         the working days preceding each of the dates;
+ *     <li>add working days to a date in a logarithmic time, by finding the word containing
+ *         the working day of the required rank via binary search.
+ * </ul>
+ *
+ * <p>The calendar is immutable. It takes one bit per day plus an {@code int} per 64 days,
+ * which is about 100 bytes per year.
+ *
+ * @see BusinessCalendarDefinition
+ */
+public final class BusinessCalendar {
+
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = Long.SIZE - 1;
+
+    private final String id;
+    private final long firstDay;
+    private final int length;
+    private final long[] words;
+
+    /**
+     * The number of working days in the words preceding the word with the same index.
+     *
+     * <p>The last element is the total number of working days.
+     */
+    private final int[] ranks;
+
+    private BusinessCalendar(String id, long firstDay, int length, long[] words) {
+        this.id = id;
+        this.firstDay = firstDay;
+        this.length = length;
+        this.words = words;
+        this.ranks = new int[words.length + 1];
+        for (var i = 0; i < words.length; i++) {
+            ranks[i + 1] = ranks[i] + Long.bitCount(words[i]);
+        }
+    }
+
+    /**
+     * Creates a calendar by the given definition.
+     *
+     * @throws IllegalArgumentException
+     *         if the last day of the definition precedes the first one, or if a holiday or
+     *         an extra working day is out of the range of the calendar
+     * @throws IllegalStateException
+     *         if a date of the definition is not valid
+     */
+    public static BusinessCalendar from(BusinessCalendarDefinition definition) {
+        checkNotNull(definition);
+        var firstDay = CalendarMath.epochDay(definition.getFirstDay());
+        var lastDay = CalendarMath.epochDay(definition.getLastDay());
+        checkArgument(firstDay <= lastDay,
+                      "The last day of the calendar `%s` precedes the first day.",
+                      definition.getId());
+        var span = lastDay - firstDay + 1;
+        checkArgument(span <= Integer.MAX_VALUE - Long.SIZE,
+                      "The calendar `%s` spans too many days: %s.", definition.getId(), span);
+        var length = (int) span;
+        var words = new long[wordIndex(length - 1) + 1];
+        var weekend = new boolean[DayOfWeek.SUNDAY_VALUE + 1];
+        for (var day : definition.getWeekendList()) {
+            checkArgument(day.getNumber() >= DayOfWeek.MONDAY_VALUE,
+                          "The weekend of the calendar `%s` has an undefined day.",
+                          definition.getId());
+            weekend[day.getNumber()] = true;
+        }
+        for (var i = 0; i < length; i++) {
+            if (!weekend[CalendarMath.dayOfWeek(firstDay + i)]) {
+                words[wordIndex(i)] |= bit(i);
+            }
+        }
+        for (var holiday : definition.getHolidayList()) {
+            var index = indexIn(definition, firstDay, length, holiday);
+            words[wordIndex(index)] &= ~bit(index);
+        }
+        for (var workingDay : definition.getExtraWorkingDayList()) {
+            var index = indexIn(definition, firstDay, length, workingDay);
+            words[wordIndex(index)] |= bit(index);
+        }
+        return new BusinessCalendar(definition.getId(), firstDay, length, words);
+    }
+
+    private static int indexIn(BusinessCalendarDefinition definition,
+                               long firstDay, int length, LocalDate date) {
+        var index = CalendarMath.epochDay(date) - firstDay;
+        checkArgument(index >= 0 && index < length,
+                      "The date `%s` is out of the range of the calendar `%s`.",
+                      LocalDates.toString(date), definition.getId());
+        return (int) index;
+    }
+
+    /**
+     * Obtains the ID of the calendar.
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Obtains the first date covered by the calendar.
+     */
+    public LocalDate firstDay() {
+        return CalendarMath.toLocalDate(firstDay);
+    }
+
+    /**
+     * Obtains the last date covered by the calendar.
+     */
+    public LocalDate lastDay() {
+        return CalendarMath.toLocalDate(firstDay + length - 1);
+    }
+
+    /**
+     * Obtains the number of working days in the calendar.
+     */
+    public int workingDayCount() {
+        return ranks[words.length];
+    }
+
+    /**
+     * Tells if the given date is a working day.
+     *
+     * @throws IllegalArgumentException
+     *         if the date is out of the range of the calendar
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        var index = indexOf(date);
+        return (words[wordIndex(index)] & bit(index)) != 0;
+    }
+
+    /**
+     * Counts the working days from the given start date, inclusive, to the given end date,
+     * exclusive.
+     *
+     * <p>If the end date precedes the start date, the result is negative.
+     *
+     * @param start
+     *         the first date of the period
+     * @param end
+     *         the date following the period; may be the day after
+     *         the {@linkplain #lastDay() last day} of the calendar
+     * @throws IllegalArgumentException
+     *         if the dates are out of the range of the calendar
+     */
+    public int workingDaysBetween(LocalDate start, LocalDate end) {
+        var from = boundIndexOf(start);
+        var to = boundIndexOf(end);
+        return rank(to) - rank(from);
+    }
+
+    /**
+     * Obtains the date which is the given number of working days after the given date.
+     *
+     * <p>If the number is positive, the result is the working day which has exactly
+     * {@code workingDays - 1} working days between it and the given date. If the number
+     * is negative, the result is found in the same way before the given date. If the number
+     * is zero, the given date is returned.
+     *
+     * <p>For example, adding one working day to Friday gives the following Monday,
+     * if Saturday and Sunday are weekend days.
+     *
+     * @throws IllegalArgumentException
+     *         if the date or the result is out of the range of the calendar
+     */
+    public LocalDate addWorkingDays(LocalDate date, int workingDays) {
+        var index = indexOf(date);
+        if (workingDays == 0) {
+            return date;
+        }
+        var target = workingDays > 0
+                     ? (long) rank(index + 1) + workingDays - 1
+                     : (long) rank(index) + workingDays;
+        if (target < 0 || target >= workingDayCount()) {
+            throw newIllegalArgumentException(
+                    "Adding %d working days to `%s` exceeds the range of the calendar `%s`.",
+                    workingDays, LocalDates.toString(date), id
+            );
+        }
+        var result = select((int) target);
+        return CalendarMath.toLocalDate(firstDay + result);
+    }
+
+    /**
+     * Obtains the number of working days preceding the day with the given index.
+     */
+    private int rank(int index) {
+        var word = wordIndex(index);
+        if (word == words.length) {
+            return ranks[word];
+        }
+        var preceding = words[word] & (bit(index) - 1);
+        return ranks[word] + Long.bitCount(preceding);
+    }
+
+    /**
+     * Obtains the index of the working day with the given rank.
+     */
+    private int select(int rank) {
+        var low = 0;
+        var high = words.length - 1;
+        while (low < high) {
+            var middle = (low + high + 1) >>> 1;
+            if (ranks[middle] <= rank) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        var word = words[low];
+        for (var skipped = rank - ranks[low]; skipped > 0; skipped--) {
+            word &= word - 1;
+        }
+        return (low << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+    }
+
+    private int indexOf(LocalDate date) {
+        checkNotNull(date);
+        var index = CalendarMath.epochDay(date) - firstDay;
+        checkInRange(date, index, length);
+        return (int) index;
+    }
+
+    private int boundIndexOf(LocalDate date) {
+        checkNotNull(date);
+        var index = CalendarMath.epochDay(date) - firstDay;
+        checkInRange(date, index, length + 1);
+        return (int) index;
+    }
+
+    private void checkInRange(LocalDate date, long index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw newIllegalArgumentException(
+                    "The date `%s` is out of the range of the calendar `%s`.",
+                    LocalDates.toString(date), id
+            );
+        }
+    }
+
+    private static int wordIndex(int index) {
+        return index >>> WORD_SHIFT;
+    }
+
+    private static long bit(int index) {
+        return 1L << (index & WORD_MASK);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("id", id)
+                          .add("firstDay", LocalDates.toString(firstDay()))
+                          .add("lastDay", LocalDates.toString(lastDay()))
+                          .add("workingDays", workingDayCount())
+                          .toString();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.base.MoreObjects;
+import com.google.protobuf.Any;
+import com.google.protobuf.Timestamp;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.DtPreconditions.checkSameType;
+
+/**
+ * A {@link Temporal} which remembers the point in time of another {@code Temporal}.
+ *
+ * <p>Temporal messages, such as {@link LocalDateTime} or {@link ZonedDateTime}, calculate their
+ * {@linkplain Temporal#toTimestamp() timestamp} each time it is requested. Sorting or repeatedly
+ * comparing such values calculates timestamps of the same values many times.
+ *
+ * <p>This class calculates the timestamp of the wrapped value once, upon creation.
+ * Comparing two instances of this class compares the stored seconds and nanoseconds.
+ *
+ * <p>Two instances are comparable only if the wrapped values have exactly the same runtime type.
+ * This is the same constraint as the one imposed by {@link Temporal#compareTo(Temporal)}.
+ *
+ * @param <T>
+ *         the type of the wrapped value
+ */
+public final class CachedTemporal<T extends Temporal<T>> implements Temporal<CachedTemporal<T>> {
+
+    private final T value;
+    private final Timestamp timestamp;
+    private final long seconds;
+    private final int nanos;
+
+    private CachedTemporal(T value) {
+        this.value = value;
+        this.timestamp = value.toTimestamp();
+        this.seconds = timestamp.getSeconds();
+        this.nanos = timestamp.getNanos();
+    }
+
+    /**
+     * Creates a new instance calculating the point in time of the given value.
+     */
+    public static <T extends Temporal<T>> CachedTemporal<T> of(T value) {
+        checkNotNull(value);
+        return new CachedTemporal<>(value);
+    }
+
+    /**
+     * Obtains the wrapped value.
+     */
+    public T value() {
+        return value;
+    }
+
+    /**
+     * Obtains the number of seconds since the epoch of the wrapped value.
+     */
+    public long seconds() {
+        return seconds;
+    }
+
+    /**
+     * Obtains the fraction of the second of the wrapped value.
+     */
+    public int nanos() {
+        return nanos;
+    }
+
+    @Override
+    public Instant toInstant() {
+        return Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    /**
+     * Obtains the timestamp of the wrapped value calculated upon the creation
+     * of this instance.
+     */
+    @Override
+    public Timestamp toTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Packs the wrapped value.
+     */
+    @Override
+    public Any packed() {
+        return value.packed();
+    }
+
+    /**
+     * Compares the stored points in time without recalculating them.
+     *
+     * @throws IllegalArgumentException
+     *         if the wrapped values have different runtime types
+     */
+    @Override
+    public int compareTo(CachedTemporal<T> other) {
+        checkNotNull(other);
+        checkSameType(value, other.value);
+        var result = Long.compare(seconds, other.seconds);
+        if (result == 0) {
+            result = Integer.compare(nanos, other.nanos);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CachedTemporal)) {
+            return false;
+        }
+        var other = (CachedTemporal<?>) o;
+        return value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("value", value)
+                          .add("seconds", seconds)
+                          .add("nanos", nanos)
+                          .toString();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.ImmutableMap;
+import org.jspecify.annotations.Nullable;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Counts and, optionally, sums of values per calendar period, such as a date or a month.
+ *
+ * <p>The histogram is dense: it has a bucket for every period from the earliest to the latest
+ * one containing values, including the periods without values. The buckets are indexed
+ * from zero in chronological order.
+ *
+ * <p>Instances are created by {@link CalendarHistograms}.
+ *
+ * @param <K>
+ *         the type of the messages or the enum identifying the periods
+ */
+public final class CalendarHistogram<K> {
+
+    private final CalendarHistograms.Bucketing<K> bucketing;
+    private final long first;
+    private final long[] counts;
+    private final long @Nullable [] sums;
+
+    CalendarHistogram(CalendarHistograms.Bucketing<K> bucketing,
+                      long first,
+                      long[] counts,
+                      long @Nullable [] sums) {
+        this.bucketing = bucketing;
+        this.first = first;
+        this.counts = counts;
+        this.sums = sums;
+    }
+
+    /**
+     * Obtains the number of the buckets.
+     */
+    public int size() {
+        return counts.length;
+    }
+
+    /**
+     * Tells if there were no values.
+     */
+    public boolean isEmpty() {
+        return counts.length == 0;
+    }
+
+    /**
+     * Tells if the histogram has the sums of values.
+     */
+    public boolean hasSums() {
+        return sums != null;
+    }
+
+    /**
+     * Obtains the period of the bucket with the given index.
+     */
+    public K key(int index) {
+        checkElementIndex(index, counts.length);
+        return bucketing.key(first + index);
+    }
+
+    /**
+     * Obtains the number of values in the bucket with the given index.
+     */
+    public long count(int index) {
+        checkElementIndex(index, counts.length);
+        return counts[index];
+    }
+
+    /**
+     * Obtains the sum of values in the bucket with the given index.
+     *
+     * @throws IllegalStateException
+     *         if the histogram {@linkplain #hasSums() has no sums}
+     */
+    public long sum(int index) {
+        checkElementIndex(index, counts.length);
+        return checkedSums()[index];
+    }
+
+    /**
+     * Obtains the number of values in the given period.
+     *
+     * @return the count, or zero if the period is out of the histogram
+     */
+    public long count(K key) {
+        var index = indexOf(key);
+        return index < 0 ? 0L : counts[index];
+    }
+
+    /**
+     * Obtains the sum of values in the given period.
+     *
+     * @return the sum, or zero if the period is out of the histogram
+     * @throws IllegalStateException
+     *         if the histogram {@linkplain #hasSums() has no sums}
+     */
+    public long sum(K key) {
+        var sums = checkedSums();
+        var index = indexOf(key);
+        return index < 0 ? 0L : sums[index];
+    }
+
+    /**
+     * Obtains the total number of values.
+     */
+    public long totalCount() {
+        return total(counts);
+    }
+
+    /**
+     * Obtains the total sum of values.
+     *
+     * @throws IllegalStateException
+     *         if the histogram {@linkplain #hasSums() has no sums}
+     * @throws ArithmeticException
+     *         if the sum overflows {@code long}
+     */
+    public long totalSum() {
+        return total(checkedSums());
+    }
+
+    /**
+     * Obtains the counts of values per period in chronological order.
+     */
+    public ImmutableMap<K, Long> counts() {
+        return toMap(counts);
+    }
+
+    /**
+     * Obtains the sums of values per period in chronological order.
+     *
+     * @throws IllegalStateException
+     *         if the histogram {@linkplain #hasSums() has no sums}
+     */
+    public ImmutableMap<K, Long> sums() {
+        return toMap(checkedSums());
+    }
+
+    private int indexOf(K key) {
+        checkNotNull(key);
+        var index = bucketing.bucket(key) - first;
+        return index >= 0 && index < counts.length ? (int) index : -1;
+    }
+
+    private long[] checkedSums() {
+        checkState(sums != null, "The histogram has no sums of values.");
+        return sums;
+    }
+
+    private ImmutableMap<K, Long> toMap(long[] values) {
+        var result = ImmutableMap.<K, Long>builderWithExpectedSize(values.length);
+        for (var i = 0; i < values.length; i++) {
+            result.put(bucketing.key(first + i), values[i]);
+        }
+        return result.build();
+    }
+
+    private static long total(long[] values) {
+        var result = 0L;
+        for (var value : values) {
+            result = Math.addExact(result, value);
+        }
+        return result;
+    }
+}
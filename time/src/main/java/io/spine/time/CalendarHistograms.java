@@ -0,0 +1,411 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.CalendarMath.SECONDS_PER_DAY;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Builds {@linkplain CalendarHistogram histograms} of points in time per date, month,
+ * or day of week in a time-zone.
+ *
+ * <p>The points in time are given as numbers of seconds since the epoch, for example,
+ * the {@code seconds} of {@code Timestamp}s. Optionally, each point in time may be accompanied
+ * by a value to sum up per period.
+ *
+ * <p>The input is processed by a parallel stream. Each fork-join task accumulates
+ * the values into its own dense array of buckets, and the arrays are merged when the tasks
+ * complete. Each task also resolves the offset of the zone via its own window of
+ * the offset periods, so that the points in time of the same daylight saving period are
+ * converted without {@code java.time.zone.ZoneRules}, and the tasks processing different
+ * periods do not evict the periods of each other.
+ */
+public final class CalendarHistograms {
+
+    private static final Bucketing<LocalDate> BY_DATE = new Bucketing<>() {
+        @Override
+        long bucketOf(long epochDay) {
+            return epochDay;
+        }
+
+        @Override
+        LocalDate key(long bucket) {
+            return CalendarMath.toLocalDate(bucket);
+        }
+
+        @Override
+        long bucket(LocalDate key) {
+            return CalendarMath.epochDay(key);
+        }
+    };
+
+    private static final Bucketing<YearMonth> BY_MONTH = new Bucketing<>() {
+        @Override
+        long bucketOf(long epochDay) {
+            var date = CalendarMath.civilDate(epochDay);
+            return CalendarMath.epochMonth(CalendarMath.year(date), CalendarMath.month(date));
+        }
+
+        @Override
+        YearMonth key(long bucket) {
+            return CalendarMath.toYearMonth(bucket);
+        }
+
+        @Override
+        long bucket(YearMonth key) {
+            return CalendarMath.epochMonth(key.getYear(), key.getMonthValue());
+        }
+    };
+
+    private static final Bucketing<DayOfWeek> BY_DAY_OF_WEEK = new Bucketing<>() {
+        @Override
+        long bucketOf(long epochDay) {
+            return CalendarMath.dayOfWeek(epochDay) - 1;
+        }
+
+        @Override
+        DayOfWeek key(long bucket) {
+            return DayOfWeek.forNumber((int) bucket + 1);
+        }
+
+        @Override
+        long bucket(DayOfWeek key) {
+            return key.getNumber() - 1;
+        }
+    };
+
+    /** Prevents instantiation of this utility class. */
+    private CalendarHistograms() {
+    }
+
+    /**
+     * Counts the given points in time per date in the given zone.
+     */
+    public static CalendarHistogram<LocalDate> byDate(long[] epochSeconds, ZoneId zone) {
+        return count(epochSeconds, zone, BY_DATE);
+    }
+
+    /**
+     * Counts the given points in time per date in the given zone.
+     */
+    public static CalendarHistogram<LocalDate> byDate(LongStream epochSeconds, ZoneId zone) {
+        return count(epochSeconds, zone, BY_DATE);
+    }
+
+    /**
+     * Counts the given points in time and sums up the given values per date in the given zone.
+     *
+     * @param epochSeconds
+     *         the points in time
+     * @param values
+     *         the values to sum up, one per point in time
+     * @param zone
+     *         the time-zone to determine the dates in
+     * @throws ArithmeticException
+     *         if a sum overflows {@code long}
+     */
+    public static CalendarHistogram<LocalDate>
+    byDate(long[] epochSeconds, long[] values, ZoneId zone) {
+        return sum(epochSeconds, values, zone, BY_DATE);
+    }
+
+    /**
+     * Counts the given points in time per month in the given zone.
+     */
+    public static CalendarHistogram<YearMonth> byMonth(long[] epochSeconds, ZoneId zone) {
+        return count(epochSeconds, zone, BY_MONTH);
+    }
+
+    /**
+     * Counts the given points in time per month in the given zone.
+     */
+    public static CalendarHistogram<YearMonth> byMonth(LongStream epochSeconds, ZoneId zone) {
+        return count(epochSeconds, zone, BY_MONTH);
+    }
+
+    /**
+     * Counts the given points in time and sums up the given values per month in the given zone.
+     *
+     * @param epochSeconds
+     *         the points in time
+     * @param values
+     *         the values to sum up, one per point in time
+     * @param zone
+     *         the time-zone to determine the months in
+     * @throws ArithmeticException
+     *         if a sum overflows {@code long}
+     */
+    public static CalendarHistogram<YearMonth>
+    byMonth(long[] epochSeconds, long[] values, ZoneId zone) {
+        return sum(epochSeconds, values, zone, BY_MONTH);
+    }
+
+    /**
+     * Counts the given points in time per day of week in the given zone.
+     *
+     * <p>The days of the resulting histogram start from Monday.
+     */
+    public static CalendarHistogram<DayOfWeek> byDayOfWeek(long[] epochSeconds, ZoneId zone) {
+        return count(epochSeconds, zone, BY_DAY_OF_WEEK);
+    }
+
+    /**
+     * Counts the given points in time per day of week in the given zone.
+     *
+     * <p>The days of the resulting histogram start from Monday.
+     */
+    public static CalendarHistogram<DayOfWeek>
+    byDayOfWeek(LongStream epochSeconds, ZoneId zone) {
+        return count(epochSeconds, zone, BY_DAY_OF_WEEK);
+    }
+
+    /**
+     * Counts the given points in time and sums up the given values per day of week
+     * in the given zone.
+     *
+     * <p>The days of the resulting histogram start from Monday.
+     *
+     * @param epochSeconds
+     *         the points in time
+     * @param values
+     *         the values to sum up, one per point in time
+     * @param zone
+     *         the time-zone to determine the days of week in
+     * @throws ArithmeticException
+     *         if a sum overflows {@code long}
+     */
+    public static CalendarHistogram<DayOfWeek>
+    byDayOfWeek(long[] epochSeconds, long[] values, ZoneId zone) {
+        return sum(epochSeconds, values, zone, BY_DAY_OF_WEEK);
+    }
+
+    private static <K> CalendarHistogram<K>
+    count(long[] epochSeconds, ZoneId zone, Bucketing<K> bucketing) {
+        checkNotNull(epochSeconds);
+        return count(Arrays.stream(epochSeconds), zone, bucketing);
+    }
+
+    private static <K> CalendarHistogram<K>
+    count(LongStream epochSeconds, ZoneId zone, Bucketing<K> bucketing) {
+        checkNotNull(epochSeconds);
+        checkNotNull(zone);
+        var cache = ZoneOffsetCache.of(zone.getValue());
+        return epochSeconds.parallel()
+                           .collect(() -> new Accumulator<>(bucketing, cache, false),
+                                    Accumulator::add,
+                                    Accumulator::merge)
+                           .toHistogram();
+    }
+
+    private static <K> CalendarHistogram<K>
+    sum(long[] epochSeconds, long[] values, ZoneId zone, Bucketing<K> bucketing) {
+        checkNotNull(epochSeconds);
+        checkNotNull(values);
+        checkNotNull(zone);
+        checkArgument(epochSeconds.length == values.length,
+                      "Expected %s values for %s points in time, but got %s.",
+                      epochSeconds.length, epochSeconds.length, values.length);
+        var cache = ZoneOffsetCache.of(zone.getValue());
+        return IntStream.range(0, epochSeconds.length)
+                        .parallel()
+                        .collect(() -> new Accumulator<>(bucketing, cache, true),
+                                 (acc, i) -> acc.add(epochSeconds[i], values[i]),
+                                 Accumulator::merge)
+                        .toHistogram();
+    }
+
+    /**
+     * Maps days to the buckets of a histogram and the buckets to the messages
+     * identifying them.
+     *
+     * @param <K>
+     *         the type of the messages or the enum identifying the buckets
+     */
+    abstract static class Bucketing<K> {
+
+        /**
+         * Obtains the bucket of the given day since {@code 1970-01-01}.
+         */
+        abstract long bucketOf(long epochDay);
+
+        /**
+         * Creates the message identifying the given bucket.
+         */
+        abstract K key(long bucket);
+
+        /**
+         * Obtains the bucket identified by the given message.
+         */
+        abstract long bucket(K key);
+    }
+
+    /**
+     * Accumulates the counts and the sums in a dense array of buckets which grows
+     * to fit the accumulated values.
+     */
+    private static final class Accumulator<K> {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        /**
+         * The maximum number of buckets, which is the maximum size of an array.
+         */
+        private static final long MAX_BUCKETS = Integer.MAX_VALUE - 8;
+
+        private final Bucketing<K> bucketing;
+        private final ZoneOffsetCache.Window zone;
+        private final boolean withSums;
+
+        /**
+         * The bucket corresponding to the first element of the arrays.
+         */
+        private long base;
+
+        /**
+         * The earliest bucket with values.
+         */
+        private long first;
+
+        /**
+         * The latest bucket with values.
+         */
+        private long last;
+
+        private long[] counts = new long[0];
+        private long[] sums = new long[0];
+
+        private Accumulator(Bucketing<K> bucketing, ZoneOffsetCache zone, boolean withSums) {
+            this.bucketing = bucketing;
+            this.zone = zone.newWindow();
+            this.withSums = withSums;
+        }
+
+        private void add(long epochSecond) {
+            var index = indexOf(bucketOf(epochSecond));
+            counts[index]++;
+        }
+
+        private void add(long epochSecond, long value) {
+            var index = indexOf(bucketOf(epochSecond));
+            counts[index]++;
+            sums[index] = Math.addExact(sums[index], value);
+        }
+
+        private long bucketOf(long epochSecond) {
+            var localSecond = epochSecond + zone.offsetAt(epochSecond);
+            var epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+            return bucketing.bucketOf(epochDay);
+        }
+
+        private void merge(Accumulator<K> other) {
+            if (other.isEmpty()) {
+                return;
+            }
+            indexOf(other.first);
+            indexOf(other.last);
+            var from = (int) (other.first - other.base);
+            var to = (int) (other.last - other.base);
+            var offset = (int) (other.base - base);
+            for (var i = from; i <= to; i++) {
+                counts[offset + i] += other.counts[i];
+                if (withSums) {
+                    sums[offset + i] = Math.addExact(sums[offset + i], other.sums[i]);
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            return counts.length == 0;
+        }
+
+        /**
+         * Obtains the index of the given bucket in the arrays, growing the arrays if needed.
+         *
+         * <p>The arrays grow at least twice, towards the side of the given bucket.
+         */
+        private int indexOf(long bucket) {
+            if (isEmpty()) {
+                base = bucket;
+                first = bucket;
+                last = bucket;
+                counts = new long[INITIAL_CAPACITY];
+                sums = withSums ? new long[INITIAL_CAPACITY] : sums;
+            } else if (bucket < base) {
+                var capacity = capacityFor(last - bucket + 1);
+                resize(last - capacity + 1, capacity);
+            } else if (bucket - base >= counts.length) {
+                resize(first, capacityFor(bucket - first + 1));
+            }
+            first = Math.min(first, bucket);
+            last = Math.max(last, bucket);
+            return (int) (bucket - base);
+        }
+
+        private int capacityFor(long required) {
+            if (required > MAX_BUCKETS) {
+                throw newIllegalArgumentException(
+                        "The points in time span more than %d periods.", MAX_BUCKETS
+                );
+            }
+            return (int) Math.min(Math.max(required, 2L * counts.length), MAX_BUCKETS);
+        }
+
+        private void resize(long newBase, int capacity) {
+            counts = moved(counts, newBase, capacity);
+            if (withSums) {
+                sums = moved(sums, newBase, capacity);
+            }
+            base = newBase;
+        }
+
+        private long[] moved(long[] source, long newBase, int capacity) {
+            var result = new long[capacity];
+            var from = (int) (first - base);
+            var length = (int) (last - first + 1);
+            System.arraycopy(source, from, result, (int) (first - newBase), length);
+            return result;
+        }
+
+        private CalendarHistogram<K> toHistogram() {
+            if (isEmpty()) {
+                return new CalendarHistogram<>(bucketing, 0L, new long[0],
+                                               withSums ? new long[0] : null);
+            }
+            var from = (int) (first - base);
+            var to = (int) (last - base + 1);
+            var resultCounts = Arrays.copyOfRange(counts, from, to);
+            var resultSums = withSums ? Arrays.copyOfRange(sums, from, to) : null;
+            return new CalendarHistogram<>(bucketing, first, resultCounts, resultSums);
+        }
+    }
+}
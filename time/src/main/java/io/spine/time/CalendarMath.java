@@ -0,0 +1,400 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import java.time.DateTimeException;
+import java.time.Year;
+
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
+import static java.time.temporal.ChronoField.NANO_OF_SECOND;
+import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+
+/**
+ * Arithmetic on the fields of date/time messages which does not go through Java Time.
+ *
+ * <p>The conversion between a civil date and the number of days since the epoch
+ * follows the algorithms by Howard Hinnant described in
+ * <a href="https://howardhinnant.github.io/date_algorithms.html">chrono-Compatible
+ * Low-Level Date Algorithms</a>. The calendar is the proleptic Gregorian one, the same
+ * as used by {@code java.time.LocalDate}.
+ */
+final class CalendarMath {
+
+    static final int SECONDS_PER_MINUTE = 60;
+    static final int SECONDS_PER_HOUR = 60 * SECONDS_PER_MINUTE;
+    static final int SECONDS_PER_DAY = 24 * SECONDS_PER_HOUR;
+    static final long NANOS_PER_SECOND = 1_000_000_000L;
+    static final int MONTHS_PER_YEAR = 12;
+
+    private static final int DAYS_PER_WEEK = 7;
+
+    /**
+     * The number of days between {@code 0000-03-01} and {@code 1970-01-01}.
+     */
+    private static final long DAYS_0000_TO_1970 = 719_468L;
+
+    /**
+     * The number of days in a 400-year cycle of the Gregorian calendar.
+     */
+    private static final long DAYS_PER_CYCLE = 146_097L;
+
+    private static final int YEAR_SHIFT = 9;
+    private static final int MONTH_SHIFT = 5;
+    private static final long MONTH_MASK = 0xF;
+    private static final long DAY_MASK = 0x1F;
+
+    private static final long MIN_EPOCH_DAY = epochDay(Year.MIN_VALUE, 1, 1);
+    private static final long MAX_EPOCH_DAY = epochDay(Year.MAX_VALUE, 12, 31);
+
+    /** Prevents instantiation of this utility class. */
+    private CalendarMath() {
+    }
+
+    /**
+     * Obtains the number of days since {@code 1970-01-01} for the given date.
+     *
+     * <p>The arguments are not validated.
+     *
+     * @param year
+     *         the proleptic year
+     * @param month
+     *         the number of the month, from 1 to 12
+     * @param day
+     *         the day of the month, from 1 to 31
+     */
+    static long epochDay(long year, int month, int day) {
+        var y = month <= 2 ? year - 1 : year;
+        var era = Math.floorDiv(y, 400);
+        var yearOfEra = y - era * 400;
+        var dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        var dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Obtains the date of the given day since {@code 1970-01-01} packed into a {@code long}.
+     *
+     * <p>The fields of the date are obtained from the packed value via {@link #year(long)},
+     * {@link #month(long)}, and {@link #day(long)}. Packing allows to compute all the fields
+     * at once without allocating an object.
+     */
+    static long civilDate(long epochDay) {
+        var shifted = epochDay + DAYS_0000_TO_1970;
+        var era = Math.floorDiv(shifted, DAYS_PER_CYCLE);
+        var dayOfEra = shifted - era * DAYS_PER_CYCLE;
+        var yearOfEra = (dayOfEra
+                - dayOfEra / 1460
+                + dayOfEra / 36_524
+                - dayOfEra / (DAYS_PER_CYCLE - 1)) / 365;
+        var dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        var shiftedMonth = (5 * dayOfYear + 2) / 153;
+        var day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        var month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        var year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << YEAR_SHIFT) | (month << MONTH_SHIFT) | day;
+    }
+
+    /**
+     * Obtains the year from the {@linkplain #civilDate(long) packed date}.
+     */
+    @SuppressWarnings("NumericCastThatLosesPrecision") // Years fit `int` by definition.
+    static int year(long civilDate) {
+        return (int) (civilDate >> YEAR_SHIFT);
+    }
+
+    /**
+     * Obtains the number of the month from the {@linkplain #civilDate(long) packed date}.
+     */
+    static int month(long civilDate) {
+        return (int) ((civilDate >>> MONTH_SHIFT) & MONTH_MASK);
+    }
+
+    /**
+     * Obtains the day of the month from the {@linkplain #civilDate(long) packed date}.
+     */
+    static int day(long civilDate) {
+        return (int) (civilDate & DAY_MASK);
+    }
+
+    /**
+     * Obtains the ISO number of the day of week of the given day since {@code 1970-01-01},
+     * from 1 for Monday to 7 for Sunday.
+     */
+    static int dayOfWeek(long epochDay) {
+        // `1970-01-01` is Thursday, the fourth day of week.
+        return (int) Math.floorMod(epochDay + 3, DAYS_PER_WEEK) + 1;
+    }
+
+    /**
+     * Creates a date message for the given day since {@code 1970-01-01}.
+     */
+    static LocalDate toLocalDate(long epochDay) {
+        var date = civilDate(epochDay);
+        return LocalDate.newBuilder()
+                .setYear(year(date))
+                .setMonthValue(month(date))
+                .setDay(day(date))
+                .build();
+    }
+
+    /**
+     * Creates a time message for the given second of a day and nanoseconds.
+     */
+    static LocalTime toLocalTime(int secondOfDay, int nanos) {
+        return LocalTime.newBuilder()
+                .setHour(secondOfDay / SECONDS_PER_HOUR)
+                .setMinute(secondOfDay / SECONDS_PER_MINUTE % 60)
+                .setSecond(secondOfDay % SECONDS_PER_MINUTE)
+                .setNano(nanos)
+                .build();
+    }
+
+    /**
+     * Creates a date-time message for the given number of seconds since
+     * {@code 1970-01-01T00:00:00} in the local time-line.
+     */
+    static LocalDateTime toLocalDateTime(long localEpochSecond, int nanos) {
+        var epochDay = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+        var secondOfDay = Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+        return LocalDateTime.newBuilder()
+                .setDate(toLocalDate(epochDay))
+                .setTime(toLocalTime(secondOfDay, nanos))
+                .build();
+    }
+
+    /**
+     * Obtains the number of days since {@code 1970-01-01} for the given date.
+     *
+     * @throws IllegalStateException
+     *         if the date is not valid
+     */
+    static long epochDay(LocalDate date) {
+        checkDateState(date);
+        return epochDay(date.getYear(), date.getMonthValue(), date.getDay());
+    }
+
+    /**
+     * Obtains the number of seconds passed since the start of the day.
+     *
+     * @throws DateTimeException
+     *         if one of the fields of the time is out of range
+     */
+    static int secondOfDay(LocalTime time) {
+        var hour = HOUR_OF_DAY.checkValidIntValue(time.getHour());
+        var minute = MINUTE_OF_HOUR.checkValidIntValue(time.getMinute());
+        var second = SECOND_OF_MINUTE.checkValidIntValue(time.getSecond());
+        NANO_OF_SECOND.checkValidValue(time.getNano());
+        return hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE + second;
+    }
+
+    /**
+     * Obtains the number of seconds since {@code 1970-01-01T00:00:00} for the given
+     * local date-time, as if it was in UTC.
+     *
+     * @throws IllegalStateException
+     *         if the date is not valid
+     * @throws DateTimeException
+     *         if one of the fields of the time is out of range
+     */
+    static long localEpochSecond(LocalDateTime dateTime) {
+        var days = epochDay(dateTime.getDate());
+        return days * SECONDS_PER_DAY + secondOfDay(dateTime.getTime());
+    }
+
+    /**
+     * Obtains the number of months since January of the year zero.
+     */
+    static long epochMonth(long year, int month) {
+        return year * MONTHS_PER_YEAR + month - 1;
+    }
+
+    /**
+     * Obtains the number of days in the given month of the given year.
+     */
+    static int lengthOfMonth(long year, int month) {
+        if (month == 2) {
+            return isLeapYear(year) ? 29 : 28;
+        }
+        var shortMonth = month == 4 || month == 6 || month == 9 || month == 11;
+        return shortMonth ? 30 : 31;
+    }
+
+    /**
+     * Tells if the given year is a leap one in the proleptic Gregorian calendar.
+     */
+    static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Creates a year-month message for the given number of months since January
+     * of the year zero.
+     *
+     * @throws IllegalArgumentException
+     *         if the year of the result is out of the supported range
+     */
+    static YearMonth toYearMonth(long epochMonth) {
+        var year = checkYear(Math.floorDiv(epochMonth, MONTHS_PER_YEAR));
+        var month = Math.floorMod(epochMonth, MONTHS_PER_YEAR) + 1;
+        return YearMonth.newBuilder()
+                .setYear(year)
+                .setMonthValue(month)
+                .build();
+    }
+
+    /**
+     * Adds the given number of days to the date.
+     *
+     * @throws IllegalStateException
+     *         if the date is not valid
+     * @throws IllegalArgumentException
+     *         if the result is out of the supported range
+     */
+    static LocalDate plusDays(LocalDate date, long days) {
+        if (days == 0) {
+            return checkedDate(date);
+        }
+        var epochDay = Math.addExact(epochDay(date), days);
+        return checkedLocalDate(epochDay);
+    }
+
+    /**
+     * Creates a date message for the given day since {@code 1970-01-01}, ensuring that
+     * the date is within the supported range.
+     *
+     * @throws IllegalArgumentException
+     *         if the date is out of the supported range
+     */
+    static LocalDate checkedLocalDate(long epochDay) {
+        checkEpochDay(epochDay);
+        return toLocalDate(epochDay);
+    }
+
+    /**
+     * Adds the given number of months to the date.
+     *
+     * <p>If the day of the date does not exist in the resulting month, the last
+     * day of that month is taken.
+     *
+     * @throws IllegalStateException
+     *         if the date is not valid
+     * @throws IllegalArgumentException
+     *         if the result is out of the supported range
+     */
+    static LocalDate plusMonths(LocalDate date, long months) {
+        checkDateState(date);
+        if (months == 0) {
+            return date;
+        }
+        var epochMonth = Math.addExact(epochMonth(date.getYear(), date.getMonthValue()), months);
+        var year = checkYear(Math.floorDiv(epochMonth, MONTHS_PER_YEAR));
+        var month = Math.floorMod(epochMonth, MONTHS_PER_YEAR) + 1;
+        var day = Math.min(date.getDay(), lengthOfMonth(year, month));
+        return LocalDate.newBuilder()
+                .setYear(year)
+                .setMonthValue(month)
+                .setDay(day)
+                .build();
+    }
+
+    /**
+     * Adds the given number of seconds and nanoseconds to the date-time
+     * in the local time-line.
+     *
+     * @param dateTime
+     *         the date-time to add to
+     * @param seconds
+     *         the seconds to add
+     * @param nanos
+     *         the nanoseconds to add, which may be negative
+     * @throws IllegalStateException
+     *         if the date is not valid
+     * @throws IllegalArgumentException
+     *         if the result is out of the supported range
+     */
+    static LocalDateTime plusSeconds(LocalDateTime dateTime, long seconds, int nanos) {
+        var nano = dateTime.getTime().getNano() + (long) nanos;
+        var local = Math.addExact(localEpochSecond(dateTime), seconds);
+        local = Math.addExact(local, Math.floorDiv(nano, NANOS_PER_SECOND));
+        return checkedLocalDateTime(local, (int) Math.floorMod(nano, NANOS_PER_SECOND));
+    }
+
+    /**
+     * Creates a date-time message for the given number of seconds since
+     * {@code 1970-01-01T00:00:00} in the local time-line, ensuring that the date
+     * is within the supported range.
+     *
+     * @throws IllegalArgumentException
+     *         if the date is out of the supported range
+     */
+    static LocalDateTime checkedLocalDateTime(long localEpochSecond, int nanos) {
+        checkEpochDay(Math.floorDiv(localEpochSecond, SECONDS_PER_DAY));
+        return toLocalDateTime(localEpochSecond, nanos);
+    }
+
+    /**
+     * Ensures the year is within the range supported by Java Time.
+     *
+     * @return the year as {@code int}
+     * @throws IllegalArgumentException
+     *         if the year is out of the range
+     */
+    @SuppressWarnings("NumericCastThatLosesPrecision") // The range is checked.
+    static int checkYear(long year) {
+        if (year < Year.MIN_VALUE || year > Year.MAX_VALUE) {
+            throw newIllegalArgumentException(
+                    "The year %d is out of the supported range.", year);
+        }
+        return (int) year;
+    }
+
+    private static void checkEpochDay(long epochDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw newIllegalArgumentException(
+                    "The day %d since the epoch is out of the supported range.", epochDay);
+        }
+    }
+
+    private static LocalDate checkedDate(LocalDate date) {
+        checkDateState(date);
+        return date;
+    }
+
+    /**
+     * Ensures the date is valid, treating an invalid value as an illegal state
+     * of the date, similarly to {@link LocalDate#toJavaTime()}.
+     */
+    private static void checkDateState(LocalDate date) {
+        try {
+            LocalDates.checkDate(date);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,616 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.base.Time;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.CalendarMath.SECONDS_PER_DAY;
+import static io.spine.time.CalendarMath.SECONDS_PER_HOUR;
+import static io.spine.time.CalendarMath.SECONDS_PER_MINUTE;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A schedule defined by a cron expression in a time-zone.
+ *
+ * <p>The expression consists of five fields: minute, hour, day of month, month, and day of
+ * week. A field is either {@code *}, or a comma-separated list of values and ranges, such as
+ * {@code 1-5}. A range or {@code *} may be followed by a step, such as {@code *}{@code /15}.
+ * Months and days of week may be given by their three-letter English names, such as
+ * {@code JAN} or {@code MON}. Both {@code 0} and {@code 7} stand for Sunday. The day fields
+ * also accept {@code ?} as a synonym of {@code *}. The macros {@code @yearly},
+ * {@code @annually}, {@code @monthly}, {@code @weekly}, {@code @daily}, {@code @midnight},
+ * and {@code @hourly} are supported as well.
+ *
+ * <p>As in the Vixie cron, if both day fields are restricted, that is, do not start with
+ * {@code *}, a day matches if it matches either of them. Otherwise, it must match both.
+ *
+ * <p>The expression is compiled into bitmasks of the matching minutes, hours, days of month,
+ * months, and days of week. Fire times are found by scanning the bitmasks over the local time
+ * of the zone in calendar arithmetic. The local times are resolved in the zone via the cache of
+ * its offset periods. A local time which falls into a gap in the zone is shifted forward by the
+ * length of the gap. A local time which falls into an overlap is resolved with the earlier
+ * offset, so that the schedule fires once.
+ *
+ * <p>The schedule reads the current time via {@link Time#currentTime()}, so that a custom
+ * {@linkplain Time.Provider time provider} may drive it in tests.
+ *
+ * <p>Instances are immutable and may be shared between threads.
+ */
+public final class CronSchedule {
+
+    /**
+     * The number of days in the cycle of the Gregorian calendar.
+     *
+     * <p>If a schedule does not fire within the cycle, it never fires.
+     */
+    private static final long HORIZON_DAYS = 146_097L;
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    /**
+     * The earliest second which a {@code Timestamp} may hold, {@code 0001-01-01T00:00:00Z}.
+     */
+    private static final long MIN_SECOND = Timestamps.MIN_VALUE.getSeconds();
+
+    /**
+     * The latest second which a {@code Timestamp} may hold, {@code 9999-12-31T23:59:59Z}.
+     */
+    private static final long MAX_SECOND = Timestamps.MAX_VALUE.getSeconds();
+    private static final int FIELD_COUNT = 5;
+    private static final int LAST_MINUTE = 59;
+
+    private static final ImmutableMap<String, String> macros = ImmutableMap.of(
+            "@yearly", "0 0 1 1 *",
+            "@annually", "0 0 1 1 *",
+            "@monthly", "0 0 1 * *",
+            "@weekly", "0 0 * * 0",
+            "@daily", "0 0 * * *",
+            "@midnight", "0 0 * * *",
+            "@hourly", "0 * * * *"
+    );
+
+    private static final String[] NO_NAMES = {};
+
+    private static final String[] MONTH_NAMES = {
+            "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"
+    };
+
+    private static final String[] DAY_OF_WEEK_NAMES = {
+            "SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"
+    };
+
+    private final String expression;
+    private final ZoneId zone;
+    private final ZoneOffsetCache offsets;
+
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+
+    /** The bits from 1 to 7 stand for the ISO days of week, from Monday to Sunday. */
+    private final long daysOfWeek;
+
+    private final boolean anyDayOfMonth;
+    private final boolean anyDayOfWeek;
+
+    private CronSchedule(String expression, ZoneId zone, String[] fields) {
+        this.expression = expression;
+        this.zone = zone;
+        this.offsets = ZoneOffsetCache.of(zone.getValue());
+        this.minutes = parseField(expression, fields[0], 0, 59, NO_NAMES);
+        this.hours = parseField(expression, fields[1], 0, 23, NO_NAMES);
+        this.daysOfMonth = parseField(expression, fields[2], 1, 31, NO_NAMES);
+        this.months = parseField(expression, fields[3], 1, 12, MONTH_NAMES);
+        this.daysOfWeek = isoDaysOfWeek(parseField(expression, fields[4], 0, 7, DAY_OF_WEEK_NAMES));
+        this.anyDayOfMonth = isAny(fields[2]);
+        this.anyDayOfWeek = isAny(fields[4]);
+    }
+
+    /**
+     * Parses the given cron expression.
+     *
+     * @param expression
+     *         the cron expression
+     * @param zone
+     *         the time-zone in which the expression is evaluated
+     * @throws IllegalArgumentException
+     *         if the expression is not valid
+     * @throws java.time.DateTimeException
+     *         if the zone is not valid
+     */
+    public static CronSchedule parse(String expression, ZoneId zone) {
+        checkNotNull(expression);
+        checkNotNull(zone);
+        var trimmed = expression.trim();
+        var macro = macros.get(trimmed.toLowerCase(Locale.ROOT));
+        var fields = (macro != null ? macro : trimmed).split("\\s+");
+        if (fields.length != FIELD_COUNT) {
+            throw invalid(expression, "expected %d fields, but got %d", FIELD_COUNT, fields.length);
+        }
+        return new CronSchedule(expression, zone, fields);
+    }
+
+    /**
+     * Obtains the expression of this schedule.
+     */
+    public String expression() {
+        return expression;
+    }
+
+    /**
+     * Obtains the zone of this schedule.
+     */
+    public ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * Tells if the schedule fires within the minute of the given point in time.
+     */
+    public boolean matches(Timestamp time) {
+        checkNotNull(time);
+        var seconds = time.getSeconds();
+        var local = seconds + offsets.offsetAt(seconds);
+        var day = Math.floorDiv(local, SECONDS_PER_DAY);
+        var secondOfDay = (int) (local - day * SECONDS_PER_DAY);
+        var date = CalendarMath.civilDate(day);
+        return isSet(months, CalendarMath.month(date))
+                && matchesDay(day, CalendarMath.day(date))
+                && isSet(hours, secondOfDay / SECONDS_PER_HOUR)
+                && isSet(minutes, secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Obtains the next fire time after the {@linkplain Time#currentTime() current time}.
+     *
+     * @return the fire time, or empty {@code Optional} if the schedule never fires
+     */
+    public Optional<Timestamp> next() {
+        return next(Time.currentTime());
+    }
+
+    /**
+     * Obtains the first fire time strictly after the given point in time.
+     *
+     * @return the fire time, or empty {@code Optional} if the schedule never fires
+     *         within the range of {@code Timestamp}
+     */
+    public Optional<Timestamp> next(Timestamp after) {
+        checkNotNull(after);
+        var afterSecond = after.getSeconds();
+        // After a forward shift of the offset, the local times in the gap resolve to
+        // the points in time after the shift, so the scan starts with the smaller offset.
+        var offset = Math.min(offsets.offsetAt(afterSecond),
+                              offsets.offsetAt(afterSecond - SECONDS_PER_DAY));
+        var candidate = startOfMinute(afterSecond + offset) + SECONDS_PER_MINUTE;
+        long result;
+        while (true) {
+            candidate = nextLocal(candidate);
+            if (candidate == NONE) {
+                return Optional.empty();
+            }
+            result = offsets.toEpochSecond(candidate);
+            if (result > afterSecond) {
+                break;
+            }
+            candidate += SECONDS_PER_MINUTE;
+        }
+        // If the candidate was shifted out of a gap, the local times up to its shifted value
+        // may resolve to earlier points in time.
+        var shiftedLocal = result + offsets.offsetAt(result);
+        var other = candidate + SECONDS_PER_MINUTE;
+        while (other < shiftedLocal) {
+            other = nextLocal(other);
+            if (other == NONE || other >= shiftedLocal) {
+                break;
+            }
+            var epochSecond = offsets.toEpochSecond(other);
+            if (epochSecond > afterSecond && epochSecond < result) {
+                result = epochSecond;
+            }
+            other += SECONDS_PER_MINUTE;
+        }
+        return fireTime(result);
+    }
+
+    /**
+     * Obtains the last fire time before the {@linkplain Time#currentTime() current time}.
+     *
+     * @return the fire time, or empty {@code Optional} if the schedule never fires
+     */
+    public Optional<Timestamp> previous() {
+        return previous(Time.currentTime());
+    }
+
+    /**
+     * Obtains the last fire time strictly before the given point in time.
+     *
+     * @return the fire time, or empty {@code Optional} if the schedule never fires
+     *         within the range of {@code Timestamp}
+     */
+    public Optional<Timestamp> previous(Timestamp before) {
+        checkNotNull(before);
+        var latest = before.getNanos() > 0 ? before.getSeconds() : before.getSeconds() - 1;
+        // After a backward shift of the offset, the local times up to the larger offset
+        // may still resolve to the points in time before `latest`.
+        var offset = Math.max(offsets.offsetAt(latest),
+                              offsets.offsetAt(latest - SECONDS_PER_DAY));
+        var candidate = startOfMinute(latest + offset);
+        long result;
+        while (true) {
+            candidate = previousLocal(candidate);
+            if (candidate == NONE) {
+                return Optional.empty();
+            }
+            result = offsets.toEpochSecond(candidate);
+            if (result <= latest) {
+                break;
+            }
+            candidate -= SECONDS_PER_MINUTE;
+        }
+        // If the offset was shifted forward shortly before the candidate, the earlier local
+        // times in the gap may resolve to later points in time.
+        var gap = offsets.offsetAt(result) - offsets.offsetAt(result - SECONDS_PER_DAY);
+        var gapStart = candidate - gap;
+        var other = candidate - SECONDS_PER_MINUTE;
+        while (other > gapStart) {
+            other = previousLocal(other);
+            if (other == NONE || other <= gapStart) {
+                break;
+            }
+            var epochSecond = offsets.toEpochSecond(other);
+            if (epochSecond > result && epochSecond <= latest) {
+                result = epochSecond;
+            }
+            other -= SECONDS_PER_MINUTE;
+        }
+        return fireTime(result);
+    }
+
+    /**
+     * Obtains the first fire time strictly after the given point in time as a date-time
+     * in the zone of the schedule.
+     *
+     * @return the fire time, or empty {@code Optional} if the schedule never fires
+     *         within the range of {@code Timestamp}
+     */
+    public Optional<ZonedDateTime> nextZoned(Timestamp after) {
+        return next(after).map(this::toZoned);
+    }
+
+    /**
+     * Obtains the last fire time strictly before the given point in time as a date-time
+     * in the zone of the schedule.
+     *
+     * @return the fire time, or empty {@code Optional} if the schedule never fires
+     *         within the range of {@code Timestamp}
+     */
+    public Optional<ZonedDateTime> previousZoned(Timestamp before) {
+        return previous(before).map(this::toZoned);
+    }
+
+    private ZonedDateTime toZoned(Timestamp time) {
+        return ZonedDateTimes.atEpochSecond(time.getSeconds(), 0, zone);
+    }
+
+    /**
+     * Finds the first matching local minute at or after the given local time.
+     *
+     * @param local
+     *         the number of seconds since {@code 1970-01-01T00:00:00} in the local time-line,
+     *         at the start of a minute
+     * @return the matching local time, or {@link #NONE} if there is none within the horizon
+     */
+    private long nextLocal(long local) {
+        var limit = Math.floorDiv(local, SECONDS_PER_DAY) + HORIZON_DAYS;
+        var candidate = local;
+        while (true) {
+            var day = Math.floorDiv(candidate, SECONDS_PER_DAY);
+            if (day > limit) {
+                return NONE;
+            }
+            var date = CalendarMath.civilDate(day);
+            var year = CalendarMath.year(date);
+            var month = CalendarMath.month(date);
+            var dayOfMonth = CalendarMath.day(date);
+            if (!isSet(months, month)) {
+                var nextMonth = nextSetBit(months, month + 1);
+                var firstDay = nextMonth < 0
+                               ? CalendarMath.epochDay(year + 1L, nextSetBit(months, 1), 1)
+                               : CalendarMath.epochDay(year, nextMonth, 1);
+                candidate = firstDay * SECONDS_PER_DAY;
+                continue;
+            }
+            if (!matchesDay(day, dayOfMonth)) {
+                candidate = nextDay(day, year, month, dayOfMonth) * SECONDS_PER_DAY;
+                continue;
+            }
+            var secondOfDay = (int) (candidate - day * SECONDS_PER_DAY);
+            var currentHour = secondOfDay / SECONDS_PER_HOUR;
+            var hour = nextSetBit(hours, currentHour);
+            if (hour < 0) {
+                candidate = (day + 1) * SECONDS_PER_DAY;
+                continue;
+            }
+            var fromMinute = hour == currentHour
+                             ? secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE
+                             : 0;
+            var minute = nextSetBit(minutes, fromMinute);
+            if (minute < 0) {
+                candidate = day * SECONDS_PER_DAY + (hour + 1L) * SECONDS_PER_HOUR;
+                continue;
+            }
+            return day * SECONDS_PER_DAY + hour * (long) SECONDS_PER_HOUR
+                    + minute * (long) SECONDS_PER_MINUTE;
+        }
+    }
+
+    /**
+     * Finds the last matching local minute at or before the given local time.
+     *
+     * @param local
+     *         the number of seconds since {@code 1970-01-01T00:00:00} in the local time-line,
+     *         at the start of a minute
+     * @return the matching local time, or {@link #NONE} if there is none within the horizon
+     */
+    private long previousLocal(long local) {
+        var limit = Math.floorDiv(local, SECONDS_PER_DAY) - HORIZON_DAYS;
+        var candidate = local;
+        while (true) {
+            var day = Math.floorDiv(candidate, SECONDS_PER_DAY);
+            if (day < limit) {
+                return NONE;
+            }
+            var date = CalendarMath.civilDate(day);
+            var year = CalendarMath.year(date);
+            var month = CalendarMath.month(date);
+            var dayOfMonth = CalendarMath.day(date);
+            if (!isSet(months, month)) {
+                var previousMonth = previousSetBit(months, month - 1);
+                var lastDay = previousMonth < 0
+                              ? lastDayOf(year - 1L, previousSetBit(months, 12))
+                              : lastDayOf(year, previousMonth);
+                candidate = endOf(lastDay);
+                continue;
+            }
+            if (!matchesDay(day, dayOfMonth)) {
+                candidate = endOf(previousDay(day, dayOfMonth));
+                continue;
+            }
+            var secondOfDay = (int) (candidate - day * SECONDS_PER_DAY);
+            var currentHour = secondOfDay / SECONDS_PER_HOUR;
+            var hour = previousSetBit(hours, currentHour);
+            if (hour < 0) {
+                candidate = endOf(day - 1);
+                continue;
+            }
+            var fromMinute = hour == currentHour
+                             ? secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE
+                             : LAST_MINUTE;
+            var minute = previousSetBit(minutes, fromMinute);
+            if (minute < 0) {
+                candidate = day * SECONDS_PER_DAY + hour * (long) SECONDS_PER_HOUR
+                        - SECONDS_PER_MINUTE;
+                continue;
+            }
+            return day * SECONDS_PER_DAY + hour * (long) SECONDS_PER_HOUR
+                    + minute * (long) SECONDS_PER_MINUTE;
+        }
+    }
+
+    /**
+     * Obtains the day after the given one which may match the day fields.
+     */
+    private long nextDay(long day, int year, int month, int dayOfMonth) {
+        if (!anyDayOfWeek) {
+            return day + 1;
+        }
+        var length = CalendarMath.lengthOfMonth(year, month);
+        var next = nextSetBit(daysOfMonth, dayOfMonth + 1);
+        return next < 0 || next > length
+               ? day - dayOfMonth + length + 1
+               : day - dayOfMonth + next;
+    }
+
+    /**
+     * Obtains the day before the given one which may match the day fields.
+     */
+    private long previousDay(long day, int dayOfMonth) {
+        if (!anyDayOfWeek) {
+            return day - 1;
+        }
+        var previous = previousSetBit(daysOfMonth, dayOfMonth - 1);
+        return previous < 1
+               ? day - dayOfMonth
+               : day - dayOfMonth + previous;
+    }
+
+    private boolean matchesDay(long epochDay, int dayOfMonth) {
+        var byDayOfMonth = isSet(daysOfMonth, dayOfMonth);
+        var byDayOfWeek = isSet(daysOfWeek, CalendarMath.dayOfWeek(epochDay));
+        if (anyDayOfMonth || anyDayOfWeek) {
+            return byDayOfMonth && byDayOfWeek;
+        }
+        return byDayOfMonth || byDayOfWeek;
+    }
+
+    private static long lastDayOf(long year, int month) {
+        return CalendarMath.epochDay(year, month, CalendarMath.lengthOfMonth(year, month));
+    }
+
+    /**
+     * Obtains the local time of the last minute of the given day.
+     */
+    private static long endOf(long day) {
+        return (day + 1) * SECONDS_PER_DAY - SECONDS_PER_MINUTE;
+    }
+
+    private static long startOfMinute(long seconds) {
+        return Math.floorDiv(seconds, SECONDS_PER_MINUTE) * SECONDS_PER_MINUTE;
+    }
+
+    private static boolean isSet(long mask, int index) {
+        return (mask & (1L << index)) != 0;
+    }
+
+    /**
+     * Obtains the lowest set bit at or above the given index, or -1 if there is none.
+     */
+    private static int nextSetBit(long mask, int from) {
+        if (from >= Long.SIZE) {
+            return -1;
+        }
+        var masked = mask & (-1L << from);
+        return masked == 0 ? -1 : Long.numberOfTrailingZeros(masked);
+    }
+
+    /**
+     * Obtains the highest set bit at or below the given index, or -1 if there is none.
+     */
+    private static int previousSetBit(long mask, int from) {
+        if (from < 0) {
+            return -1;
+        }
+        var masked = mask & (-1L >>> (Long.SIZE - 1 - from));
+        return masked == 0 ? -1 : Long.SIZE - 1 - Long.numberOfLeadingZeros(masked);
+    }
+
+    /**
+     * Creates the timestamp of the given fire time.
+     *
+     * @return the timestamp, or empty {@code Optional} if the fire time is out of the range
+     *         of {@code Timestamp}
+     */
+    private static Optional<Timestamp> fireTime(long epochSecond) {
+        if (epochSecond < MIN_SECOND || epochSecond > MAX_SECOND) {
+            return Optional.empty();
+        }
+        var result = Timestamp.newBuilder()
+                .setSeconds(epochSecond)
+                .build();
+        return Optional.of(result);
+    }
+
+    /**
+     * Converts the days of week from the cron numbering, where both 0 and 7 stand for Sunday,
+     * to the ISO numbering.
+     */
+    private static long isoDaysOfWeek(long cronDays) {
+        var sunday = (cronDays & 1L) | (cronDays >>> 7 & 1L);
+        return (cronDays & 0b0111_1110L) | (sunday << 7);
+    }
+
+    private static boolean isAny(String field) {
+        return field.startsWith("*") || field.startsWith("?");
+    }
+
+    private static long parseField(String expression, String field, int min, int max,
+                                   String[] names) {
+        var result = 0L;
+        for (var element : field.split(",", -1)) {
+            result |= parseElement(expression, element, min, max, names);
+        }
+        return result;
+    }
+
+    private static long parseElement(String expression, String element, int min, int max,
+                                     String[] names) {
+        var slash = element.indexOf('/');
+        var range = slash < 0 ? element : element.substring(0, slash);
+        var step = slash < 0 ? 1 : parseNumber(expression, element.substring(slash + 1));
+        if (step < 1) {
+            throw invalid(expression, "the step in `%s` must be positive", element);
+        }
+        int from;
+        int to;
+        if ("*".equals(range) || "?".equals(range)) {
+            from = min;
+            to = max;
+        } else {
+            var dash = range.indexOf('-');
+            if (dash < 0) {
+                from = parseValue(expression, range, names, min);
+                to = slash < 0 ? from : max;
+            } else {
+                from = parseValue(expression, range.substring(0, dash), names, min);
+                to = parseValue(expression, range.substring(dash + 1), names, min);
+            }
+        }
+        if (from < min || to > max || from > to) {
+            throw invalid(expression, "`%s` is out of the range from %d to %d",
+                          element, min, max);
+        }
+        var result = 0L;
+        // The values are iterated as `long`s, so that a large step does not overflow.
+        for (long value = from; value <= to; value += step) {
+            result |= 1L << value;
+        }
+        return result;
+    }
+
+    private static int parseValue(String expression, String value, String[] names, int min) {
+        for (var i = 0; i < names.length; i++) {
+            if (names[i].equalsIgnoreCase(value)) {
+                return i + min;
+            }
+        }
+        return parseNumber(expression, value);
+    }
+
+    private static int parseNumber(String expression, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw invalid(expression, "`%s` is not a number", value);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String expression, String reason,
+                                                    Object... args) {
+        return newIllegalArgumentException(
+                "The cron expression `%s` is not valid: %s.",
+                expression, String.format(reason, args)
+        );
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("expression", expression)
+                          .add("zone", zone.getValue())
+                          .toString();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import java.util.Locale;
+
+import static io.spine.time.CalendarMath.SECONDS_PER_DAY;
+import static io.spine.time.CalendarMath.SECONDS_PER_HOUR;
+import static io.spine.time.CalendarMath.SECONDS_PER_MINUTE;
+
+/**
+ * A reusable holder of the fields of a local date-time.
+ *
+ * <p>The holder is filled by {@link ZonedDateTimes#localize(long, int, java.time.ZoneId,
+ * DateTimeFields)} and allows obtaining the calendar fields of a point in time without
+ * creating date/time messages. Reusing the same instance for many values avoids
+ * allocations altogether.
+ *
+ * <p>Instances of this class are mutable and are not thread-safe.
+ */
+public final class DateTimeFields {
+
+    private int year;
+    private int month;
+    private int day;
+    private int hour;
+    private int minute;
+    private int second;
+    private int nano;
+    private int offsetSeconds;
+
+    /**
+     * Creates a new holder with all the fields set to zero.
+     */
+    public DateTimeFields() {
+        // Fields are filled when localizing a value.
+    }
+
+    /**
+     * Sets the fields from the given number of seconds in the local time-line.
+     */
+    void set(long localEpochSecond, int nanos, int offset) {
+        var epochDay = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+        var secondOfDay = Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+        var date = CalendarMath.civilDate(epochDay);
+        this.year = CalendarMath.year(date);
+        this.month = CalendarMath.month(date);
+        this.day = CalendarMath.day(date);
+        this.hour = secondOfDay / SECONDS_PER_HOUR;
+        this.minute = secondOfDay / SECONDS_PER_MINUTE % 60;
+        this.second = secondOfDay % SECONDS_PER_MINUTE;
+        this.nano = nanos;
+        this.offsetSeconds = offset;
+    }
+
+    /** Obtains the year. */
+    public int year() {
+        return year;
+    }
+
+    /** Obtains the number of the month, from 1 to 12. */
+    public int month() {
+        return month;
+    }
+
+    /** Obtains the day of the month, from 1 to 31. */
+    public int day() {
+        return day;
+    }
+
+    /** Obtains the hour of the day, from 0 to 23. */
+    public int hour() {
+        return hour;
+    }
+
+    /** Obtains the minute of the hour, from 0 to 59. */
+    public int minute() {
+        return minute;
+    }
+
+    /** Obtains the second of the minute, from 0 to 59. */
+    public int second() {
+        return second;
+    }
+
+    /** Obtains the fraction of the second, from 0 to 999,999,999. */
+    public int nano() {
+        return nano;
+    }
+
+    /** Obtains the offset from UTC which was used to compute the local fields, in seconds. */
+    public int offsetSeconds() {
+        return offsetSeconds;
+    }
+
+    /**
+     * Creates a new {@code LocalDateTime} with the values of the fields.
+     */
+    public LocalDateTime toLocalDateTime() {
+        var date = LocalDate.newBuilder()
+                .setYear(year)
+                .setMonthValue(month)
+                .setDay(day);
+        var time = LocalTime.newBuilder()
+                .setHour(hour)
+                .setMinute(minute)
+                .setSecond(second)
+                .setNano(nano);
+        return LocalDateTime.newBuilder()
+                .setDate(date)
+                .setTime(time)
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%04d-%02d-%02dT%02d:%02d:%02d.%09d",
+                             year, month, day, hour, minute, second, nano);
+    }
+}
@@ -122,13 +122,13 @@ public final class DaysOfWeek {
         }
 
         @Override
-        protected DayOfWeek doForward(java.time.DayOfWeek day) {
+        protected DayOfWeek toMessage(java.time.DayOfWeek day) {
             var result = DayOfWeek.forNumber(day.getValue());
             return requireNonNull(result);
         }
 
         @Override
-        protected java.time.DayOfWeek doBackward(DayOfWeek day) {
+        protected java.time.DayOfWeek fromMessage(DayOfWeek day) {
             var result = java.time.DayOfWeek.of(day.getNumber());
             return result;
         }
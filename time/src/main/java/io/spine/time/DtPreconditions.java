@@ -28,6 +28,7 @@ package io.spine.time;
 
 import com.google.protobuf.Message;
 import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -89,12 +90,21 @@ final class DtPreconditions {
     }
 
     /**
-     * Ensures that {@code periodStart < periodEnd}.
+     * Ensures that the given timestamps are valid and {@code periodStart < periodEnd}.
+     *
+     * <p>Once the check passes, the bounds may be compared without further validation.
      */
     static void checkPeriod(Timestamp periodStart, Timestamp periodEnd) {
-        var start = TimestampTemporal.from(periodStart);
-        var end = TimestampTemporal.from(periodEnd);
-        checkPeriod(start, end);
+        checkNotNull(periodStart);
+        checkNotNull(periodEnd);
+        Timestamps.checkValid(periodStart);
+        Timestamps.checkValid(periodEnd);
+        if (TimestampTemporal.compareUnchecked(periodStart, periodEnd) >= 0) {
+            throw newIllegalArgumentException(
+                    "Period start `%s` must be earlier than period end `%s`.",
+                    Timestamps.toString(periodStart),
+                    Timestamps.toString(periodEnd));
+        }
     }
 
     static <T extends Temporal<?>> void checkSameType(T first, T second) {
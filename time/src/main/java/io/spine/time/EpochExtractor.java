@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Message;
+
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Obtains the point in time of a message as primitive seconds and nanoseconds
+ * since the epoch.
+ *
+ * <p>An extractor reads the fields of the message directly, without creating
+ * a {@link Temporal} or a {@link com.google.protobuf.Timestamp Timestamp}.
+ *
+ * @param <M>
+ *         the type of the messages
+ * @see EpochExtractors
+ */
+public interface EpochExtractor<M extends Message> {
+
+    /**
+     * Obtains the number of whole seconds since the epoch of the given message.
+     */
+    long epochSecond(M value);
+
+    /**
+     * Obtains the fraction of the second of the given message, from 0 to 999,999,999.
+     */
+    int nanos(M value);
+
+    /**
+     * Obtains the number of nanoseconds since the epoch of the given message.
+     *
+     * @throws IllegalArgumentException
+     *         if the point in time cannot be represented as {@code long} nanoseconds
+     * @see EpochNanos
+     */
+    default long epochNanos(M value) {
+        return EpochNanos.from(epochSecond(value), nanos(value));
+    }
+
+    /**
+     * Compares the points in time of the given messages.
+     *
+     * @return a negative value if the first message is earlier, zero if the messages
+     *         represent the same point in time, a positive value otherwise
+     */
+    default int compare(M a, M b) {
+        var result = Long.compare(epochSecond(a), epochSecond(b));
+        if (result == 0) {
+            result = Integer.compare(nanos(a), nanos(b));
+        }
+        return result;
+    }
+
+    /**
+     * Creates an extractor which uses the given functions.
+     *
+     * @param epochSecond
+     *         the function obtaining the seconds since the epoch
+     * @param nanos
+     *         the function obtaining the fraction of the second
+     * @param <M>
+     *         the type of the messages
+     */
+    static <M extends Message> EpochExtractor<M>
+    of(ToLongFunction<? super M> epochSecond, ToIntFunction<? super M> nanos) {
+        checkNotNull(epochSecond);
+        checkNotNull(nanos);
+        return new EpochExtractor<>() {
+            @Override
+            public long epochSecond(M value) {
+                return epochSecond.applyAsLong(value);
+            }
+
+            @Override
+            public int nanos(M value) {
+                return nanos.applyAsInt(value);
+            }
+        };
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.spine.annotation.Internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.CalendarMath.SECONDS_PER_DAY;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A registry of {@linkplain EpochExtractor extractors} of points in time from messages,
+ * indexed by the message class.
+ *
+ * <p>Unlike {@link Temporals#from(Message)}, the extractors of the time types of this library
+ * read the message fields directly and produce primitive values. The extractor of any other
+ * {@link Temporal} message uses its {@linkplain Temporal#toTimestamp() timestamp}.
+ * The extractor for a class is computed once and then cached.
+ *
+ * <p>Extractors of other message types, including user-defined {@link TemporalMessage}s,
+ * may be {@linkplain #register(Class, EpochExtractor) registered} explicitly.
+ */
+@Internal
+public final class EpochExtractors {
+
+    private static final EpochExtractor<Timestamp> TIMESTAMP =
+            EpochExtractor.of(Timestamp::getSeconds, Timestamp::getNanos);
+
+    private static final EpochExtractor<LocalDate> LOCAL_DATE =
+            EpochExtractor.of(date -> CalendarMath.epochDay(date) * SECONDS_PER_DAY,
+                              date -> 0);
+
+    private static final EpochExtractor<LocalDateTime> LOCAL_DATE_TIME =
+            EpochExtractor.of(CalendarMath::localEpochSecond,
+                              dateTime -> dateTime.getTime().getNano());
+
+    private static final EpochExtractor<YearMonth> YEAR_MONTH =
+            EpochExtractor.of(EpochExtractors::firstDaySecond, yearMonth -> 0);
+
+    private static final EpochExtractor<ZonedDateTime> ZONED_DATE_TIME =
+            EpochExtractor.of(ZonedDateTimes::epochSecond,
+                              zoned -> zoned.getDateTime().getTime().getNano());
+
+    private static final EpochExtractor<Message> BY_TIMESTAMP = new ByTimestamp();
+
+    private static final ImmutableMap<Class<?>, EpochExtractor<?>> builtIn =
+            ImmutableMap.<Class<?>, EpochExtractor<?>>builder()
+                    .put(Timestamp.class, TIMESTAMP)
+                    .put(LocalDate.class, LOCAL_DATE)
+                    .put(LocalDateTime.class, LOCAL_DATE_TIME)
+                    .put(YearMonth.class, YEAR_MONTH)
+                    .put(ZonedDateTime.class, ZONED_DATE_TIME)
+                    .build();
+
+    private static final ConcurrentMap<Class<?>, EpochExtractor<?>> extractors =
+            new ConcurrentHashMap<>(builtIn);
+
+    /** Prevents instantiation of this utility class. */
+    private EpochExtractors() {
+    }
+
+    /**
+     * Registers the extractor for the given message type.
+     *
+     * <p>Replaces the extractor previously registered or computed for the type.
+     * The extractors of the time types of this library cannot be replaced.
+     *
+     * <p>The registration has no effect on the message types already
+     * {@linkplain TemporalFields#of(Class) compiled} into {@link TemporalFields}, as well as
+     * on the comparators previously obtained via {@link Temporals#comparator(Class)}.
+     * Therefore, extractors should be registered before the values of the type are processed.
+     *
+     * @param type
+     *         the class of the messages
+     * @param extractor
+     *         the extractor for the messages of the type
+     * @param <M>
+     *         the type of the messages
+     */
+    public static <M extends Message> void register(Class<M> type,
+                                                    EpochExtractor<? super M> extractor) {
+        checkNotNull(type);
+        checkNotNull(extractor);
+        checkArgument(!builtIn.containsKey(type),
+                      "The extractor for `%s` cannot be replaced.", type.getName());
+        extractors.put(type, extractor);
+    }
+
+    /**
+     * Obtains the extractor for the given message type.
+     *
+     * @throws IllegalArgumentException
+     *         if the type is neither a {@link Temporal} nor has a registered extractor
+     */
+    @SuppressWarnings("unchecked") // Ensured by `register(..)` and `derive(..)`.
+    public static <M extends Message> EpochExtractor<M> forType(Class<M> type) {
+        checkNotNull(type);
+        return (EpochExtractor<M>) lookup(type);
+    }
+
+    /**
+     * Obtains the number of whole seconds since the epoch of the given message.
+     *
+     * @throws IllegalArgumentException
+     *         if the message type is neither a {@link Temporal} nor has a registered extractor
+     */
+    public static long epochSecond(Message value) {
+        checkNotNull(value);
+        return extractorOf(value).epochSecond(value);
+    }
+
+    /**
+     * Obtains the fraction of the second of the given message.
+     *
+     * @throws IllegalArgumentException
+     *         if the message type is neither a {@link Temporal} nor has a registered extractor
+     */
+    public static int nanos(Message value) {
+        checkNotNull(value);
+        return extractorOf(value).nanos(value);
+    }
+
+    /**
+     * Obtains the number of nanoseconds since the epoch of the given message.
+     *
+     * @throws IllegalArgumentException
+     *         if the message type is neither a {@link Temporal} nor has a registered extractor,
+     *         or if the point in time cannot be represented as {@code long} nanoseconds
+     */
+    public static long epochNanos(Message value) {
+        checkNotNull(value);
+        return extractorOf(value).epochNanos(value);
+    }
+
+    @SuppressWarnings("unchecked") // The extractor is found by the class of the value.
+    private static EpochExtractor<Message> extractorOf(Message value) {
+        return (EpochExtractor<Message>) lookup(value.getClass());
+    }
+
+    private static EpochExtractor<?> lookup(Class<?> type) {
+        var result = extractors.get(type);
+        if (result == null) {
+            result = extractors.computeIfAbsent(type, EpochExtractors::derive);
+        }
+        return result;
+    }
+
+    private static EpochExtractor<?> derive(Class<?> type) {
+        if (!Temporal.class.isAssignableFrom(type)) {
+            throw newIllegalArgumentException(
+                    "The type `%s` cannot represent a point in time.", type.getName()
+            );
+        }
+        return BY_TIMESTAMP;
+    }
+
+    private static long firstDaySecond(YearMonth value) {
+        var month = value.getMonthValue();
+        Months.checkMonth(month);
+        var epochDay = CalendarMath.epochDay(value.getYear(), month, 1);
+        return epochDay * SECONDS_PER_DAY;
+    }
+
+    /**
+     * Adds the point in time of the given value to the buffer.
+     *
+     * <p>For the values extracted via their timestamps, the timestamp is obtained once.
+     */
+    static void extract(EpochExtractor<Message> extractor,
+                        Message value,
+                        TemporalValues target,
+                        int pathIndex) {
+        if (extractor instanceof ByTimestamp) {
+            var timestamp = ByTimestamp.timestamp(value);
+            target.add(timestamp.getSeconds(), timestamp.getNanos(), pathIndex);
+        } else {
+            target.add(extractor.epochSecond(value), extractor.nanos(value), pathIndex);
+        }
+    }
+
+    /**
+     * Extracts the point in time of a {@link Temporal} message from its
+     * {@linkplain Temporal#toTimestamp() timestamp}.
+     *
+     * <p>Each operation obtains the timestamp of a message once.
+     */
+    private static final class ByTimestamp implements EpochExtractor<Message> {
+
+        @Override
+        public long epochSecond(Message value) {
+            return timestamp(value).getSeconds();
+        }
+
+        @Override
+        public int nanos(Message value) {
+            return timestamp(value).getNanos();
+        }
+
+        @Override
+        public long epochNanos(Message value) {
+            return EpochNanos.from(timestamp(value));
+        }
+
+        @Override
+        public int compare(Message a, Message b) {
+            return TimestampTemporal.compareUnchecked(timestamp(a), timestamp(b));
+        }
+
+        private static Timestamp timestamp(Message value) {
+            return ((Temporal<?>) value).toTimestamp();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+
+import java.time.Instant;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.CalendarMath.NANOS_PER_SECOND;
+import static io.spine.time.CalendarMath.SECONDS_PER_DAY;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Utilities for working with points in time represented as a {@code long} number of
+ * nanoseconds since the epoch of {@code 1970-01-01T00:00:00Z}.
+ *
+ * <p>A {@code long} of nanoseconds covers the time from year 1677 to year 2262. Conversions
+ * of the values out of this range throw {@code IllegalArgumentException}.
+ *
+ * <p>The conversions are performed arithmetically, without {@link InstantConverter} and
+ * intermediate Java Time objects.
+ *
+ * @see EpochNanosTemporal
+ */
+public final class EpochNanos {
+
+    /** Prevents instantiation of this utility class. */
+    private EpochNanos() {
+    }
+
+    /**
+     * Obtains the number of nanoseconds since the epoch for the given seconds and
+     * nanoseconds since the epoch.
+     *
+     * @throws IllegalArgumentException
+     *         if the point in time cannot be represented as {@code long} nanoseconds
+     */
+    public static long from(long epochSecond, int nanos) {
+        try {
+            var seconds = Math.multiplyExact(epochSecond, NANOS_PER_SECOND);
+            return Math.addExact(seconds, nanos);
+        } catch (ArithmeticException e) {
+            throw newIllegalArgumentException(
+                    e, "The time `%d.%09d` is out of the range of epoch nanoseconds.",
+                    epochSecond, nanos);
+        }
+    }
+
+    /**
+     * Obtains the number of nanoseconds since the epoch for the given timestamp.
+     *
+     * @throws IllegalArgumentException
+     *         if the point in time cannot be represented as {@code long} nanoseconds
+     */
+    public static long from(Timestamp value) {
+        checkNotNull(value);
+        return from(value.getSeconds(), value.getNanos());
+    }
+
+    /**
+     * Obtains the number of nanoseconds since the epoch for the given instant.
+     *
+     * @throws IllegalArgumentException
+     *         if the point in time cannot be represented as {@code long} nanoseconds
+     */
+    public static long from(Instant value) {
+        checkNotNull(value);
+        return from(value.getEpochSecond(), value.getNano());
+    }
+
+    /**
+     * Obtains the number of nanoseconds since the epoch for the given temporal value.
+     *
+     * <p>Temporal messages are converted via their {@linkplain EpochExtractors epoch
+     * extractors}, which read the fields of the time types of this library directly.
+     * Other values are converted via their {@linkplain Temporal#toTimestamp() timestamps}.
+     *
+     * @throws IllegalArgumentException
+     *         if the point in time cannot be represented as {@code long} nanoseconds
+     */
+    public static long from(Temporal<?> value) {
+        checkNotNull(value);
+        if (value instanceof EpochNanosTemporal) {
+            return ((EpochNanosTemporal) value).value();
+        }
+        if (value instanceof CachedTemporal) {
+            var cached = (CachedTemporal<?>) value;
+            return from(cached.seconds(), cached.nanos());
+        }
+        if (value instanceof Message) {
+            return EpochExtractors.epochNanos((Message) value);
+        }
+        return from(value.toTimestamp());
+    }
+
+    /**
+     * Obtains the number of whole seconds since the epoch.
+     */
+    public static long epochSecond(long epochNanos) {
+        return Math.floorDiv(epochNanos, NANOS_PER_SECOND);
+    }
+
+    /**
+     * Obtains the fraction of the second, from 0 to 999,999,999.
+     */
+    public static int nanoOfSecond(long epochNanos) {
+        return (int) Math.floorMod(epochNanos, NANOS_PER_SECOND);
+    }
+
+    /**
+     * Creates a timestamp for the given number of nanoseconds since the epoch.
+     */
+    public static Timestamp toTimestamp(long epochNanos) {
+        return Timestamp.newBuilder()
+                .setSeconds(epochSecond(epochNanos))
+                .setNanos(nanoOfSecond(epochNanos))
+                .build();
+    }
+
+    /**
+     * Creates an instant for the given number of nanoseconds since the epoch.
+     */
+    public static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(epochSecond(epochNanos), nanoOfSecond(epochNanos));
+    }
+
+    /**
+     * Obtains the date of the given point in time in UTC.
+     */
+    public static LocalDate toLocalDate(long epochNanos) {
+        var epochDay = Math.floorDiv(epochSecond(epochNanos), SECONDS_PER_DAY);
+        return CalendarMath.toLocalDate(epochDay);
+    }
+
+    /**
+     * Obtains the date and time of the given point in time in UTC.
+     */
+    public static LocalDateTime toLocalDateTime(long epochNanos) {
+        return CalendarMath.toLocalDateTime(epochSecond(epochNanos), nanoOfSecond(epochNanos));
+    }
+
+    /**
+     * Obtains the date and time of the given point in time in the given zone.
+     */
+    public static ZonedDateTime toZonedDateTime(long epochNanos, ZoneId zone) {
+        checkNotNull(zone);
+        return ZonedDateTimes.atEpochSecond(epochSecond(epochNanos),
+                                            nanoOfSecond(epochNanos),
+                                            zone);
+    }
+}
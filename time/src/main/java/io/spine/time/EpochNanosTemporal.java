@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Timestamp;
+import io.spine.protobuf.AnyPacker;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.EpochNanos.epochSecond;
+import static io.spine.time.EpochNanos.nanoOfSecond;
+
+/**
+ * A {@link Temporal} which holds a point in time as a {@code long} number of nanoseconds
+ * since the epoch.
+ *
+ * <p>Creating an instance does not validate or convert anything. Comparisons between
+ * instances compare the {@code long} values. Comparisons with a {@code Timestamp} or
+ * an {@code Instant} compare the seconds and the nanoseconds without creating
+ * intermediate objects.
+ *
+ * @see EpochNanos
+ */
+public final class EpochNanosTemporal implements Temporal<EpochNanosTemporal> {
+
+    private final long value;
+
+    private EpochNanosTemporal(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates a new instance with the given number of nanoseconds since the epoch.
+     */
+    public static EpochNanosTemporal of(long epochNanos) {
+        return new EpochNanosTemporal(epochNanos);
+    }
+
+    /**
+     * Obtains the number of nanoseconds since the epoch.
+     */
+    public long value() {
+        return value;
+    }
+
+    @Override
+    public Instant toInstant() {
+        return EpochNanos.toInstant(value);
+    }
+
+    @Override
+    public Timestamp toTimestamp() {
+        return EpochNanos.toTimestamp(value);
+    }
+
+    /**
+     * Packs the {@linkplain #toTimestamp() timestamp} of this value.
+     */
+    @Override
+    public Any packed() {
+        return AnyPacker.pack(toTimestamp());
+    }
+
+    @Override
+    public int compareTo(EpochNanosTemporal other) {
+        checkNotNull(other);
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public int compareTo(Timestamp other) {
+        checkNotNull(other);
+        return compare(other.getSeconds(), other.getNanos());
+    }
+
+    @Override
+    public int compareTo(Instant other) {
+        checkNotNull(other);
+        return compare(other.getEpochSecond(), other.getNano());
+    }
+
+    private int compare(long otherSeconds, int otherNanos) {
+        var result = Long.compare(epochSecond(value), otherSeconds);
+        if (result == 0) {
+            result = Integer.compare(nanoOfSecond(value), otherNanos);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EpochNanosTemporal)) {
+            return false;
+        }
+        var other = (EpochNanosTemporal) o;
+        return value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return toInstant().toString();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import io.spine.base.Time;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A hybrid logical clock which serves as the {@linkplain Time.Provider provider} of
+ * the current time.
+ *
+ * <p>A hybrid logical clock combines the physical time with a logical counter. The timestamps
+ * issued by the clock of a node strictly increase, even if the physical time stands still or
+ * goes back. When a node receives a timestamp from a peer, it {@linkplain #update(Timestamp)
+ * updates} its clock, so that the timestamps issued afterwards are greater than the received
+ * one. This preserves the causal order of events stamped by nodes with skewed clocks, while
+ * the timestamps stay close to the physical time.
+ *
+ * <h2>Encoding</h2>
+ *
+ * <p>The physical part of a timestamp is measured in milliseconds. The logical counter
+ * occupies the sub-millisecond part of the {@code nanos} field of the {@code Timestamp}.
+ * Thus, a timestamp issued by the clock is a regular {@code Timestamp}, and the timestamps
+ * are ordered by {@link com.google.protobuf.util.Timestamps#compare Timestamps.compare()},
+ * by {@link Temporal} and by the {@code (when)} validation as usual.
+ *
+ * <p>If more than a million timestamps are issued within a millisecond,
+ * the counter overflows to the next millisecond. The clock then runs ahead of the physical
+ * time until the physical time catches up.
+ *
+ * <p>The state of the clock is a single {@code long} of nanoseconds since the epoch, updated
+ * via compare-and-set. The clock does not use locks. The supported range of time is the range
+ * of nanoseconds since the epoch representable as {@code long}, that is, from year 1677
+ * to year 2262.
+ */
+public final class HybridLogicalClock implements Time.Provider {
+
+    /**
+     * The number of nanoseconds in a millisecond, which is also the number of values
+     * of the logical counter within a millisecond.
+     */
+    private static final long COUNTER_LIMIT = 1_000_000L;
+
+    private final Time.Provider physicalTime;
+    private final AtomicLong state = new AtomicLong(Long.MIN_VALUE);
+
+    private HybridLogicalClock(Time.Provider physicalTime) {
+        this.physicalTime = physicalTime;
+    }
+
+    /**
+     * Creates a clock which reads the physical time via {@link Time#systemTime()}.
+     */
+    public static HybridLogicalClock create() {
+        return new HybridLogicalClock(Time::systemTime);
+    }
+
+    /**
+     * Creates a clock which reads the physical time via the given provider.
+     *
+     * <p>The given provider must not be the clock itself, nor read the time via
+     * {@link Time#currentTime()} if the clock is installed as the current provider.
+     */
+    public static HybridLogicalClock create(Time.Provider physicalTime) {
+        checkNotNull(physicalTime);
+        return new HybridLogicalClock(physicalTime);
+    }
+
+    /**
+     * Issues a timestamp for a local event.
+     *
+     * <p>The result is greater than all the timestamps issued by this clock before
+     * and all the timestamps passed to {@link #update(Timestamp)}.
+     */
+    @Override
+    public Timestamp currentTime() {
+        var physical = physicalNanos();
+        var next = state.updateAndGet(last -> Math.max(last + 1, physical));
+        return EpochNanos.toTimestamp(next);
+    }
+
+    /**
+     * Updates the clock with a timestamp received from another node and issues
+     * a timestamp for the receiving event.
+     *
+     * @param received
+     *         the timestamp issued by the clock of another node
+     * @return the timestamp greater than the received one and all the timestamps
+     *         issued by this clock before
+     */
+    public Timestamp update(Timestamp received) {
+        checkNotNull(received);
+        var remote = EpochNanos.from(received);
+        var physical = physicalNanos();
+        var next = state.updateAndGet(
+                last -> Math.max(Math.max(last, remote) + 1, physical)
+        );
+        return EpochNanos.toTimestamp(next);
+    }
+
+    /**
+     * Obtains the physical part of the given timestamp, in milliseconds since the epoch.
+     */
+    public static long physicalMillis(Timestamp timestamp) {
+        checkNotNull(timestamp);
+        return Math.floorDiv(EpochNanos.from(timestamp), COUNTER_LIMIT);
+    }
+
+    /**
+     * Obtains the logical counter of the given timestamp.
+     */
+    public static int logicalCounter(Timestamp timestamp) {
+        checkNotNull(timestamp);
+        return (int) Math.floorMod(EpochNanos.from(timestamp), COUNTER_LIMIT);
+    }
+
+    /**
+     * Obtains the physical time truncated to milliseconds, in nanoseconds since the epoch.
+     */
+    private long physicalNanos() {
+        var nanos = EpochNanos.from(physicalTime.currentTime());
+        return nanos - Math.floorMod(nanos, COUNTER_LIMIT);
+    }
+}
@@ -27,6 +27,7 @@
 package io.spine.time;
 
 import com.google.common.base.Converter;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Timestamp;
 import io.spine.annotation.Internal;
 
@@ -55,8 +56,13 @@ public final class InstantConverter extends Converter<Instant, Timestamp>
         return instance().reverse();
     }
 
-    @Override
-    protected Timestamp doForward(Instant value) {
+    /**
+     * Converts the given {@code Instant} to a {@code Timestamp}.
+     *
+     * <p>Unlike {@code instance().convert(value)}, does not go through
+     * the {@code Converter} machinery.
+     */
+    public static Timestamp toTimestamp(Instant value) {
         checkNotNull(value);
         var result = Timestamp.newBuilder()
                 .setSeconds(value.getEpochSecond())
@@ -65,13 +71,43 @@ public final class InstantConverter extends Converter<Instant, Timestamp>
         return result;
     }
 
-    @Override
-    protected Instant doBackward(Timestamp value) {
+    /**
+     * Writes the given {@code Instant} into the given {@code Timestamp} builder.
+     *
+     * <p>Allows reusing the same builder for converting many values.
+     *
+     * @return the passed builder
+     */
+    @CanIgnoreReturnValue
+    public static Timestamp.Builder toTimestamp(Instant value, Timestamp.Builder target) {
+        checkNotNull(value);
+        checkNotNull(target);
+        return target.setSeconds(value.getEpochSecond())
+                     .setNanos(value.getNano());
+    }
+
+    /**
+     * Converts the given {@code Timestamp} to an {@code Instant}.
+     *
+     * <p>Unlike {@code reversed().convert(value)}, does not go through
+     * the {@code Converter} machinery.
+     */
+    public static Instant toInstant(Timestamp value) {
         checkNotNull(value);
         var result = Instant.ofEpochSecond(value.getSeconds(), value.getNanos());
         return result;
     }
 
+    @Override
+    protected Timestamp doForward(Instant value) {
+        return toTimestamp(value);
+    }
+
+    @Override
+    protected Instant doBackward(Timestamp value) {
+        return toInstant(value);
+    }
+
     @Serial
     private Object readResolve() {
         return INSTANCE;
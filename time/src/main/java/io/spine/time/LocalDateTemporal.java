@@ -96,4 +96,78 @@ interface LocalDateTemporal extends TemporalMessage<LocalDate>, LocalDateOrBuild
         var result = converter().reverse().convert(self);
         return requireNonNull(result);
     }
+
+    /**
+     * Obtains a copy of this date with the given number of days added.
+     *
+     * <p>The result is calculated from the fields of this date without converting
+     * it to Java Time.
+     *
+     * @throws IllegalStateException
+     *         if this date is not valid
+     * @throws IllegalArgumentException
+     *         if the result is out of the supported range of years
+     */
+    default LocalDate plusDays(long days) {
+        @SuppressWarnings("ClassReferencesSubclass") // OK for mixins
+        var self = (LocalDate) this;
+        return CalendarMath.plusDays(self, days);
+    }
+
+    /**
+     * Obtains a copy of this date with the given number of days subtracted.
+     *
+     * @see #plusDays(long)
+     */
+    default LocalDate minusDays(long days) {
+        return plusDays(Math.negateExact(days));
+    }
+
+    /**
+     * Obtains a copy of this date with the given number of months added.
+     *
+     * <p>If the day of this date does not exist in the resulting month, the last valid day
+     * of the month is taken. For example, adding one month to {@code 2024-01-31} gives
+     * {@code 2024-02-29}.
+     *
+     * @throws IllegalStateException
+     *         if this date is not valid
+     * @throws IllegalArgumentException
+     *         if the result is out of the supported range of years
+     */
+    default LocalDate plusMonths(long months) {
+        @SuppressWarnings("ClassReferencesSubclass") // OK for mixins
+        var self = (LocalDate) this;
+        return CalendarMath.plusMonths(self, months);
+    }
+
+    /**
+     * Obtains a copy of this date with the given number of months subtracted.
+     *
+     * @see #plusMonths(long)
+     */
+    default LocalDate minusMonths(long months) {
+        return plusMonths(Math.negateExact(months));
+    }
+
+    /**
+     * Obtains a copy of this date with the given number of years added.
+     *
+     * <p>If this date is February 29 and the resulting year is not a leap one,
+     * February 28 is taken.
+     *
+     * @see #plusMonths(long)
+     */
+    default LocalDate plusYears(long years) {
+        return plusMonths(Math.multiplyExact(years, CalendarMath.MONTHS_PER_YEAR));
+    }
+
+    /**
+     * Obtains a copy of this date with the given number of years subtracted.
+     *
+     * @see #plusYears(long)
+     */
+    default LocalDate minusYears(long years) {
+        return plusYears(Math.negateExact(years));
+    }
 }
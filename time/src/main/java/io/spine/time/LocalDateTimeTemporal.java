@@ -26,11 +26,15 @@
 
 package io.spine.time;
 
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
 import io.spine.annotation.GeneratedMixin;
 
 import java.time.Instant;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.time.LocalDateTimes.converter;
+import static io.spine.time.LocalDateTimes.create;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Objects.requireNonNull;
 
@@ -67,4 +71,98 @@ interface LocalDateTimeTemporal extends TemporalMessage<LocalDateTime>, LocalDat
         var result = converter().reverse().convert(self);
         return requireNonNull(result);
     }
+
+    /**
+     * Obtains a copy of this date/time with the given duration added.
+     *
+     * <p>The duration is added in the local time-line. The result is calculated from
+     * the fields of this date/time without converting it to Java Time.
+     *
+     * @throws IllegalArgumentException
+     *         if the duration is not valid, or the result is out of the supported range
+     * @throws IllegalStateException
+     *         if the date of this instance is not valid
+     */
+    default LocalDateTime plus(Duration duration) {
+        checkNotNull(duration);
+        Durations.checkValid(duration);
+        @SuppressWarnings("ClassReferencesSubclass") // OK for mixins
+        var self = (LocalDateTime) this;
+        return CalendarMath.plusSeconds(self, duration.getSeconds(), duration.getNanos());
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given duration subtracted.
+     *
+     * @see #plus(Duration)
+     */
+    default LocalDateTime minus(Duration duration) {
+        checkNotNull(duration);
+        Durations.checkValid(duration);
+        @SuppressWarnings("ClassReferencesSubclass") // OK for mixins
+        var self = (LocalDateTime) this;
+        return CalendarMath.plusSeconds(self,
+                                        Math.negateExact(duration.getSeconds()),
+                                        -duration.getNanos());
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of days added.
+     *
+     * <p>The time part stays the same.
+     *
+     * @see LocalDate#plusDays(long)
+     */
+    default LocalDateTime plusDays(long days) {
+        return create(getDate().plusDays(days), getTime());
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of days subtracted.
+     *
+     * @see #plusDays(long)
+     */
+    default LocalDateTime minusDays(long days) {
+        return plusDays(Math.negateExact(days));
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of months added.
+     *
+     * <p>The time part stays the same.
+     *
+     * @see LocalDate#plusMonths(long)
+     */
+    default LocalDateTime plusMonths(long months) {
+        return create(getDate().plusMonths(months), getTime());
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of months subtracted.
+     *
+     * @see #plusMonths(long)
+     */
+    default LocalDateTime minusMonths(long months) {
+        return plusMonths(Math.negateExact(months));
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of years added.
+     *
+     * <p>The time part stays the same.
+     *
+     * @see LocalDate#plusYears(long)
+     */
+    default LocalDateTime plusYears(long years) {
+        return create(getDate().plusYears(years), getTime());
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of years subtracted.
+     *
+     * @see #plusYears(long)
+     */
+    default LocalDateTime minusYears(long years) {
+        return plusYears(Math.negateExact(years));
+    }
 }
@@ -26,10 +26,18 @@
 
 package io.spine.time;
 
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
 import io.spine.time.string.TimeStringifiers;
 import io.spine.util.SerializableConverter;
 
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.CalendarMath.NANOS_PER_SECOND;
+import static io.spine.time.CalendarMath.localEpochSecond;
 import static io.spine.time.LocalDates.checkDate;
 import static java.util.Objects.requireNonNull;
 
@@ -38,6 +46,8 @@ import static java.util.Objects.requireNonNull;
  */
 public final class LocalDateTimes {
 
+    private static final BigInteger NANOS_PER_SECOND_BIG = BigInteger.valueOf(NANOS_PER_SECOND);
+
     /** Prevents instantiation of this utility class. */
     private LocalDateTimes() {
     }
@@ -61,7 +71,7 @@ public final class LocalDateTimes {
         return create(date, time);
     }
 
-    private static LocalDateTime create(LocalDate date, LocalTime time) {
+    static LocalDateTime create(LocalDate date, LocalTime time) {
         var result = LocalDateTime.newBuilder()
                 .setDate(date)
                 .setTime(time)
@@ -109,6 +119,82 @@ public final class LocalDateTimes {
         return requireNonNull(result);
     }
 
+    /**
+     * Obtains the date-time values from {@code start}, inclusive, to {@code endExclusive},
+     * exclusive, taken with the given step.
+     *
+     * <p>The values are calculated from the fields of the messages without converting them
+     * to Java Time. A message is created only when the stream consumes it.
+     * The returned stream may be {@linkplain Stream#parallel() processed in parallel}.
+     *
+     * <p>The step is applied to the local time-line. That is, stepping by 24 hours always
+     * gives the same time of the next day.
+     *
+     * <p>If {@code endExclusive} is not after {@code start}, the stream is empty.
+     *
+     * @param start
+     *         the first value of the range
+     * @param endExclusive
+     *         the value before which the range ends
+     * @param step
+     *         the duration between two consecutive values of the range
+     * @throws IllegalArgumentException
+     *         if one of the dates is invalid, the step is not positive, or the range
+     *         contains more than {@link Long#MAX_VALUE} values
+     */
+    public static Stream<LocalDateTime>
+    range(LocalDateTime start, LocalDateTime endExclusive, Duration step) {
+        checkNotNull(start);
+        checkNotNull(endExclusive);
+        checkNotNull(step);
+        checkDate(start.getDate());
+        checkDate(endExclusive.getDate());
+        checkArgument(Durations.isPositive(step),
+                      "The step must be positive: `%s`.", Durations.toString(step));
+        var firstSecond = localEpochSecond(start);
+        var firstNano = start.getTime().getNano();
+        var distance = nanosBetween(firstSecond, firstNano,
+                                    localEpochSecond(endExclusive),
+                                    endExclusive.getTime().getNano());
+        var count = countSteps(distance, step);
+        var stepSeconds = step.getSeconds();
+        var stepNanos = step.getNanos();
+        return RangeSpliterator.stream(count, i -> {
+            // Split the index so that multiplying by the nanoseconds of the step cannot overflow.
+            var high = i / NANOS_PER_SECOND;
+            var low = i % NANOS_PER_SECOND;
+            var nanos = firstNano + low * stepNanos;
+            var seconds = firstSecond
+                    + i * stepSeconds
+                    + high * stepNanos
+                    + Math.floorDiv(nanos, NANOS_PER_SECOND);
+            var nano = (int) Math.floorMod(nanos, NANOS_PER_SECOND);
+            return CalendarMath.toLocalDateTime(seconds, nano);
+        });
+    }
+
+    private static BigInteger nanosBetween(long startSecond, int startNano,
+                                           long endSecond, int endNano) {
+        return BigInteger.valueOf(endSecond - startSecond)
+                         .multiply(NANOS_PER_SECOND_BIG)
+                         .add(BigInteger.valueOf(endNano - startNano));
+    }
+
+    private static long countSteps(BigInteger distance, Duration step) {
+        if (distance.signum() <= 0) {
+            return 0;
+        }
+        var stepNanos = BigInteger.valueOf(step.getSeconds())
+                                  .multiply(NANOS_PER_SECOND_BIG)
+                                  .add(BigInteger.valueOf(step.getNanos()));
+        var count = distance.subtract(BigInteger.ONE)
+                            .divide(stepNanos)
+                            .add(BigInteger.ONE);
+        checkArgument(count.bitLength() < Long.SIZE,
+                      "The range contains too many values: %s.", count);
+        return count.longValue();
+    }
+
     /**
      * Converts from Java Time and back.
      */
@@ -123,14 +209,14 @@ public final class LocalDateTimes {
         }
 
         @Override
-        protected LocalDateTime doForward(java.time.LocalDateTime value) {
+        protected LocalDateTime toMessage(java.time.LocalDateTime value) {
             var date = LocalDates.of(value.toLocalDate());
             var time = LocalTimes.of(value.toLocalTime());
             return create(date, time);
         }
 
         @Override
-        protected java.time.LocalDateTime doBackward(LocalDateTime value) {
+        protected java.time.LocalDateTime fromMessage(LocalDateTime value) {
             var date = value.date().toJavaTime();
             var time = value.time().toJavaTime();
             return java.time.LocalDateTime.of(date, time);
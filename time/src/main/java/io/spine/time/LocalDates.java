@@ -32,8 +32,10 @@ import io.spine.util.SerializableConverter;
 
 import java.time.DateTimeException;
 import java.time.YearMonth;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.CalendarMath.toLocalDate;
 import static io.spine.time.DtPreconditions.checkPositive;
 import static io.spine.time.Months.checkMonth;
 import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
@@ -96,6 +98,72 @@ public final class LocalDates {
         return requireNonNull(result);
     }
 
+    /**
+     * Obtains the dates from {@code start}, inclusive, to {@code endExclusive}, exclusive.
+     *
+     * @see #range(LocalDate, LocalDate, int)
+     */
+    public static Stream<LocalDate> range(LocalDate start, LocalDate endExclusive) {
+        return range(start, endExclusive, 1);
+    }
+
+    /**
+     * Obtains the dates from {@code start}, inclusive, to {@code endExclusive}, exclusive,
+     * taken with the given step.
+     *
+     * <p>The dates are calculated from the fields of the messages without converting them
+     * to Java Time. A date message is created only when the stream consumes it.
+     * The returned stream may be {@linkplain Stream#parallel() processed in parallel}.
+     *
+     * <p>If {@code endExclusive} is not after {@code start}, the stream is empty.
+     *
+     * @param start
+     *         the first date of the range
+     * @param endExclusive
+     *         the date before which the range ends
+     * @param stepDays
+     *         the number of days between two consecutive dates of the range
+     * @throws IllegalArgumentException
+     *         if one of the dates is invalid, or the step is not positive
+     */
+    public static Stream<LocalDate> range(LocalDate start, LocalDate endExclusive, int stepDays) {
+        checkDate(start);
+        checkDate(endExclusive);
+        checkPositive(stepDays);
+        var first = epochDay(start);
+        var count = RangeSpliterator.countSteps(first, epochDay(endExclusive), stepDays);
+        return RangeSpliterator.stream(count, i -> toLocalDate(first + i * stepDays));
+    }
+
+    private static long epochDay(LocalDate date) {
+        return CalendarMath.epochDay(date.getYear(), date.getMonthValue(), date.getDay());
+    }
+
+    /**
+     * Obtains the date of the given day since {@code 1970-01-01}.
+     *
+     * @param epochDay
+     *         the number of days since {@code 1970-01-01}, which may be negative
+     * @throws IllegalArgumentException
+     *         if the date is out of the supported range of years
+     * @see #toEpochDay(LocalDate)
+     */
+    public static LocalDate ofEpochDay(long epochDay) {
+        return CalendarMath.checkedLocalDate(epochDay);
+    }
+
+    /**
+     * Obtains the number of days passed since {@code 1970-01-01} till the given date.
+     *
+     * @throws IllegalArgumentException
+     *         if the date is not valid
+     * @see #ofEpochDay(long)
+     */
+    public static long toEpochDay(LocalDate date) {
+        checkDate(date);
+        return epochDay(date);
+    }
+
     private static Stringifier<LocalDate> stringifier() {
         return TimeStringifiers.forLocalDate();
     }
@@ -180,7 +248,7 @@ public final class LocalDates {
         }
 
         @Override
-        protected LocalDate doForward(java.time.LocalDate date) {
+        protected LocalDate toMessage(java.time.LocalDate date) {
             var result = LocalDate.newBuilder()
                     .setYear(date.getYear())
                     .setMonth(Months.of(date))
@@ -190,7 +258,7 @@ public final class LocalDates {
         }
 
         @Override
-        protected java.time.LocalDate doBackward(LocalDate date) {
+        protected java.time.LocalDate fromMessage(LocalDate date) {
             var result = java.time.LocalDate.of(
                     date.getYear(),
                     date.getMonthValue(),
@@ -29,7 +29,10 @@ import io.spine.string.Stringifier;
 import io.spine.time.string.TimeStringifiers;
 import io.spine.util.SerializableConverter;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.CalendarMath.NANOS_PER_SECOND;
+import static io.spine.time.CalendarMath.SECONDS_PER_DAY;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -37,6 +40,8 @@ import static java.util.Objects.requireNonNull;
  */
 public final class LocalTimes {
 
+    private static final long NANOS_PER_DAY = SECONDS_PER_DAY * NANOS_PER_SECOND;
+
     /** Prevent instantiation of this utility class. */
     private LocalTimes() {
     }
@@ -89,6 +94,36 @@ public final class LocalTimes {
         return of(hours, minutes, 0, 0);
     }
 
+    /**
+     * Obtains the local time of the given nanosecond of a day.
+     *
+     * @param nanoOfDay
+     *         the number of nanoseconds since midnight
+     * @throws IllegalArgumentException
+     *         if the value is negative or not less than the number of nanoseconds in a day
+     * @see #toNanoOfDay(LocalTime)
+     */
+    public static LocalTime ofNanoOfDay(long nanoOfDay) {
+        checkArgument(nanoOfDay >= 0 && nanoOfDay < NANOS_PER_DAY,
+                      "The nanosecond of a day is out of range: %s.", nanoOfDay);
+        var secondOfDay = (int) (nanoOfDay / NANOS_PER_SECOND);
+        var nanos = (int) (nanoOfDay % NANOS_PER_SECOND);
+        return CalendarMath.toLocalTime(secondOfDay, nanos);
+    }
+
+    /**
+     * Obtains the number of nanoseconds passed since midnight till the given time.
+     *
+     * @throws java.time.DateTimeException
+     *         if one of the fields of the time is out of range
+     * @see #ofNanoOfDay(long)
+     */
+    public static long toNanoOfDay(LocalTime time) {
+        checkNotNull(time);
+        var secondOfDay = CalendarMath.secondOfDay(time);
+        return secondOfDay * NANOS_PER_SECOND + time.getNano();
+    }
+
     /**
      * Converts the passed time to string with optional part representing a fraction of a second.
      *
@@ -138,7 +173,7 @@ public final class LocalTimes {
         }
 
         @Override
-        protected LocalTime doForward(java.time.LocalTime value) {
+        protected LocalTime toMessage(java.time.LocalTime value) {
             var result = LocalTime.newBuilder()
                     .setHour(value.getHour())
                     .setMinute(value.getMinute())
@@ -149,7 +184,7 @@ public final class LocalTimes {
         }
 
         @Override
-        protected java.time.LocalTime doBackward(LocalTime value) {
+        protected java.time.LocalTime fromMessage(LocalTime value) {
             var result = java.time.LocalTime
                     .of(value.getHour(),
                         value.getMinute(),
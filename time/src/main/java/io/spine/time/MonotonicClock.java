@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import io.spine.base.Time;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A source of unique, strictly increasing timestamps which may serve as
+ * the {@linkplain Time.Provider provider} of the current time.
+ *
+ * <p>The physical time may return the same value for many calls within its resolution, or
+ * even go back. This clock issues a timestamp which is greater than all the timestamps issued
+ * before, in any thread, by at least one nanosecond. While the calls are less frequent than
+ * the resolution of the physical time, the timestamps follow the physical time.
+ *
+ * <p>The state of the clock is a single {@code long} of nanoseconds since the epoch.
+ * A call attempts a single compare-and-set to move the state to the physical time. If
+ * the state is already ahead of the physical time, or another thread moved the state
+ * concurrently, the state is atomically incremented instead. Therefore, a call never
+ * retries, no matter how many threads call the clock at once.
+ *
+ * <p>The supported range of time is the range of nanoseconds since the epoch representable
+ * as {@code long}, that is, from year 1677 to year 2262.
+ */
+public final class MonotonicClock implements Time.Provider {
+
+    private final Time.Provider physicalTime;
+    private final AtomicLong state = new AtomicLong(Long.MIN_VALUE);
+
+    private MonotonicClock(Time.Provider physicalTime) {
+        this.physicalTime = physicalTime;
+    }
+
+    /**
+     * Creates a clock which reads the physical time via {@link Time#systemTime()}.
+     */
+    public static MonotonicClock create() {
+        return new MonotonicClock(Time::systemTime);
+    }
+
+    /**
+     * Creates a clock which reads the physical time via the given provider.
+     *
+     * <p>The given provider must not be the clock itself, nor read the time via
+     * {@link Time#currentTime()} if the clock is installed as the current provider.
+     */
+    public static MonotonicClock create(Time.Provider physicalTime) {
+        checkNotNull(physicalTime);
+        return new MonotonicClock(physicalTime);
+    }
+
+    /**
+     * Issues the next timestamp.
+     */
+    @Override
+    public Timestamp currentTime() {
+        return EpochNanos.toTimestamp(nextNanos());
+    }
+
+    /**
+     * Issues the next point in time as the number of nanoseconds since the epoch,
+     * without creating a {@code Timestamp}.
+     */
+    public long nextNanos() {
+        var physical = physicalNanos();
+        var last = state.get();
+        if (physical > last && state.compareAndSet(last, physical)) {
+            return physical;
+        }
+        return state.incrementAndGet();
+    }
+
+    private long physicalNanos() {
+        return EpochNanos.from(physicalTime.currentTime());
+    }
+}
@@ -140,13 +140,13 @@ public final class Months {
         }
 
         @Override
-        protected Month doForward(java.time.Month month) {
+        protected Month toMessage(java.time.Month month) {
             var result = Month.forNumber(month.getValue());
             return requireNonNull(result);
         }
 
         @Override
-        protected java.time.Month doBackward(Month month) {
+        protected java.time.Month fromMessage(Month month) {
             return java.time.Month.of(month.getNumber());
         }
 
@@ -26,26 +26,42 @@
 
 package io.spine.time;
 
+import com.google.protobuf.Timestamp;
 import io.spine.base.Time;
 
 import java.time.ZonedDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.base.Time.currentTimeZone;
-import static java.util.Objects.requireNonNull;
+import static io.spine.time.CalendarMath.NANOS_PER_SECOND;
+import static io.spine.time.CalendarMath.SECONDS_PER_DAY;
 
 /**
  * The current time.
  *
  * <p>An instance of {@code Now} always obtains the {@linkplain Time#currentTime() current time} in
  * different formats. The time zone is fixed for a given instance.
+ *
+ * <p>Instances are immutable and are cached per time zone, so obtaining a {@code Now}
+ * for a zone which was already used does not allocate. The cache is read without locking,
+ * which suits the code running in many virtual threads.
+ *
+ * <p>The primitive accessors, such as {@link #epochDay()} or {@link #nanoOfDay()}, do not
+ * create date/time messages. Each call of an accessor reads the current time anew.
  */
 public final class Now {
 
+    private static final ConcurrentMap<java.time.ZoneId, Now> instances =
+            new ConcurrentHashMap<>();
+
     private final java.time.ZoneId timeZone;
+    private final ZoneOffsetCache offsets;
 
     private Now(java.time.ZoneId timeZone) {
         this.timeZone = timeZone;
+        this.offsets = ZoneOffsetCache.of(timeZone);
     }
 
     /**
@@ -56,7 +72,13 @@ public final class Now {
      */
     public static Now get(java.time.ZoneId timeZone) {
         checkNotNull(timeZone);
-        return new Now(timeZone);
+        var cached = instances.get(timeZone);
+        if (cached != null) {
+            return cached;
+        }
+        var created = new Now(timeZone);
+        var existing = instances.putIfAbsent(timeZone, created);
+        return existing != null ? existing : created;
     }
 
     /**
@@ -127,24 +149,53 @@ public final class Now {
      * Obtains the current time as a {@code LocalDate}.
      */
     public LocalDate asLocalDate() {
-        var jt = now().toLocalDate();
-        return LocalDates.of(jt);
+        var local = localEpochSecond(Time.currentTime());
+        return CalendarMath.toLocalDate(Math.floorDiv(local, SECONDS_PER_DAY));
     }
 
     /**
      * Obtains the current time as a {@code LocalTime}.
      */
     public LocalTime asLocalTime() {
-        var jt = now().toLocalTime();
-        return LocalTimes.of(jt);
+        var time = Time.currentTime();
+        var secondOfDay = Math.floorMod(localEpochSecond(time), SECONDS_PER_DAY);
+        return CalendarMath.toLocalTime(secondOfDay, time.getNanos());
     }
 
     /**
      * Obtains the current time as a {@code LocalDateTime}.
      */
     public LocalDateTime asLocalDateTime() {
-        var jt = now().toLocalDateTime();
-        return LocalDateTimes.of(jt);
+        var time = Time.currentTime();
+        return CalendarMath.toLocalDateTime(localEpochSecond(time), time.getNanos());
+    }
+
+    /**
+     * Obtains the number of seconds from the epoch of {@code 1970-01-01T00:00:00Z}.
+     *
+     * <p>The result does not depend on the time zone of this instance.
+     */
+    public long epochSecond() {
+        return Time.currentTime().getSeconds();
+    }
+
+    /**
+     * Obtains the number of the current day in the time zone of this instance,
+     * counting from {@code 1970-01-01}.
+     */
+    public long epochDay() {
+        var local = localEpochSecond(Time.currentTime());
+        return Math.floorDiv(local, SECONDS_PER_DAY);
+    }
+
+    /**
+     * Obtains the number of nanoseconds passed since the start of the current day
+     * in the time zone of this instance.
+     */
+    public long nanoOfDay() {
+        var time = Time.currentTime();
+        var secondOfDay = Math.floorMod(localEpochSecond(time), SECONDS_PER_DAY);
+        return secondOfDay * NANOS_PER_SECOND + time.getNanos();
     }
 
     /**
@@ -179,10 +230,18 @@ public final class Now {
         return ZonedDateTimes.of(now());
     }
 
+    /**
+     * Obtains the number of seconds since {@code 1970-01-01T00:00:00} in the local time-line
+     * of the time zone of this instance.
+     */
+    private long localEpochSecond(Timestamp time) {
+        var seconds = time.getSeconds();
+        return seconds + offsets.offsetAt(seconds);
+    }
+
     private ZonedDateTime now() {
         var time = Time.currentTime();
-        var instant = InstantConverter.reversed().convert(time);
-        requireNonNull(instant);
+        var instant = InstantConverter.toInstant(time);
         return ZonedDateTime.ofInstant(instant, timeZone);
     }
 }
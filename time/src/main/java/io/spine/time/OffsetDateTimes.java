@@ -125,7 +125,7 @@ public final class OffsetDateTimes {
         }
 
         @Override
-        protected OffsetDateTime doForward(java.time.OffsetDateTime value) {
+        protected OffsetDateTime toMessage(java.time.OffsetDateTime value) {
             var ld = value.toLocalDate();
             var lt = value.toLocalTime();
             var zo = value.toZonedDateTime().getOffset();
@@ -135,7 +135,7 @@ public final class OffsetDateTimes {
         }
 
         @Override
-        protected java.time.OffsetDateTime doBackward(OffsetDateTime value) {
+        protected java.time.OffsetDateTime fromMessage(OffsetDateTime value) {
             var result = java.time.OffsetDateTime.of(
                     LocalDateTimes.toJavaTime(value.getDateTime()),
                     ZoneOffsets.toJavaTime(value.getOffset())
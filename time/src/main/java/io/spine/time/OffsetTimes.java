@@ -126,14 +126,14 @@ public final class OffsetTimes {
         }
 
         @Override
-        protected OffsetTime doForward(java.time.OffsetTime value) {
+        protected OffsetTime toMessage(java.time.OffsetTime value) {
             var lt = value.toLocalTime();
             var zo = value.getOffset();
             return of(LocalTimes.of(lt), ZoneOffsets.of(zo));
         }
 
         @Override
-        protected java.time.OffsetTime doBackward(OffsetTime value) {
+        protected java.time.OffsetTime fromMessage(OffsetTime value) {
             var result = java.time.OffsetTime.of(
                     LocalTimes.toJavaTime(value.getTime()),
                     ZoneOffsets.toJavaTime(value.getOffset())
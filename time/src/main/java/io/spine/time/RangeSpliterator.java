@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A spliterator over a range of date/time values with a fixed step.
+ *
+ * <p>The spliterator traverses indices of the values in the range. A value is created by
+ * the given function from its index only when the value is consumed. Knowing the number of
+ * values in advance allows splitting the range exactly in halves for parallel processing.
+ *
+ * @param <T>
+ *         the type of the values
+ */
+final class RangeSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS =
+            ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+    private final LongFunction<T> valueAt;
+    private long index;
+    private final long end;
+
+    private RangeSpliterator(LongFunction<T> valueAt, long index, long end) {
+        this.valueAt = valueAt;
+        this.index = index;
+        this.end = end;
+    }
+
+    /**
+     * Creates a sequential stream of values with indices from zero to {@code count},
+     * exclusive.
+     *
+     * @param count
+     *         the number of values in the range
+     * @param valueAt
+     *         the function creating a value by its index
+     */
+    static <T> Stream<T> stream(long count, LongFunction<T> valueAt) {
+        checkNotNull(valueAt);
+        var spliterator = new RangeSpliterator<>(valueAt, 0, Math.max(count, 0));
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Obtains the number of steps needed to get from {@code start} to {@code endExclusive}.
+     */
+    static long countSteps(long start, long endExclusive, long step) {
+        if (endExclusive <= start) {
+            return 0;
+        }
+        var distance = endExclusive - start;
+        return (distance - 1) / step + 1;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        checkNotNull(action);
+        if (index >= end) {
+            return false;
+        }
+        action.accept(valueAt.apply(index));
+        index++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        checkNotNull(action);
+        for (; index < end; index++) {
+            action.accept(valueAt.apply(index));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("ReturnOfNull") // Required by the contract of `Spliterator`.
+    public Spliterator<T> trySplit() {
+        var remaining = end - index;
+        if (remaining < 2) {
+            return null;
+        }
+        var middle = index + remaining / 2;
+        var prefix = new RangeSpliterator<>(valueAt, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,560 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.base.MoreObjects;
+import com.google.protobuf.Timestamp;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.CalendarMath.NANOS_PER_SECOND;
+import static io.spine.time.CalendarMath.SECONDS_PER_DAY;
+import static io.spine.time.RecurrenceRule.LimitCase.COUNT;
+import static io.spine.time.RecurrenceRule.LimitCase.UNTIL;
+import static io.spine.time.ZoneOffsetCache.MAX_OFFSET_SECONDS;
+
+/**
+ * Expands a {@link RecurrenceRule} into the occurrences of the event.
+ *
+ * <p>The rule is compiled once into bitmasks of the months, days of week, and days of month,
+ * and a sorted array of the times of day. The occurrences are then produced lazily, one period
+ * of the rule at a time, using the calendar arithmetic over the days since the epoch. The local
+ * date-times of the occurrences are resolved in the zone via the cache of its offset periods.
+ *
+ * <p>If the rule does not limit the number of occurrences, the expansion starts directly from
+ * the period containing the lower bound of the requested range, rather than from the start
+ * of the rule.
+ *
+ * <p>The local date-times which fall into a gap in the zone are shifted forward by the length
+ * of the gap. For the local date-times which fall into an overlap, the earlier offset is used.
+ *
+ * <p>Instances are immutable and may be shared between threads.
+ */
+public final class Recurrence {
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int MAX_ORDINAL = 5;
+    private static final int NEGATIVE_SHIFT = 32;
+
+    private final RecurrenceRule rule;
+    private final ZoneId zone;
+    private final ZoneOffsetCache offsets;
+    private final Frequency frequency;
+    private final int interval;
+
+    private final long startLocalSecond;
+    private final int startNanos;
+    private final long startDay;
+    private final long startWeek;
+    private final long startMonth;
+    private final long startYear;
+    private final int startDayOfMonth;
+
+    /** The bits from 1 to 12 are set for the months of the rule. */
+    private final int months;
+
+    /** The bits from 1 to 7 are set for the days of week of the rule. */
+    private final int daysOfWeek;
+
+    /**
+     * The ordinals of the days of week, indexed by the number of the day of week.
+     *
+     * <p>The bits from 0 to 4 stand for the ordinals from 1 to 5. The bits from 5 to 9 stand
+     * for the ordinals from -1 to -5.
+     */
+    private final int[] ordinals;
+    private final boolean hasOrdinals;
+
+    /**
+     * The bits from 1 to 31 are set for the positive days of month of the rule. The bits
+     * from 33 to 63 are set for the negative ones.
+     */
+    private final long daysOfMonth;
+
+    private final int[] secondsOfDay;
+    private final int[] nanosOfSecond;
+
+    private final int count;
+    private final boolean hasUntil;
+    private final long untilLocalSecond;
+    private final int untilNanos;
+
+    private Recurrence(RecurrenceRule rule) {
+        this.rule = rule;
+        this.zone = rule.getZone();
+        this.offsets = ZoneOffsetCache.of(zone.getValue());
+        this.frequency = rule.getFrequency();
+        this.interval = Math.max(rule.getInterval(), 1);
+        var start = rule.getStart();
+        this.startLocalSecond = CalendarMath.localEpochSecond(start);
+        this.startNanos = start.getTime().getNano();
+        this.startDay = Math.floorDiv(startLocalSecond, SECONDS_PER_DAY);
+        this.startWeek = startDay - (CalendarMath.dayOfWeek(startDay) - 1);
+        var date = start.getDate();
+        this.startMonth = CalendarMath.epochMonth(date.getYear(), date.getMonthValue());
+        this.startYear = date.getYear();
+        this.startDayOfMonth = date.getDay();
+        this.months = monthsOf(rule, date.getMonthValue());
+        this.daysOfWeek = daysOfWeekOf(rule);
+        this.ordinals = ordinalsOf(rule);
+        this.hasOrdinals = rule.getDayOfWeekInMonthCount() > 0;
+        this.daysOfMonth = daysOfMonthOf(rule);
+        var times = timesOf(rule);
+        this.secondsOfDay = new int[times.length];
+        this.nanosOfSecond = new int[times.length];
+        for (var i = 0; i < times.length; i++) {
+            secondsOfDay[i] = (int) (times[i] / NANOS_PER_SECOND);
+            nanosOfSecond[i] = (int) (times[i] % NANOS_PER_SECOND);
+        }
+        this.count = rule.getLimitCase() == COUNT ? rule.getCount() : 0;
+        this.hasUntil = rule.getLimitCase() == UNTIL;
+        this.untilLocalSecond = hasUntil ? CalendarMath.localEpochSecond(rule.getUntil()) : 0L;
+        this.untilNanos = hasUntil ? rule.getUntil().getTime().getNano() : 0;
+    }
+
+    /**
+     * Compiles the given rule.
+     *
+     * @throws IllegalArgumentException
+     *         if the rule has an undefined frequency, day of week, or month, or a day of month,
+     *         an ordinal, an interval, or a count out of the range
+     * @throws IllegalStateException
+     *         if a date of the rule is not valid
+     * @throws java.time.DateTimeException
+     *         if the zone or a time of the rule is not valid
+     */
+    public static Recurrence of(RecurrenceRule rule) {
+        checkNotNull(rule);
+        checkArgument(rule.getFrequencyValue() > 0 && rule.getFrequency() != Frequency.UNRECOGNIZED,
+                      "The frequency of the recurrence rule is undefined.");
+        checkArgument(rule.getInterval() >= 0,
+                      "The interval must not be negative: %s.", rule.getInterval());
+        checkArgument(rule.getLimitCase() != COUNT || rule.getCount() > 0,
+                      "The count of occurrences must be positive: %s.", rule.getCount());
+        return new Recurrence(rule);
+    }
+
+    /**
+     * Obtains the rule of this recurrence.
+     */
+    public RecurrenceRule rule() {
+        return rule;
+    }
+
+    /**
+     * Lazily produces the occurrences from the given point in time, inclusive, to the other
+     * given point in time, exclusive.
+     *
+     * <p>The occurrences are produced in the chronological order of their local date-times.
+     */
+    public Stream<ZonedDateTime> between(Timestamp from, Timestamp to) {
+        checkNotNull(from);
+        checkNotNull(to);
+        var expansion = new Expansion(from.getSeconds(), from.getNanos(),
+                                      to.getSeconds(), to.getNanos());
+        return StreamSupport.stream(expansion, false);
+    }
+
+    /**
+     * Lazily produces the occurrences from the given point in time, inclusive, to the other
+     * given point in time, exclusive.
+     *
+     * <p>The occurrences are produced in the chronological order of their local date-times.
+     */
+    public Stream<ZonedDateTime> between(Temporal<?> from, Temporal<?> to) {
+        checkNotNull(from);
+        checkNotNull(to);
+        return between(from.toTimestamp(), to.toTimestamp());
+    }
+
+    private long periodOf(long epochDay) {
+        long periods;
+        switch (frequency) {
+            case DAILY:
+                periods = epochDay - startDay;
+                break;
+            case WEEKLY:
+                periods = Math.floorDiv(epochDay - startWeek, DAYS_PER_WEEK);
+                break;
+            case MONTHLY:
+                periods = epochMonth(epochDay) - startMonth;
+                break;
+            default:
+                periods = CalendarMath.year(CalendarMath.civilDate(epochDay)) - startYear;
+        }
+        return Math.max(Math.floorDiv(periods, interval), 0L);
+    }
+
+    private long firstDayOf(long period) {
+        var shift = period * interval;
+        switch (frequency) {
+            case DAILY:
+                return startDay + shift;
+            case WEEKLY:
+                return startWeek + shift * DAYS_PER_WEEK;
+            case MONTHLY:
+                var month = startMonth + shift;
+                return CalendarMath.epochDay(Math.floorDiv(month, 12),
+                                             (int) Math.floorMod(month, 12) + 1, 1);
+            default:
+                return CalendarMath.epochDay(startYear + shift, 1, 1);
+        }
+    }
+
+    /**
+     * Adds the days of the given period which match the rule to the given buffer,
+     * in chronological order.
+     */
+    private void daysOf(long period, Days days) {
+        var firstDay = firstDayOf(period);
+        switch (frequency) {
+            case DAILY:
+                if (matches(firstDay, false)) {
+                    days.add(firstDay);
+                }
+                break;
+            case WEEKLY:
+                var weekDays = daysOfWeek != 0 ? daysOfWeek : bit(CalendarMath.dayOfWeek(startDay));
+                for (var i = 0; i < DAYS_PER_WEEK; i++) {
+                    var day = firstDay + i;
+                    if ((weekDays & bit(i + 1)) != 0 && matchesMonth(day)) {
+                        days.add(day);
+                    }
+                }
+                break;
+            case MONTHLY:
+                addDaysOfMonth(firstDay, days);
+                break;
+            default:
+                var year = startYear + period * interval;
+                for (var month = 1; month <= 12; month++) {
+                    if ((months & bit(month)) != 0) {
+                        addDaysOfMonth(CalendarMath.epochDay(year, month, 1), days);
+                    }
+                }
+        }
+    }
+
+    private void addDaysOfMonth(long firstDay, Days days) {
+        var date = CalendarMath.civilDate(firstDay);
+        var month = CalendarMath.month(date);
+        if ((months & bit(month)) == 0) {
+            return;
+        }
+        var length = CalendarMath.lengthOfMonth(CalendarMath.year(date), month);
+        var dayOfWeek = CalendarMath.dayOfWeek(firstDay);
+        for (var dayOfMonth = 1; dayOfMonth <= length; dayOfMonth++) {
+            if (matchesDay(dayOfMonth, length, dayOfWeek, true)) {
+                days.add(firstDay + dayOfMonth - 1);
+            }
+            dayOfWeek = dayOfWeek == DAYS_PER_WEEK ? 1 : dayOfWeek + 1;
+        }
+    }
+
+    private boolean matches(long epochDay, boolean startDayByDefault) {
+        var date = CalendarMath.civilDate(epochDay);
+        var month = CalendarMath.month(date);
+        if ((months & bit(month)) == 0) {
+            return false;
+        }
+        var length = CalendarMath.lengthOfMonth(CalendarMath.year(date), month);
+        return matchesDay(CalendarMath.day(date), length, CalendarMath.dayOfWeek(epochDay),
+                          startDayByDefault);
+    }
+
+    private boolean matchesMonth(long epochDay) {
+        if (daysOfMonth != 0) {
+            return matches(epochDay, false);
+        }
+        var month = CalendarMath.month(CalendarMath.civilDate(epochDay));
+        return (months & bit(month)) != 0;
+    }
+
+    private boolean matchesDay(int dayOfMonth, int length, int dayOfWeek,
+                               boolean startDayByDefault) {
+        var byDayOfWeek = daysOfWeek != 0 || hasOrdinals;
+        if (daysOfMonth == 0 && !byDayOfWeek) {
+            return !startDayByDefault || dayOfMonth == startDayOfMonth;
+        }
+        if (daysOfMonth != 0) {
+            var fromEnd = length - dayOfMonth + 1;
+            var matches = (daysOfMonth & (1L << dayOfMonth)) != 0
+                    || (daysOfMonth & (1L << (NEGATIVE_SHIFT + fromEnd))) != 0;
+            if (!matches) {
+                return false;
+            }
+        }
+        if (!byDayOfWeek || (daysOfWeek & bit(dayOfWeek)) != 0) {
+            return true;
+        }
+        var ordinal = (dayOfMonth - 1) / DAYS_PER_WEEK;
+        var ordinalFromEnd = (length - dayOfMonth) / DAYS_PER_WEEK + MAX_ORDINAL;
+        var mask = ordinals[dayOfWeek];
+        return (mask & (bit(ordinal) | bit(ordinalFromEnd))) != 0;
+    }
+
+    private static long epochMonth(long epochDay) {
+        var date = CalendarMath.civilDate(epochDay);
+        return CalendarMath.epochMonth(CalendarMath.year(date), CalendarMath.month(date));
+    }
+
+    private static int bit(int index) {
+        return 1 << index;
+    }
+
+    /**
+     * Obtains the bitmask of the months of the rule.
+     *
+     * <p>If the rule has no months, all the months match, except for a yearly rule which
+     * has neither days of week nor days of month. Such a rule occurs in the month of its start.
+     */
+    private static int monthsOf(RecurrenceRule rule, int startMonth) {
+        if (rule.getMonthCount() == 0) {
+            var byDays = rule.getDayOfWeekCount() > 0
+                    || rule.getDayOfWeekInMonthCount() > 0
+                    || rule.getDayOfMonthCount() > 0;
+            var startOnly = rule.getFrequency() == Frequency.YEARLY && !byDays;
+            return startOnly ? bit(startMonth) : -1;
+        }
+        var result = 0;
+        for (var month : rule.getMonthList()) {
+            checkArgument(month.getNumber() >= Month.JANUARY_VALUE,
+                          "The months of the recurrence rule must be defined.");
+            result |= bit(month.getNumber());
+        }
+        return result;
+    }
+
+    private static int daysOfWeekOf(RecurrenceRule rule) {
+        var result = 0;
+        for (var day : rule.getDayOfWeekList()) {
+            checkDayOfWeek(day);
+            result |= bit(day.getNumber());
+        }
+        return result;
+    }
+
+    private static int[] ordinalsOf(RecurrenceRule rule) {
+        var result = new int[DAYS_PER_WEEK + 1];
+        for (var dayInMonth : rule.getDayOfWeekInMonthList()) {
+            var day = dayInMonth.getDay();
+            checkDayOfWeek(day);
+            var ordinal = dayInMonth.getOrdinal();
+            checkArgument(ordinal != 0 && Math.abs(ordinal) <= MAX_ORDINAL,
+                          "The ordinal of a day of week must be from 1 to 5 or from -5 to -1: %s.",
+                          ordinal);
+            var index = ordinal > 0 ? ordinal - 1 : MAX_ORDINAL - ordinal - 1;
+            result[day.getNumber()] |= bit(index);
+        }
+        return result;
+    }
+
+    private static void checkDayOfWeek(DayOfWeek day) {
+        checkArgument(day.getNumber() >= DayOfWeek.MONDAY_VALUE,
+                      "The days of week of the recurrence rule must be defined.");
+    }
+
+    private static long daysOfMonthOf(RecurrenceRule rule) {
+        var result = 0L;
+        for (int day : rule.getDayOfMonthList()) {
+            checkArgument(day != 0 && Math.abs(day) <= 31,
+                          "The day of month must be from 1 to 31 or from -31 to -1: %s.", day);
+            var index = day > 0 ? day : NEGATIVE_SHIFT - day;
+            result |= 1L << index;
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the distinct times of day of the rule as nanoseconds of day, in ascending order.
+     */
+    private static long[] timesOf(RecurrenceRule rule) {
+        if (rule.getTimeCount() == 0) {
+            return new long[]{nanoOfDay(rule.getStart().getTime())};
+        }
+        return rule.getTimeList()
+                   .stream()
+                   .mapToLong(Recurrence::nanoOfDay)
+                   .sorted()
+                   .distinct()
+                   .toArray();
+    }
+
+    private static long nanoOfDay(LocalTime time) {
+        return CalendarMath.secondOfDay(time) * NANOS_PER_SECOND + time.getNano();
+    }
+
+    private static int compare(long seconds, int nanos, long otherSeconds, int otherNanos) {
+        var result = Long.compare(seconds, otherSeconds);
+        return result != 0 ? result : Integer.compare(nanos, otherNanos);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("frequency", frequency)
+                          .add("interval", interval)
+                          .add("zone", zone.getValue())
+                          .toString();
+    }
+
+    /**
+     * A growable buffer of days since the epoch.
+     */
+    private static final class Days {
+
+        private long[] values = new long[DAYS_PER_WEEK];
+        private int size;
+
+        private void add(long day) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = day;
+        }
+
+        private void clear() {
+            size = 0;
+        }
+    }
+
+    /**
+     * Produces the occurrences within a range of time, one period of the rule at a time.
+     */
+    private final class Expansion extends Spliterators.AbstractSpliterator<ZonedDateTime> {
+
+        private final long fromSecond;
+        private final int fromNanos;
+        private final long toSecond;
+        private final int toNanos;
+
+        /**
+         * The local time after which no occurrence may fall into the range.
+         */
+        private final long lastLocalSecond;
+
+        private final Days days = new Days();
+        private long period;
+        private int dayIndex;
+        private int timeIndex;
+        private int produced;
+        private boolean finished;
+
+        private Expansion(long fromSecond, int fromNanos, long toSecond, int toNanos) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.fromSecond = fromSecond;
+            this.fromNanos = fromNanos;
+            this.toSecond = toSecond;
+            this.toNanos = toNanos;
+            this.lastLocalSecond = toSecond + MAX_OFFSET_SECONDS;
+            this.period = count > 0
+                          ? 0L
+                          : periodOf(Math.floorDiv(fromSecond - MAX_OFFSET_SECONDS,
+                                                   SECONDS_PER_DAY));
+            this.dayIndex = 0;
+            this.finished = compare(fromSecond, fromNanos, toSecond, toNanos) >= 0;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ZonedDateTime> action) {
+            checkNotNull(action);
+            while (!finished) {
+                if (dayIndex >= days.size) {
+                    nextPeriod();
+                    continue;
+                }
+                var local = days.values[dayIndex] * SECONDS_PER_DAY + secondsOfDay[timeIndex];
+                var nanos = nanosOfSecond[timeIndex];
+                advanceIndices();
+                if (compare(local, nanos, startLocalSecond, startNanos) < 0) {
+                    continue;
+                }
+                if (isBeyondLimit(local, nanos) || local > lastLocalSecond) {
+                    finished = true;
+                    return false;
+                }
+                produced++;
+                var epochSecond = offsets.toEpochSecond(local);
+                if (compare(epochSecond, nanos, fromSecond, fromNanos) >= 0
+                        && compare(epochSecond, nanos, toSecond, toNanos) < 0) {
+                    action.accept(occurrence(epochSecond, nanos));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Creates the occurrence at the given instant.
+         *
+         * <p>The offset is resolved via the offset periods of the rule zone, rather than
+         * by a lookup of the zone. The local date-time is then built from the instant and
+         * the offset, so that a local time in a gap is shifted forward.
+         */
+        private ZonedDateTime occurrence(long epochSecond, int nanos) {
+            var resolved = epochSecond + offsets.offsetAt(epochSecond);
+            return ZonedDateTime.newBuilder()
+                    .setDateTime(CalendarMath.checkedLocalDateTime(resolved, nanos))
+                    .setZone(zone)
+                    .build();
+        }
+
+        private void nextPeriod() {
+            if (firstDayOf(period) * SECONDS_PER_DAY > lastLocalSecond) {
+                finished = true;
+                return;
+            }
+            days.clear();
+            daysOf(period, days);
+            period++;
+            dayIndex = 0;
+            timeIndex = 0;
+        }
+
+        private void advanceIndices() {
+            timeIndex++;
+            if (timeIndex == secondsOfDay.length) {
+                timeIndex = 0;
+                dayIndex++;
+            }
+        }
+
+        private boolean isBeyondLimit(long local, int nanos) {
+            if (count > 0) {
+                return produced >= count;
+            }
+            return hasUntil && compare(local, nanos, untilLocalSecond, untilNanos) > 0;
+        }
+    }
+}
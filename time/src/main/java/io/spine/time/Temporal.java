@@ -33,9 +33,11 @@ import io.spine.base.Time;
 import java.time.Instant;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.util.Timestamps.checkValid;
 import static com.google.protobuf.util.Timestamps.compare;
 import static io.spine.time.DtPreconditions.checkPeriod;
 import static io.spine.time.DtPreconditions.checkSameType;
+import static io.spine.time.TimestampTemporal.compareUnchecked;
 
 /**
  * A point in time represented with a certain accuracy.
@@ -78,7 +80,7 @@ public interface Temporal<T extends Temporal<T>> extends Comparable<T> {
      */
     default Timestamp toTimestamp() {
         var instant = toInstant();
-        return JavaTimeExtensions.toTimestamp(instant);
+        return InstantConverter.toTimestamp(instant);
     }
 
     /**
@@ -130,7 +132,7 @@ public interface Temporal<T extends Temporal<T>> extends Comparable<T> {
      */
     default int compareTo(Instant other) {
         var thisTimestamp = toTimestamp();
-        var otherTimestamp = JavaTimeExtensions.toTimestamp(other);
+        var otherTimestamp = InstantConverter.toTimestamp(other);
         var result = compare(thisTimestamp, otherTimestamp);
         return result;
     }
@@ -334,8 +336,10 @@ public interface Temporal<T extends Temporal<T>> extends Comparable<T> {
      */
     default boolean isBetween(Timestamp periodStart, Timestamp periodEnd) {
         checkPeriod(periodStart, periodEnd);
-        return isAfter(periodStart)
-                && isBeforeOrSameAs(periodEnd);
+        var thisTime = toTimestamp();
+        checkValid(thisTime);
+        return compareUnchecked(thisTime, periodStart) > 0
+                && compareUnchecked(thisTime, periodEnd) <= 0;
     }
 
     /**
@@ -351,7 +355,8 @@ public interface Temporal<T extends Temporal<T>> extends Comparable<T> {
     default boolean isInFuture() {
         var now = Time.currentTime();
         var thisTime = toTimestamp();
-        return compare(thisTime, now) > 0;
+        checkValid(thisTime);
+        return compareUnchecked(thisTime, now) > 0;
     }
 
     /**
@@ -369,6 +374,7 @@ public interface Temporal<T extends Temporal<T>> extends Comparable<T> {
     default boolean isInPast() {
         var now = Time.currentTime();
         var thisTime = toTimestamp();
-        return compare(thisTime, now) < 0;
+        checkValid(thisTime);
+        return compareUnchecked(thisTime, now) < 0;
     }
 }
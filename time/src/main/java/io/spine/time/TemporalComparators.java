@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+import com.google.protobuf.util.Timestamps;
+
+import java.util.Comparator;
+
+/**
+ * Comparators of {@link Temporal} values specialized for the time types of this library.
+ *
+ * <p>Comparators of the local date and time types compare the fields of the messages
+ * in the order of their significance, as these types are compared in the UTC time-line.
+ * Comparators of other temporal messages, such as {@link ZonedDateTime}, compare the points
+ * in time obtained via {@linkplain EpochExtractors epoch extractors} without checking
+ * the types of the values in runtime.
+ *
+ * @see Temporals#comparator(Class)
+ */
+final class TemporalComparators {
+
+    private static final Comparator<LocalTime> LOCAL_TIME =
+            Comparator.comparingInt(LocalTime::getHour)
+                      .thenComparingInt(LocalTime::getMinute)
+                      .thenComparingInt(LocalTime::getSecond)
+                      .thenComparingInt(LocalTime::getNano);
+
+    private static final Comparator<LocalDate> LOCAL_DATE =
+            Comparator.comparingInt(LocalDate::getYear)
+                      .thenComparingInt(LocalDate::getMonthValue)
+                      .thenComparingInt(LocalDate::getDay);
+
+    private static final Comparator<LocalDateTime> LOCAL_DATE_TIME =
+            Comparator.comparing(LocalDateTime::getDate, LOCAL_DATE)
+                      .thenComparing(LocalDateTime::getTime, LOCAL_TIME);
+
+    private static final Comparator<YearMonth> YEAR_MONTH =
+            Comparator.comparingInt(YearMonth::getYear)
+                      .thenComparingInt(YearMonth::getMonthValue);
+
+    private static final Comparator<CachedTemporal<?>> CACHED =
+            Comparator.<CachedTemporal<?>>comparingLong(CachedTemporal::seconds)
+                      .thenComparingInt(CachedTemporal::nanos);
+
+    private static final Comparator<EpochNanosTemporal> EPOCH_NANOS =
+            Comparator.comparingLong(EpochNanosTemporal::value);
+
+    private static final Comparator<Temporal<?>> BY_TIMESTAMP =
+            (a, b) -> Timestamps.compare(a.toTimestamp(), b.toTimestamp());
+
+    private static final ImmutableMap<Class<?>, Comparator<?>> comparators =
+            ImmutableMap.<Class<?>, Comparator<?>>builder()
+                    .put(LocalDate.class, LOCAL_DATE)
+                    .put(LocalDateTime.class, LOCAL_DATE_TIME)
+                    .put(YearMonth.class, YEAR_MONTH)
+                    .put(CachedTemporal.class, CACHED)
+                    .put(EpochNanosTemporal.class, EPOCH_NANOS)
+                    .put(TimestampTemporal.class, BY_TIMESTAMP)
+                    .build();
+
+    /** Prevents instantiation of this utility class. */
+    private TemporalComparators() {
+    }
+
+    /**
+     * Obtains the comparator for the given type.
+     *
+     * <p>Temporal messages without a specialized comparator are compared via their
+     * {@linkplain EpochExtractors epoch extractors}. For other types, returns the comparator
+     * of {@linkplain Temporal#toTimestamp() timestamps} of the values.
+     */
+    @SuppressWarnings("unchecked") // Ensured by the content of the map and the extractors.
+    static <T extends Temporal<?>> Comparator<T> forType(Class<T> type) {
+        Comparator<?> result = comparators.get(type);
+        if (result == null) {
+            result = Message.class.isAssignableFrom(type)
+                     ? byExtractor(EpochExtractors.forType(type.asSubclass(Message.class)))
+                     : BY_TIMESTAMP;
+        }
+        return (Comparator<T>) result;
+    }
+
+    private static <M extends Message> Comparator<M> byExtractor(EpochExtractor<M> extractor) {
+        return extractor::compare;
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.spine.annotation.Internal;
+import io.spine.base.FieldPath;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
+
+/**
+ * Extracts the points in time from all the {@link Timestamp} and {@link Temporal} fields
+ * of messages of a certain type.
+ *
+ * <p>The paths to the temporal fields are computed once per message type, by walking
+ * the descriptors of the type and its nested message fields. Singular, repeated, and map
+ * fields are supported, as in the {@code (when)} validation. The values are read along
+ * the precomputed paths in one pass, without {@code Message.getAllFields()}, and are
+ * written into a {@link TemporalValues} buffer via the {@linkplain EpochExtractors
+ * epoch extractors} of their types.
+ *
+ * <p>Fields of the {@link Any} type are not unpacked. A field of a message type which encloses
+ * the field is not followed, so that the set of paths of a recursive type is finite.
+ * The temporal fields nested in such a field are not extracted.
+ *
+ * <p>The extractors are resolved when the paths of a type are computed. Therefore,
+ * an extractor {@linkplain EpochExtractors#register registered} after that is not used
+ * for the type.
+ *
+ * <p>Unset singular fields and map entries without a value are skipped.
+ * All the elements of repeated fields are extracted.
+ *
+ * @param <M>
+ *         the type of the messages
+ */
+@Internal
+public final class TemporalFields<M extends Message> {
+
+    private static final ConcurrentMap<Class<?>, TemporalFields<?>> cache =
+            new ConcurrentHashMap<>();
+
+    private final ImmutableList<Node> nodes;
+    private final ImmutableList<FieldPath> paths;
+
+    private TemporalFields(ImmutableList<Node> nodes, ImmutableList<FieldPath> paths) {
+        this.nodes = nodes;
+        this.paths = paths;
+    }
+
+    /**
+     * Obtains the extractor for the given message type.
+     *
+     * @param type
+     *         the class of the generated messages
+     * @param <M>
+     *         the type of the messages
+     */
+    @SuppressWarnings("unchecked") // The cache is keyed by the message class.
+    public static <M extends Message> TemporalFields<M> of(Class<M> type) {
+        checkNotNull(type);
+        var result = cache.get(type);
+        if (result == null) {
+            result = cache.computeIfAbsent(type, TemporalFields::compile);
+        }
+        return (TemporalFields<M>) result;
+    }
+
+    /**
+     * Obtains the paths to the temporal fields in the order of the extraction.
+     *
+     * <p>The {@linkplain TemporalValues#pathIndex(int) path index} of an extracted value
+     * refers to this list.
+     */
+    public ImmutableList<FieldPath> paths() {
+        return paths;
+    }
+
+    /**
+     * Tells if the messages of the type have no temporal fields.
+     */
+    public boolean isEmpty() {
+        return paths.isEmpty();
+    }
+
+    /**
+     * Extracts the points in time from the given message into a new buffer.
+     */
+    public TemporalValues extract(M message) {
+        var result = new TemporalValues();
+        extract(message, result);
+        return result;
+    }
+
+    /**
+     * Extracts the points in time from the given message into the given buffer.
+     *
+     * <p>The buffer is {@linkplain TemporalValues#clear() cleared} before the extraction.
+     */
+    public void extract(M message, TemporalValues target) {
+        checkNotNull(message);
+        checkNotNull(target);
+        target.clear();
+        for (var node : nodes) {
+            node.extract(message, target);
+        }
+    }
+
+    private static TemporalFields<?> compile(Class<?> type) {
+        var defaultInstance = com.google.protobuf.Internal.getDefaultInstance(
+                type.asSubclass(Message.class)
+        );
+        var compiler = new Compiler();
+        var nodes = compiler.nodes(defaultInstance);
+        return new TemporalFields<>(nodes, compiler.paths.build());
+    }
+
+    /**
+     * Builds the tree of the temporal fields of a message type.
+     */
+    private static final class Compiler {
+
+        private final ImmutableList.Builder<FieldPath> paths = ImmutableList.builder();
+        private final Deque<String> path = new ArrayDeque<>();
+        private final Deque<Descriptor> visiting = new ArrayDeque<>();
+        private int pathCount;
+
+        private ImmutableList<Node> nodes(Message defaultInstance) {
+            var descriptor = defaultInstance.getDescriptorForType();
+            visiting.push(descriptor);
+            var builder = defaultInstance.newBuilderForType();
+            var result = ImmutableList.<Node>builder();
+            for (var field : descriptor.getFields()) {
+                if (field.getJavaType() != MESSAGE) {
+                    continue;
+                }
+                path.addLast(field.getName());
+                var node = node(field, builder);
+                if (node != null) {
+                    result.add(node);
+                }
+                path.removeLast();
+            }
+            visiting.pop();
+            return result.build();
+        }
+
+        private @Nullable Node node(FieldDescriptor field, Message.Builder builder) {
+            var fieldDefault = builder.newBuilderForField(field)
+                                      .getDefaultInstanceForType();
+            @Nullable FieldDescriptor valueField = null;
+            var valueDefault = fieldDefault;
+            if (field.isMapField()) {
+                valueField = field.getMessageType()
+                                  .findFieldByName("value");
+                if (valueField.getJavaType() != MESSAGE) {
+                    return null;
+                }
+                valueDefault = (Message) fieldDefault.getField(valueField);
+            }
+            var valueType = valueDefault.getClass();
+            if (isTemporal(valueType)) {
+                var extractor = EpochExtractors.forType(valueType);
+                @SuppressWarnings("unchecked") // The extractor is found by the class.
+                var typed = (EpochExtractor<Message>) (EpochExtractor<?>) extractor;
+                return Node.leaf(field, valueField, typed, newPath());
+            }
+            var descriptor = valueDefault.getDescriptorForType();
+            if (valueDefault instanceof Any || visiting.contains(descriptor)) {
+                return null;
+            }
+            var children = nodes(valueDefault);
+            return children.isEmpty()
+                   ? null
+                   : Node.branch(field, valueField, children);
+        }
+
+        private static boolean isTemporal(Class<?> type) {
+            return type == Timestamp.class || Temporal.class.isAssignableFrom(type);
+        }
+
+        private int newPath() {
+            paths.add(FieldPath.newBuilder()
+                               .addAllFieldName(path)
+                               .build());
+            return pathCount++;
+        }
+    }
+
+    /**
+     * A temporal field or a message field containing temporal fields.
+     */
+    private static final class Node {
+
+        private final FieldDescriptor field;
+        private final @Nullable FieldDescriptor mapValue;
+        private final @Nullable EpochExtractor<Message> extractor;
+        private final int pathIndex;
+        private final ImmutableList<Node> children;
+
+        private Node(FieldDescriptor field,
+                     @Nullable FieldDescriptor mapValue,
+                     @Nullable EpochExtractor<Message> extractor,
+                     int pathIndex,
+                     ImmutableList<Node> children) {
+            this.field = field;
+            this.mapValue = mapValue;
+            this.extractor = extractor;
+            this.pathIndex = pathIndex;
+            this.children = children;
+        }
+
+        private static Node leaf(FieldDescriptor field,
+                                 @Nullable FieldDescriptor mapValue,
+                                 EpochExtractor<Message> extractor,
+                                 int pathIndex) {
+            return new Node(field, mapValue, extractor, pathIndex, ImmutableList.of());
+        }
+
+        private static Node branch(FieldDescriptor field,
+                                   @Nullable FieldDescriptor mapValue,
+                                   ImmutableList<Node> children) {
+            return new Node(field, mapValue, null, -1, children);
+        }
+
+        private void extract(Message message, TemporalValues target) {
+            if (!field.isRepeated()) {
+                if (message.hasField(field)) {
+                    accept((Message) message.getField(field), target);
+                }
+                return;
+            }
+            var count = message.getRepeatedFieldCount(field);
+            for (var i = 0; i < count; i++) {
+                var element = (Message) message.getRepeatedField(field, i);
+                if (mapValue == null) {
+                    accept(element, target);
+                } else if (element.hasField(mapValue)) {
+                    accept((Message) element.getField(mapValue), target);
+                }
+            }
+        }
+
+        private void accept(Message value, TemporalValues target) {
+            if (extractor != null) {
+                EpochExtractors.extract(extractor, value, target, pathIndex);
+            } else {
+                for (var child : children) {
+                    child.extract(value, target);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+/**
+ * A growable buffer of points in time extracted from a message by {@link TemporalFields}.
+ *
+ * <p>Each value is stored as two {@code long}s: the seconds since the epoch, and the fraction
+ * of the second combined with the index of the field path the value was found at.
+ * The buffer may be reused for extraction from many messages to avoid allocations.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class TemporalValues {
+
+    private static final int STRIDE = 2;
+    private static final int INITIAL_CAPACITY = 8;
+    private static final long NANOS_MASK = 0xFFFF_FFFFL;
+
+    private long[] data;
+    private int size;
+
+    /**
+     * Creates a new empty buffer.
+     */
+    public TemporalValues() {
+        this.data = new long[INITIAL_CAPACITY * STRIDE];
+    }
+
+    /**
+     * Obtains the number of values in the buffer.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tells if the buffer has no values.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Obtains the number of whole seconds since the epoch of the value at the given index.
+     */
+    public long epochSecond(int index) {
+        checkElementIndex(index, size);
+        return data[index * STRIDE];
+    }
+
+    /**
+     * Obtains the fraction of the second of the value at the given index.
+     */
+    public int nanos(int index) {
+        checkElementIndex(index, size);
+        return (int) (data[index * STRIDE + 1] & NANOS_MASK);
+    }
+
+    /**
+     * Obtains the number of nanoseconds since the epoch of the value at the given index.
+     *
+     * @throws IllegalArgumentException
+     *         if the point in time cannot be represented as {@code long} nanoseconds
+     * @see EpochNanos
+     */
+    public long epochNanos(int index) {
+        return EpochNanos.from(epochSecond(index), nanos(index));
+    }
+
+    /**
+     * Obtains the index of the {@linkplain TemporalFields#paths() field path} of the value
+     * at the given index.
+     */
+    public int pathIndex(int index) {
+        checkElementIndex(index, size);
+        return (int) (data[index * STRIDE + 1] >>> Integer.SIZE);
+    }
+
+    /**
+     * Removes all the values from the buffer.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    void add(long epochSecond, int nanos, int pathIndex) {
+        var position = size * STRIDE;
+        if (position == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[position] = epochSecond;
+        data[position + 1] = ((long) pathIndex << Integer.SIZE) | (nanos & NANOS_MASK);
+        size++;
+    }
+}
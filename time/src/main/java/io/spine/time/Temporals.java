@@ -32,6 +32,9 @@ import io.spine.annotation.Internal;
 import io.spine.type.TypeName;
 
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.time.JavaTimeExtensions.toTimestamp;
@@ -76,6 +79,134 @@ public final class Temporals {
         }
     }
 
+    /**
+     * Obtains a comparator of values of the given temporal type.
+     *
+     * <p>The returned comparator orders values in the same way as
+     * {@link Temporal#compareTo(Temporal)}, but is specialized for the given type.
+     * For example, local dates are compared by their fields without calculating their
+     * timestamps, and zoned date-times are compared without intermediate objects.
+     * Also, the returned comparator does not check the runtime types of the compared values.
+     *
+     * <p>For types without a specialized comparator, the comparator of
+     * {@linkplain Temporal#toTimestamp() timestamps} of the values is returned.
+     *
+     * @param type
+     *         the class of the values to compare
+     * @param <T>
+     *         the type of the values
+     * @return the comparator for the type
+     */
+    public static <T extends Temporal<T>> Comparator<T> comparator(Class<T> type) {
+        checkNotNull(type);
+        return TemporalComparators.forType(type);
+    }
+
+    /**
+     * Sorts the given list by the points in time of its elements, in ascending order.
+     *
+     * <p>The {@linkplain Temporal#toTimestamp() timestamp} of each element is calculated
+     * only once. Then, the seconds of the timestamps are sorted as a primitive array,
+     * in parallel for large lists, and the elements with equal seconds are ordered by
+     * the nanoseconds. The list is reordered accordingly.
+     *
+     * <p>The elements may be of different runtime types. The sort is stable.
+     *
+     * @param list
+     *         the list to sort, must support the {@link java.util.ListIterator#set(Object)}
+     *         operation
+     * @param <T>
+     *         the type of the elements
+     */
+    public static <T extends Temporal<?>> void sortByTime(List<T> list) {
+        checkNotNull(list);
+        var size = list.size();
+        if (size < 2) {
+            return;
+        }
+        var values = list.toArray();
+        var seconds = new long[size];
+        var nanos = new int[size];
+        for (var i = 0; i < size; i++) {
+            var timestamp = ((Temporal<?>) checkNotNull(values[i])).toTimestamp();
+            seconds[i] = timestamp.getSeconds();
+            nanos[i] = timestamp.getNanos();
+        }
+        var order = orderOf(seconds, nanos);
+        var iterator = list.listIterator();
+        for (var index : order) {
+            @SuppressWarnings("unchecked") // The array contains the elements of the list.
+            var value = (T) values[index];
+            iterator.next();
+            iterator.set(value);
+        }
+    }
+
+    /**
+     * Obtains the indexes of the given points in time in the ascending order of the points.
+     *
+     * <p>The indexes of equal points keep their relative order.
+     */
+    private static int[] orderOf(long[] seconds, int[] nanos) {
+        var size = seconds.length;
+        var sorted = seconds.clone();
+        // Sorts sequentially if the array is too small to benefit from parallelism.
+        Arrays.parallelSort(sorted);
+        var placed = new int[size];
+        var order = new int[size];
+        for (var i = 0; i < size; i++) {
+            var first = firstIndexOf(sorted, seconds[i]);
+            order[first + placed[first]] = i;
+            placed[first]++;
+        }
+        var runStart = 0;
+        for (var i = 1; i <= size; i++) {
+            if (i == size || sorted[i] != sorted[runStart]) {
+                if (i - runStart > 1) {
+                    sortByNanos(order, runStart, i, nanos);
+                }
+                runStart = i;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Obtains the index of the first occurrence of the value in the sorted array.
+     */
+    private static int firstIndexOf(long[] sorted, long value) {
+        var low = 0;
+        var high = sorted.length;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (sorted[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Stably sorts the given range of indexes by the nanoseconds of the points in time.
+     *
+     * <p>Each key holds the nanoseconds in the upper half and the position within the range
+     * in the lower half, so that the keys are unique and equal nanoseconds keep their order.
+     */
+    private static void sortByNanos(int[] order, int from, int to, int[] nanos) {
+        var length = to - from;
+        var keys = new long[length];
+        for (var i = 0; i < length; i++) {
+            keys[i] = (long) nanos[order[from + i]] << Integer.SIZE | i;
+        }
+        Arrays.sort(keys);
+        var range = Arrays.copyOfRange(order, from, to);
+        for (var i = 0; i < length; i++) {
+            order[from + i] = range[(int) keys[i]];
+        }
+    }
+
     /**
      * Produces an instance of {@code Temporal} from the given {@link java.time.Instant}.
      *
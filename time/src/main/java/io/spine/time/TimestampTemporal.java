@@ -35,7 +35,6 @@ import java.time.Instant;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.protobuf.util.Timestamps.checkValid;
-import static java.util.Objects.requireNonNull;
 
 /**
  * An implementation of {@link Temporal} for the Protobuf {@link Timestamp}.
@@ -61,11 +60,33 @@ public final class TimestampTemporal implements Temporal<TimestampTemporal> {
         return new TimestampTemporal(value);
     }
 
+    /**
+     * Creates a new instance with the given {@code Timestamp} without validating it.
+     *
+     * <p>Use this method for the timestamps known to be valid, such as the ones obtained from
+     * {@link io.spine.base.Time#currentTime()} or {@link Temporal#toTimestamp()}, to avoid
+     * repeated validation on hot paths. For other timestamps, use {@link #from(Timestamp)}.
+     */
+    public static TimestampTemporal trusted(Timestamp value) {
+        checkNotNull(value);
+        return new TimestampTemporal(value);
+    }
+
+    /**
+     * Compares the given timestamps by their seconds and nanoseconds without
+     * validating them.
+     */
+    static int compareUnchecked(Timestamp first, Timestamp second) {
+        var result = Long.compare(first.getSeconds(), second.getSeconds());
+        if (result == 0) {
+            result = Integer.compare(first.getNanos(), second.getNanos());
+        }
+        return result;
+    }
+
     @Override
     public Instant toInstant() {
-        var converter = InstantConverter.instance().reverse();
-        var result = converter.convert(value);
-        return requireNonNull(result);
+        return InstantConverter.toInstant(value);
     }
 
     @Override
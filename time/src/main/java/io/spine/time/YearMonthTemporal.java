@@ -28,6 +28,7 @@ package io.spine.time;
 
 import java.time.Instant;
 
+import static io.spine.time.CalendarMath.MONTHS_PER_YEAR;
 import static java.time.ZoneOffset.UTC;
 
 /**
@@ -47,4 +48,53 @@ interface YearMonthTemporal extends TemporalMessage<YearMonth>, YearMonthOrBuild
                 .toInstant(UTC);
         return result;
     }
+
+    /**
+     * Obtains the year-month which is the given number of months after this one.
+     *
+     * <p>The result is calculated from the fields of this value without converting
+     * it to Java Time.
+     *
+     * @throws IllegalStateException
+     *         if the month of this value is not valid
+     * @throws IllegalArgumentException
+     *         if the result is out of the supported range of years
+     */
+    default YearMonth plusMonths(long months) {
+        var month = getMonthValue();
+        try {
+            Months.checkMonth(month);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e);
+        }
+        var epochMonth = CalendarMath.epochMonth(getYear(), month);
+        return CalendarMath.toYearMonth(Math.addExact(epochMonth, months));
+    }
+
+    /**
+     * Obtains the year-month which is the given number of months before this one.
+     *
+     * @see #plusMonths(long)
+     */
+    default YearMonth minusMonths(long months) {
+        return plusMonths(Math.negateExact(months));
+    }
+
+    /**
+     * Obtains the year-month which is the given number of years after this one.
+     *
+     * @see #plusMonths(long)
+     */
+    default YearMonth plusYears(long years) {
+        return plusMonths(Math.multiplyExact(years, MONTHS_PER_YEAR));
+    }
+
+    /**
+     * Obtains the year-month which is the given number of years before this one.
+     *
+     * @see #plusMonths(long)
+     */
+    default YearMonth minusYears(long years) {
+        return plusYears(Math.negateExact(years));
+    }
 }
@@ -29,8 +29,12 @@ package io.spine.time;
 import io.spine.time.string.TimeStringifiers;
 import io.spine.util.SerializableConverter;
 
+import java.util.stream.Stream;
+
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.CalendarMath.toYearMonth;
 import static io.spine.time.DtPreconditions.checkNotDefault;
+import static io.spine.time.DtPreconditions.checkPositive;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -107,6 +111,50 @@ public final class YearMonths {
         return requireNonNull(result);
     }
 
+    /**
+     * Obtains the months from {@code start}, inclusive, to {@code endExclusive}, exclusive.
+     *
+     * @see #range(YearMonth, YearMonth, int)
+     */
+    public static Stream<YearMonth> range(YearMonth start, YearMonth endExclusive) {
+        return range(start, endExclusive, 1);
+    }
+
+    /**
+     * Obtains the months from {@code start}, inclusive, to {@code endExclusive}, exclusive,
+     * taken with the given step.
+     *
+     * <p>The months are calculated from the fields of the messages without converting them
+     * to Java Time. A message is created only when the stream consumes it.
+     * The returned stream may be {@linkplain Stream#parallel() processed in parallel}.
+     *
+     * <p>If {@code endExclusive} is not after {@code start}, the stream is empty.
+     *
+     * @param start
+     *         the first month of the range
+     * @param endExclusive
+     *         the month before which the range ends
+     * @param stepMonths
+     *         the number of months between two consecutive values of the range
+     * @throws IllegalArgumentException
+     *         if one of the values has an invalid month, or the step is not positive
+     */
+    public static Stream<YearMonth>
+    range(YearMonth start, YearMonth endExclusive, int stepMonths) {
+        checkNotNull(start);
+        checkNotNull(endExclusive);
+        checkPositive(stepMonths);
+        var first = epochMonth(start);
+        var count = RangeSpliterator.countSteps(first, epochMonth(endExclusive), stepMonths);
+        return RangeSpliterator.stream(count, i -> toYearMonth(first + i * stepMonths));
+    }
+
+    private static long epochMonth(YearMonth value) {
+        var month = value.getMonthValue();
+        Months.checkMonth(month);
+        return CalendarMath.epochMonth(value.getYear(), month);
+    }
+
     /**
      * Converts from Java Time and back.
      */
@@ -121,13 +169,13 @@ public final class YearMonths {
         }
 
         @Override
-        protected YearMonth doForward(java.time.YearMonth value) {
+        protected YearMonth toMessage(java.time.YearMonth value) {
             var result = create(value.getYear(), value.getMonthValue());
             return result;
         }
 
         @Override
-        protected java.time.YearMonth doBackward(YearMonth value) {
+        protected java.time.YearMonth fromMessage(YearMonth value) {
             var result = java.time.YearMonth
                     .of(value.getYear(), value.getMonthValue());
             return result;
@@ -61,7 +61,7 @@ public final class ZoneIds {
      */
     public static ZoneId of(String id) {
         checkNotNull(id);
-        var zi = java.time.ZoneId.of(id);
+        var zi = ZoneOffsetCache.of(id).zone();
         var result = converter().convert(zi);
         return requireNonNull(result);
     }
@@ -131,13 +131,17 @@ public final class ZoneIds {
         }
 
         @Override
-        protected ZoneId doForward(java.time.ZoneId id) {
+        protected ZoneId toMessage(java.time.ZoneId id) {
             return create(id.getId());
         }
 
+        /**
+         * Obtains the Java Time zone reusing the instance resolved for the same ID before.
+         */
         @Override
-        protected java.time.ZoneId doBackward(ZoneId id) {
-            return java.time.ZoneId.of(id.getValue());
+        protected java.time.ZoneId fromMessage(ZoneId id) {
+            return ZoneOffsetCache.of(id.getValue())
+                                  .zone();
         }
 
         private Object readResolve() {
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import io.spine.time.instrumentation.Instrumentation;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.instrumentation.TimeOperation.ZONE_LOOKUP;
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * Caches offset periods of a time-zone around the most recently resolved point in time.
+ *
+ * <p>Resolving an offset via {@link ZoneRules} performs a binary search over the transitions
+ * of the zone. Most of the values processed by an application fall into the current daylight
+ * saving period of a few zones. Because of this, the cache keeps the offset period which
+ * contains the last resolved instant together with the periods before and after it.
+ * Resolving a value within these periods is a range check.
+ *
+ * <p>A value which falls out of the cached periods is resolved via {@code ZoneRules}, and
+ * the cached periods are moved to surround it.
+ *
+ * <p>Instances are obtained via {@link #of(String)} and are shared between threads.
+ * A thread which resolves many values on its own may use a {@linkplain #newWindow() window}
+ * of periods instead.
+ */
+final class ZoneOffsetCache {
+
+    /**
+     * The maximum absolute value of an offset supported by Java Time, in seconds.
+     */
+    static final long MAX_OFFSET_SECONDS = 18L * CalendarMath.SECONDS_PER_HOUR;
+
+    private static final ConcurrentMap<String, ZoneOffsetCache> caches =
+            new ConcurrentHashMap<>();
+
+    private final java.time.ZoneId zone;
+    private final ZoneRules rules;
+
+    /**
+     * The offset periods surrounding the last resolved value.
+     *
+     * <p>The field is replaced as a whole, so that readers always observe a consistent
+     * set of periods without synchronization.
+     *
+     * <p>For a zone with transitions, the periods are unknown until the first value is
+     * resolved. Thus, creating a cache does not read the current time, which may advance
+     * a logical clock installed as the {@linkplain io.spine.base.Time.Provider provider}.
+     */
+    private volatile Periods periods;
+
+    private ZoneOffsetCache(java.time.ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.periods = rules.isFixedOffset()
+                       ? Periods.fixed(rules.getOffset(Instant.EPOCH).getTotalSeconds())
+                       : Periods.NONE;
+    }
+
+    /**
+     * Obtains the cache for the zone with the given ID.
+     *
+     * @throws java.time.DateTimeException
+     *         if the ID is not a valid zone ID, or the zone is not available
+     * @see java.time.ZoneId#of(String)
+     */
+    static ZoneOffsetCache of(String zoneId) {
+        checkNotNull(zoneId);
+        var start = Instrumentation.start();
+        // Read without locking first, as `computeIfAbsent()` may lock a bin of the map.
+        var result = caches.get(zoneId);
+        if (result == null) {
+            try {
+                result = caches.computeIfAbsent(
+                        zoneId, id -> new ZoneOffsetCache(java.time.ZoneId.of(id))
+                );
+            } catch (RuntimeException e) {
+                Instrumentation.failed(ZONE_LOOKUP, ZoneId.class, start, e);
+                throw e;
+            }
+        }
+        Instrumentation.completed(ZONE_LOOKUP, ZoneId.class, start);
+        return result;
+    }
+
+    /**
+     * Obtains the cache for the given zone.
+     */
+    static ZoneOffsetCache of(java.time.ZoneId zone) {
+        checkNotNull(zone);
+        return of(zone.getId());
+    }
+
+    /**
+     * Obtains the zone served by this cache.
+     */
+    java.time.ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * Obtains the offset of the zone at the given instant.
+     *
+     * @param epochSecond
+     *         the number of seconds since the epoch
+     * @return the total offset in seconds
+     */
+    int offsetAt(long epochSecond) {
+        var current = periods;
+        var index = current.indexOf(epochSecond);
+        if (index < 0) {
+            current = periodsAround(epochSecond);
+            periods = current;
+            index = current.indexOf(epochSecond);
+        }
+        return current.offset(index);
+    }
+
+    /**
+     * Creates a window of offset periods to be used by a single thread.
+     *
+     * <p>Unlike this cache, the window does not share the periods with other threads.
+     * A thread processing values of its own range thus does not move the periods used
+     * by the threads processing other ranges.
+     */
+    Window newWindow() {
+        return new Window(this, periods);
+    }
+
+    /**
+     * Converts the given local date-time in this zone to the number of seconds since the epoch.
+     *
+     * <p>The rules of resolving ambiguous local values are the same as
+     * the ones of {@link java.time.ZonedDateTime#of(java.time.LocalDateTime, java.time.ZoneId)
+     * ZonedDateTime.of(LocalDateTime, ZoneId)}:
+     * <ul>
+     *     <li>if the local date-time falls into an overlap, the earlier offset is used;
+     *     <li>if the local date-time falls into a gap, it is shifted forward by the length
+     *         of the gap.
+     * </ul>
+     *
+     * @param localEpochSecond
+     *         the number of seconds since {@code 1970-01-01T00:00:00} in the local time-line
+     * @return the number of seconds since the epoch
+     */
+    long toEpochSecond(long localEpochSecond) {
+        var current = periods;
+        if (!current.coversLocal(localEpochSecond)) {
+            current = periodsAround(localEpochSecond);
+            periods = current;
+        }
+        if (current.coversLocal(localEpochSecond)) {
+            return current.toEpochSecond(localEpochSecond);
+        }
+        // Transitions are too close to each other to be cached.
+        var dateTime = java.time.LocalDateTime.ofEpochSecond(localEpochSecond, 0, UTC);
+        return java.time.ZonedDateTime.of(dateTime, zone)
+                                      .toEpochSecond();
+    }
+
+    /**
+     * Creates offset periods containing the given instant along with the previous and
+     * the next periods, if any.
+     */
+    private Periods periodsAround(long epochSecond) {
+        if (rules.isFixedOffset()) {
+            return periods;
+        }
+        var instant = Instant.ofEpochSecond(epochSecond);
+        var previous = rules.previousTransition(instant.plusSeconds(1));
+        var next = rules.nextTransition(instant);
+        var beforePrevious = previous == null
+                             ? null
+                             : rules.previousTransition(previous.getInstant());
+        var afterNext = next == null
+                        ? null
+                        : rules.nextTransition(next.getInstant());
+        var count = 1 + (previous == null ? 0 : 1) + (next == null ? 0 : 1);
+        var bounds = new long[count + 1];
+        var offsets = new int[count];
+        var index = 0;
+        if (previous != null) {
+            bounds[index] = startOf(beforePrevious);
+            offsets[index] = previous.getOffsetBefore().getTotalSeconds();
+            index++;
+            bounds[index] = previous.toEpochSecond();
+        } else {
+            bounds[index] = Long.MIN_VALUE;
+        }
+        offsets[index] = rules.getOffset(instant).getTotalSeconds();
+        index++;
+        if (next != null) {
+            bounds[index] = next.toEpochSecond();
+            offsets[index] = next.getOffsetAfter().getTotalSeconds();
+            index++;
+        }
+        bounds[index] = afterNext == null ? Long.MAX_VALUE : afterNext.toEpochSecond();
+        return new Periods(bounds, offsets);
+    }
+
+    private static long startOf(@Nullable ZoneOffsetTransition transition) {
+        return transition == null ? Long.MIN_VALUE : transition.toEpochSecond();
+    }
+
+    /**
+     * Offset periods of a zone around the value most recently resolved by a single thread.
+     *
+     * <p>Instances are not thread-safe.
+     */
+    static final class Window {
+
+        private final ZoneOffsetCache cache;
+        private Periods periods;
+
+        private Window(ZoneOffsetCache cache, Periods periods) {
+            this.cache = cache;
+            this.periods = periods;
+        }
+
+        /**
+         * Obtains the offset of the zone at the given instant.
+         *
+         * @param epochSecond
+         *         the number of seconds since the epoch
+         * @return the total offset in seconds
+         * @see ZoneOffsetCache#offsetAt(long)
+         */
+        int offsetAt(long epochSecond) {
+            var index = periods.indexOf(epochSecond);
+            if (index < 0) {
+                periods = cache.periodsAround(epochSecond);
+                index = periods.indexOf(epochSecond);
+            }
+            return periods.offset(index);
+        }
+    }
+
+    /**
+     * Consecutive periods of a zone, each with a fixed offset.
+     *
+     * <p>The period {@code i} starts at {@code bounds[i]} inclusive and ends at
+     * {@code bounds[i + 1]} exclusive. Its offset is {@code offsets[i]}.
+     */
+    private static final class Periods {
+
+        /**
+         * Contains no periods, so that any value falls out of them.
+         */
+        private static final Periods NONE = new Periods(new long[]{0L, 0L}, new int[]{0});
+
+        private final long[] bounds;
+        private final int[] offsets;
+
+        private Periods(long[] bounds, int[] offsets) {
+            this.bounds = bounds;
+            this.offsets = offsets;
+        }
+
+        private static Periods fixed(int offset) {
+            return new Periods(new long[]{Long.MIN_VALUE, Long.MAX_VALUE}, new int[]{offset});
+        }
+
+        /**
+         * Obtains the index of the period containing the given instant, or {@code -1}
+         * if none of the periods contains it.
+         */
+        private int indexOf(long epochSecond) {
+            for (var i = 0; i < offsets.length; i++) {
+                if (bounds[i] <= epochSecond && epochSecond < bounds[i + 1]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int offset(int index) {
+            return offsets[index];
+        }
+
+        /**
+         * Tells if every period which a given local time may belong to is known.
+         *
+         * <p>As no offset exceeds {@link #MAX_OFFSET_SECONDS}, the instant of a local time
+         * lies within that distance from the local time taken as if it was in UTC.
+         */
+        private boolean coversLocal(long localEpochSecond) {
+            return bounds[0] <= localEpochSecond - MAX_OFFSET_SECONDS
+                    && localEpochSecond + MAX_OFFSET_SECONDS < bounds[offsets.length];
+        }
+
+        /**
+         * Converts the local time to an instant.
+         *
+         * <p>Both an overlap and a gap resolve to the offset before the transition.
+         * In an overlap, the period before the transition is checked first. In a gap,
+         * subtracting the offset before the transition moves the local time forward by
+         * the length of the gap.
+         */
+        private long toEpochSecond(long localEpochSecond) {
+            var last = offsets.length - 1;
+            for (var i = 0; i <= last; i++) {
+                var candidate = localEpochSecond - offsets[i];
+                var end = bounds[i + 1];
+                if (bounds[i] <= candidate && candidate < end) {
+                    return candidate;
+                }
+                var inGap = i < last
+                        && candidate >= end
+                        && localEpochSecond - offsets[i + 1] < end;
+                if (inGap) {
+                    return candidate;
+                }
+            }
+            throw new IllegalStateException(
+                    "Unable to resolve local time " + localEpochSecond + " in known periods."
+            );
+        }
+    }
+}
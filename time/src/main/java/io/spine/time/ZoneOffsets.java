@@ -268,12 +268,12 @@ public final class ZoneOffsets {
         }
 
         @Override
-        protected ZoneOffset doForward(java.time.ZoneOffset value) {
+        protected ZoneOffset toMessage(java.time.ZoneOffset value) {
             return ofSeconds(value.getTotalSeconds());
         }
 
         @Override
-        protected java.time.ZoneOffset doBackward(ZoneOffset value) {
+        protected java.time.ZoneOffset fromMessage(ZoneOffset value) {
             var result = java.time.ZoneOffset
                     .ofTotalSeconds(value.getAmountSeconds());
             return result;
@@ -26,10 +26,14 @@
 
 package io.spine.time;
 
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
 import io.spine.annotation.GeneratedMixin;
 
 import java.time.Instant;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * An implementation of {@link io.spine.time.Temporal} based on {@link ZonedDateTime}.
  */
@@ -46,11 +50,115 @@ interface ZonedDateTimeTemporal extends TemporalMessage<ZonedDateTime>, ZonedDat
         return getZone();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Resolves the offset of the zone via the offset periods cached for the zone.
+     * Local date-times falling into a gap or an overlap are resolved the same way as
+     * {@link java.time.ZonedDateTime#of(java.time.LocalDateTime, java.time.ZoneId)
+     * ZonedDateTime.of(LocalDateTime, ZoneId)} does it.
+     */
     @Override
     default Instant toInstant() {
-        var instant = java.time.ZonedDateTime
-                .of(dateTime().toJavaTime(), zone().toJavaTime())
-                .toInstant();
+        var seconds = ZonedDateTimes.epochSecond(this);
+        var instant = Instant.ofEpochSecond(seconds, dateTime().getTime().getNano());
         return instant;
     }
+
+    /**
+     * Obtains a copy of this date/time with the given duration added.
+     *
+     * <p>The duration is added in the time-line of instants. Therefore, the local time of
+     * the result reflects the changes of the offset of the zone which occur during
+     * the duration. For example, adding one hour to {@code 01:30} right before
+     * a one-hour daylight saving gap gives {@code 03:30}.
+     *
+     * <p>As a zoned date-time stores the local date-time rather than the offset, a result
+     * which falls into the later half of an overlap is resolved to the earlier offset
+     * when converted back to an instant.
+     *
+     * @throws IllegalArgumentException
+     *         if the duration is not valid, or the result is out of the supported range
+     * @throws IllegalStateException
+     *         if the date of this instance is not valid
+     */
+    default ZonedDateTime plus(Duration duration) {
+        checkNotNull(duration);
+        Durations.checkValid(duration);
+        return ZonedDateTimes.plus(this, duration.getSeconds(), duration.getNanos());
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given duration subtracted.
+     *
+     * @see #plus(Duration)
+     */
+    default ZonedDateTime minus(Duration duration) {
+        checkNotNull(duration);
+        Durations.checkValid(duration);
+        var seconds = Math.negateExact(duration.getSeconds());
+        return ZonedDateTimes.plus(this, seconds, -duration.getNanos());
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of days added.
+     *
+     * <p>The days are added to the local date, keeping the local time. If the resulting
+     * local date-time falls into a gap in the zone, it is shifted forward by the length
+     * of the gap.
+     *
+     * @see LocalDate#plusDays(long)
+     */
+    default ZonedDateTime plusDays(long days) {
+        return ZonedDateTimes.resolve(dateTime().plusDays(days), zone());
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of days subtracted.
+     *
+     * @see #plusDays(long)
+     */
+    default ZonedDateTime minusDays(long days) {
+        return plusDays(Math.negateExact(days));
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of months added.
+     *
+     * <p>The months are added to the local date, keeping the local time. If the resulting
+     * local date-time falls into a gap in the zone, it is shifted forward by the length
+     * of the gap.
+     *
+     * @see LocalDate#plusMonths(long)
+     */
+    default ZonedDateTime plusMonths(long months) {
+        return ZonedDateTimes.resolve(dateTime().plusMonths(months), zone());
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of months subtracted.
+     *
+     * @see #plusMonths(long)
+     */
+    default ZonedDateTime minusMonths(long months) {
+        return plusMonths(Math.negateExact(months));
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of years added.
+     *
+     * @see #plusMonths(long)
+     */
+    default ZonedDateTime plusYears(long years) {
+        return ZonedDateTimes.resolve(dateTime().plusYears(years), zone());
+    }
+
+    /**
+     * Obtains a copy of this date/time with the given number of years subtracted.
+     *
+     * @see #plusYears(long)
+     */
+    default ZonedDateTime minusYears(long years) {
+        return plusYears(Math.negateExact(years));
+    }
 }
@@ -26,10 +26,13 @@
 
 package io.spine.time;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Timestamp;
 import io.spine.time.string.TimeStringifiers;
 import io.spine.util.SerializableConverter;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.CalendarMath.NANOS_PER_SECOND;
 import static io.spine.time.DtPreconditions.checkNotDefault;
 import static java.util.Objects.requireNonNull;
 
@@ -59,6 +62,160 @@ public final class ZonedDateTimes {
         return result;
     }
 
+    /**
+     * Creates a zoned date-time for the local date-time in the given zone.
+     *
+     * <p>If the local date-time falls into a gap in the zone, it is shifted forward by
+     * the length of the gap, as {@link java.time.ZonedDateTime#of(java.time.LocalDateTime,
+     * java.time.ZoneId) ZonedDateTime.of(LocalDateTime, ZoneId)} does it.
+     */
+    static ZonedDateTime resolve(LocalDateTime dateTime, ZoneId zone) {
+        var cache = ZoneOffsetCache.of(zone.getValue());
+        var local = CalendarMath.localEpochSecond(dateTime);
+        var epochSecond = cache.toEpochSecond(local);
+        var valid = epochSecond + cache.offsetAt(epochSecond);
+        var resolved = valid == local
+                       ? dateTime
+                       : CalendarMath.checkedLocalDateTime(valid, dateTime.getTime().getNano());
+        return create(resolved, zone);
+    }
+
+    /**
+     * Adds the given seconds and nanoseconds to the point in time of the given value.
+     *
+     * @param value
+     *         the value to add to
+     * @param seconds
+     *         the seconds to add
+     * @param nanos
+     *         the nanoseconds to add, which may be negative
+     */
+    static ZonedDateTime plus(ZonedDateTimeOrBuilder value, long seconds, int nanos) {
+        var epochSecond = epochSecond(value);
+        var nano = value.getDateTime().getTime().getNano() + (long) nanos;
+        epochSecond = Math.addExact(epochSecond, seconds);
+        epochSecond = Math.addExact(epochSecond, Math.floorDiv(nano, NANOS_PER_SECOND));
+        var nanoOfSecond = (int) Math.floorMod(nano, NANOS_PER_SECOND);
+        return atEpochSecond(epochSecond, nanoOfSecond, value.getZone());
+    }
+
+    /**
+     * Obtains the number of whole seconds since the epoch of the given zoned date-time.
+     *
+     * <p>The offset of the zone is resolved via the offset periods cached for the zone.
+     * A local date-time which falls into a gap or an overlap is resolved the same way as
+     * {@link java.time.ZonedDateTime#of(java.time.LocalDateTime, java.time.ZoneId)
+     * ZonedDateTime.of(LocalDateTime, ZoneId)} does it.
+     *
+     * @throws java.time.DateTimeException
+     *         if the zone is not valid
+     */
+    public static long epochSecond(ZonedDateTimeOrBuilder value) {
+        checkNotNull(value);
+        var local = CalendarMath.localEpochSecond(value.getDateTime());
+        return ZoneOffsetCache.of(value.getZone().getValue())
+                              .toEpochSecond(local);
+    }
+
+    /**
+     * Creates a zoned date-time for the given point in time in the given zone.
+     *
+     * @throws IllegalArgumentException
+     *         if the local date is out of the supported range
+     */
+    static ZonedDateTime atEpochSecond(long epochSecond, int nanos, ZoneId zone) {
+        var cache = ZoneOffsetCache.of(zone.getValue());
+        var local = epochSecond + cache.offsetAt(epochSecond);
+        return create(CalendarMath.checkedLocalDateTime(local, nanos), zone);
+    }
+
+    /**
+     * Obtains the local date-time of the given point in time in the given zone.
+     *
+     * <p>The offset of the zone is resolved via offset periods cached for the zone.
+     * The fields of the date-time are calculated arithmetically, without intermediate
+     * Java Time objects.
+     *
+     * @param time
+     *         the point in time to localize
+     * @param zone
+     *         the zone to obtain the local date-time in
+     * @return the local date-time
+     * @see #localize(long, int, java.time.ZoneId, DateTimeFields)
+     */
+    public static LocalDateTime localize(Timestamp time, ZoneId zone) {
+        checkNotNull(time);
+        checkNotNull(zone);
+        var cache = ZoneOffsetCache.of(zone.getValue());
+        return localize(time, cache);
+    }
+
+    /**
+     * Obtains the local date-time of the given point in time in the given zone.
+     *
+     * @see #localize(Timestamp, ZoneId)
+     */
+    public static LocalDateTime localize(Timestamp time, java.time.ZoneId zone) {
+        checkNotNull(time);
+        checkNotNull(zone);
+        var cache = ZoneOffsetCache.of(zone);
+        return localize(time, cache);
+    }
+
+    private static LocalDateTime localize(Timestamp time, ZoneOffsetCache cache) {
+        var seconds = time.getSeconds();
+        var localSeconds = seconds + cache.offsetAt(seconds);
+        return CalendarMath.toLocalDateTime(localSeconds, time.getNanos());
+    }
+
+    /**
+     * Calculates the fields of the local date-time of the given point in time in the given
+     * zone and stores them into the passed holder.
+     *
+     * <p>This method does not create objects. Passing the same {@code target} for many values
+     * allows localizing them without allocations.
+     *
+     * @param epochSecond
+     *         the number of seconds since the epoch
+     * @param nanos
+     *         the fraction of the second, from 0 to 999,999,999
+     * @param zone
+     *         the zone to obtain the local date-time in
+     * @param target
+     *         the holder to store the fields to
+     * @return the passed holder
+     */
+    @CanIgnoreReturnValue
+    public static DateTimeFields localize(long epochSecond,
+                                          int nanos,
+                                          java.time.ZoneId zone,
+                                          DateTimeFields target) {
+        checkNotNull(zone);
+        checkNotNull(target);
+        var offset = ZoneOffsetCache.of(zone).offsetAt(epochSecond);
+        target.set(epochSecond + offset, nanos, offset);
+        return target;
+    }
+
+    /**
+     * Obtains the local time of the given point in time in the zone with the given ID.
+     *
+     * <p>The offset of the zone is resolved via offset periods cached for the zone.
+     * The zone ID is not parsed if the zone was already used.
+     *
+     * @param epochSecond
+     *         the number of seconds since the epoch
+     * @param zoneId
+     *         the ID of the zone to obtain the local time in
+     * @return the number of seconds since {@code 1970-01-01T00:00:00} in the local time-line
+     * @throws java.time.DateTimeException
+     *         if the ID is not a valid zone ID, or the zone is not available
+     */
+    public static long localEpochSecond(long epochSecond, String zoneId) {
+        checkNotNull(zoneId);
+        return epochSecond + ZoneOffsetCache.of(zoneId).offsetAt(epochSecond);
+    }
+
     /**
      * Creates the instance by the passed Java Time value.
      */
@@ -117,14 +274,14 @@ public final class ZonedDateTimes {
         }
 
         @Override
-        protected ZonedDateTime doForward(java.time.ZonedDateTime value) {
+        protected ZonedDateTime toMessage(java.time.ZonedDateTime value) {
             var dateTime = LocalDateTimes.of(value.toLocalDateTime());
             var zoneId = ZoneIds.of(value.getZone());
             return create(dateTime, zoneId);
         }
 
         @Override
-        protected java.time.ZonedDateTime doBackward(ZonedDateTime value) {
+        protected java.time.ZonedDateTime fromMessage(ZonedDateTime value) {
             var dateTime = value.dateTime().toJavaTime();
             var zoneId = value.zone().toJavaTime();
             return java.time.ZonedDateTime.of(dateTime, zoneId);
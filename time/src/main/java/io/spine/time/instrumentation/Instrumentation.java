@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.instrumentation;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.annotation.Internal;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+/**
+ * Reports the operations of the library to the installed {@linkplain TimeListener listeners}.
+ *
+ * <p>The listeners are discovered via {@link ServiceLoader} once, when this class is loaded.
+ * If there are no active listeners, {@link #start()} does not read the clock, and
+ * {@link #completed} and {@link #failed} do nothing. As the check is made against
+ * a {@code static final} field, the JIT compiler removes the calls from the hot paths
+ * altogether.
+ *
+ * <p>An instrumented operation is written as follows:
+ * <pre>{@code
+ * var start = Instrumentation.start();
+ * var result = doOperation();
+ * Instrumentation.completed(TimeOperation.PARSE, LocalDate.class, start);
+ * }</pre>
+ */
+@Internal
+public final class Instrumentation {
+
+    private static final ImmutableList<TimeListener> listeners = load();
+    private static final @Nullable TimeListener delegate = combine(listeners);
+    private static final boolean ENABLED = delegate != null;
+
+    /** Prevents instantiation of this utility class. */
+    private Instrumentation() {
+    }
+
+    /**
+     * Tells if there is at least one active listener.
+     */
+    public static boolean enabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Obtains the start time of an operation.
+     *
+     * @return the value of {@link System#nanoTime()} if instrumentation is enabled,
+     *         zero otherwise
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Reports a successfully completed operation.
+     *
+     * @param operation
+     *         the performed operation
+     * @param type
+     *         the type of the processed value
+     * @param start
+     *         the value returned by {@link #start()} before the operation
+     */
+    @SuppressWarnings("ConstantConditions") // `delegate` is not `null` when enabled.
+    public static void completed(TimeOperation operation, Class<?> type, long start) {
+        if (ENABLED) {
+            delegate.completed(operation, type, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reports an operation which threw the given exception.
+     *
+     * @param operation
+     *         the performed operation
+     * @param type
+     *         the type of the processed value
+     * @param start
+     *         the value returned by {@link #start()} before the operation
+     * @param error
+     *         the thrown exception
+     */
+    @SuppressWarnings("ConstantConditions") // `delegate` is not `null` when enabled.
+    public static void failed(TimeOperation operation, Class<?> type, long start,
+                              RuntimeException error) {
+        if (ENABLED) {
+            delegate.failed(operation, type, System.nanoTime() - start, error);
+        }
+    }
+
+    /**
+     * Obtains the active listener of the given type.
+     *
+     * <p>Allows reading the data collected by a listener created by {@link ServiceLoader},
+     * such as {@link TimeMetrics}.
+     */
+    public static <L extends TimeListener> Optional<L> listener(Class<L> type) {
+        checkNotNull(type);
+        return listeners.stream()
+                        .filter(type::isInstance)
+                        .map(type::cast)
+                        .findFirst();
+    }
+
+    private static ImmutableList<TimeListener> load() {
+        var loader = ServiceLoader.load(TimeListener.class,
+                                        Instrumentation.class.getClassLoader());
+        return loader.stream()
+                     .map(ServiceLoader.Provider::get)
+                     .filter(TimeListener::isActive)
+                     .collect(toImmutableList());
+    }
+
+    private static @Nullable TimeListener combine(ImmutableList<TimeListener> listeners) {
+        switch (listeners.size()) {
+            case 0:
+                return null;
+            case 1:
+                return listeners.get(0);
+            default:
+                return new Composite(listeners);
+        }
+    }
+
+    /**
+     * Passes notifications to several listeners.
+     */
+    private static final class Composite implements TimeListener {
+
+        private final ImmutableList<TimeListener> listeners;
+
+        private Composite(ImmutableList<TimeListener> listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void completed(TimeOperation operation, Class<?> type, long nanos) {
+            for (var listener : listeners) {
+                listener.completed(operation, type, nanos);
+            }
+        }
+
+        @Override
+        public void failed(TimeOperation operation, Class<?> type, long nanos,
+                           RuntimeException error) {
+            for (var listener : listeners) {
+                listener.failed(operation, type, nanos, error);
+            }
+        }
+    }
+}
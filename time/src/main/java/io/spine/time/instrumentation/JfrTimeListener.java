@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.instrumentation;
+
+import com.google.auto.service.AutoService;
+
+/**
+ * A listener which emits Java Flight Recorder events for the operations of the library.
+ *
+ * <p>The listener is installed by default, yet it is active only if the
+ * {@value #ENABLED_PROPERTY} system property is set to {@code true}. Otherwise, it does not
+ * affect the performance of the library.
+ *
+ * <p>When active, the listener emits {@code io.spine.time.Operation} events if they are
+ * enabled in the running recording. For example:
+ * <pre>
+ * java -Dio.spine.time.jfr=true -XX:StartFlightRecording:filename=time.jfr ...
+ * </pre>
+ */
+@AutoService(TimeListener.class)
+public final class JfrTimeListener implements TimeListener {
+
+    /**
+     * The name of the system property which activates the listener.
+     */
+    public static final String ENABLED_PROPERTY = "io.spine.time.jfr";
+
+    /**
+     * Tells if the {@value #ENABLED_PROPERTY} system property is set to {@code true}.
+     */
+    @Override
+    public boolean isActive() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    @Override
+    public void completed(TimeOperation operation, Class<?> type, long nanos) {
+        emit(operation, type, nanos, false);
+    }
+
+    @Override
+    public void failed(TimeOperation operation, Class<?> type, long nanos,
+                       RuntimeException error) {
+        emit(operation, type, nanos, true);
+    }
+
+    private static void emit(TimeOperation operation, Class<?> type, long nanos, boolean failed) {
+        var event = new TimeOperationEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operation.name();
+        event.type = type;
+        event.latency = nanos;
+        event.failed = failed;
+        event.commit();
+    }
+}
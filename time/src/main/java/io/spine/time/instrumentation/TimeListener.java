@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.instrumentation;
+
+/**
+ * Observes the operations performed by the library.
+ *
+ * <p>Implementations are discovered via {@link java.util.ServiceLoader} when
+ * the {@link Instrumentation} class is loaded. To install a listener, declare it in
+ * {@code META-INF/services/io.spine.time.instrumentation.TimeListener}, or annotate it
+ * with {@code @AutoService(TimeListener.class)}.
+ *
+ * <p>Listeners are called in the threads performing the operations. Therefore,
+ * implementations must be thread-safe and should return quickly.
+ *
+ * @see TimeMetrics
+ * @see JfrTimeListener
+ */
+public interface TimeListener {
+
+    /**
+     * Tells if the listener should receive the notifications.
+     *
+     * <p>The method is called once, when the listener is discovered. A listener which is
+     * not active is not called afterwards and does not affect the performance of the library.
+     *
+     * <p>The default implementation returns {@code true}.
+     */
+    default boolean isActive() {
+        return true;
+    }
+
+    /**
+     * Handles a successfully completed operation.
+     *
+     * @param operation
+     *         the performed operation
+     * @param type
+     *         the type of the processed date/time value
+     * @param nanos
+     *         the time spent on the operation, in nanoseconds
+     */
+    void completed(TimeOperation operation, Class<?> type, long nanos);
+
+    /**
+     * Handles an operation which threw an exception.
+     *
+     * <p>The default implementation does nothing.
+     *
+     * @param operation
+     *         the performed operation
+     * @param type
+     *         the type of the date/time value which was to be produced or processed
+     * @param nanos
+     *         the time spent on the operation, in nanoseconds
+     * @param error
+     *         the thrown exception
+     */
+    default void failed(TimeOperation operation, Class<?> type, long nanos,
+                        RuntimeException error) {
+        // Do nothing by default.
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.instrumentation;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A listener which counts the operations and collects histograms of their latencies
+ * per operation and type.
+ *
+ * <p>The latencies are collected in buckets by powers of two. The bucket {@code i} counts
+ * the operations which took from {@code 2^(i-1)} to {@code 2^i - 1} nanoseconds. The bucket
+ * zero counts the operations which took no measurable time.
+ *
+ * <p>To install the listener, declare this class in
+ * {@code META-INF/services/io.spine.time.instrumentation.TimeListener}. The collected data
+ * is then available via {@code Instrumentation.listener(TimeMetrics.class)}.
+ * The class may also be extended or wrapped by a listener which exports the data to
+ * a monitoring system.
+ */
+public class TimeMetrics implements TimeListener {
+
+    private final Map<TimeOperation, ConcurrentMap<Class<?>, Stats>> stats;
+
+    /**
+     * Creates a new instance with no collected data.
+     */
+    public TimeMetrics() {
+        stats = new EnumMap<>(TimeOperation.class);
+        for (var operation : TimeOperation.values()) {
+            stats.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void completed(TimeOperation operation, Class<?> type, long nanos) {
+        statsFor(operation, type).record(nanos, false);
+    }
+
+    @Override
+    public void failed(TimeOperation operation, Class<?> type, long nanos,
+                       RuntimeException error) {
+        statsFor(operation, type).record(nanos, true);
+    }
+
+    /**
+     * Obtains the data collected for the given operation over values of the given type.
+     */
+    public Stats stats(TimeOperation operation, Class<?> type) {
+        checkNotNull(operation);
+        checkNotNull(type);
+        return statsFor(operation, type);
+    }
+
+    /**
+     * Obtains the data collected for the given operation per type of the values.
+     */
+    public Map<Class<?>, Stats> stats(TimeOperation operation) {
+        checkNotNull(operation);
+        return Map.copyOf(stats.get(operation));
+    }
+
+    private Stats statsFor(TimeOperation operation, Class<?> type) {
+        var byType = stats.get(operation);
+        var result = byType.get(type);
+        if (result == null) {
+            result = byType.computeIfAbsent(type, t -> new Stats());
+        }
+        return result;
+    }
+
+    /**
+     * The counters and the latency histogram of an operation.
+     *
+     * <p>The values are updated concurrently, so the values read one after another
+     * may belong to different moments.
+     */
+    public static final class Stats {
+
+        /**
+         * The number of buckets of the histogram, one per bit of a non-negative {@code long}.
+         */
+        public static final int BUCKETS = Long.SIZE;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        private Stats() {
+        }
+
+        private void record(long nanos, boolean failed) {
+            var latency = Math.max(nanos, 0L);
+            count.increment();
+            if (failed) {
+                failures.increment();
+            }
+            totalNanos.add(latency);
+            histogram.incrementAndGet(bucketOf(latency));
+        }
+
+        private static int bucketOf(long nanos) {
+            return Long.SIZE - Long.numberOfLeadingZeros(nanos);
+        }
+
+        /**
+         * Obtains the number of the operations, including the failed ones.
+         */
+        public long count() {
+            return count.sum();
+        }
+
+        /**
+         * Obtains the number of the operations which threw an exception.
+         */
+        public long failures() {
+            return failures.sum();
+        }
+
+        /**
+         * Obtains the time spent on all the operations, in nanoseconds.
+         */
+        public long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * Obtains the number of the operations in each bucket of the histogram.
+         */
+        public long[] histogram() {
+            var result = new long[BUCKETS];
+            for (var i = 0; i < BUCKETS; i++) {
+                result[i] = histogram.get(i);
+            }
+            return result;
+        }
+
+        /**
+         * Obtains the upper bound of the latency of the given share of the operations.
+         *
+         * <p>The result is the upper bound of the histogram bucket containing the quantile,
+         * so it overestimates the latency by at most two times.
+         *
+         * @param quantile
+         *         the share of the operations, from 0 to 1
+         * @return the latency in nanoseconds, or zero if there were no operations
+         */
+        public long quantile(double quantile) {
+            checkArgument(quantile >= 0.0 && quantile <= 1.0,
+                          "The quantile must be in [0, 1]: %s.", quantile);
+            var counts = histogram();
+            var total = 0L;
+            for (var bucketCount : counts) {
+                total += bucketCount;
+            }
+            var rank = (long) Math.ceil(quantile * total);
+            var seen = 0L;
+            for (var i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank && counts[i] > 0) {
+                    return upperBound(i);
+                }
+            }
+            return 0L;
+        }
+
+        private static long upperBound(int bucket) {
+            // For the last bucket, the shift overflows to `Long.MAX_VALUE`.
+            return (1L << bucket) - 1;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                              .add("count", count())
+                              .add("failures", failures())
+                              .add("totalNanos", totalNanos())
+                              .toString();
+        }
+    }
+}
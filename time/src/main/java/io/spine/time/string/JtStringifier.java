@@ -27,16 +27,21 @@
 package io.spine.time.string;
 
 import io.spine.string.SerializableStringifier;
+import io.spine.time.instrumentation.Instrumentation;
 import io.spine.util.SerializableConverter;
 import io.spine.util.SerializableFunction;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.time.instrumentation.TimeOperation.FORMAT;
+import static io.spine.time.instrumentation.TimeOperation.PARSE;
 import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
 import static java.util.Objects.requireNonNull;
 
 /**
  * An abstract base for stringifier that use Java Time types for conversion to string and parsing.
  *
+ * <p>Parsing and formatting are reported to the {@link Instrumentation}.
+ *
  * @param <T>
  *         the type to stringify
  * @param <J>
@@ -46,35 +51,43 @@ abstract class JtStringifier<T, J> extends SerializableStringifier<T> {
 
     private static final long serialVersionUID = 0L;
 
+    private final Class<T> type;
     private final SerializableConverter<J, T> converter;
     private final SerializableFunction<String, J> parser;
 
     JtStringifier(String identity,
+                  Class<T> type,
                   SerializableFunction<String, J> parser,
                   SerializableConverter<J, T> converter) {
         super(identity);
+        this.type = checkNotNull(type);
         this.converter = checkNotNull(converter);
         this.parser = checkNotNull(parser);
     }
 
     @Override
     protected String toString(T value) {
+        var start = Instrumentation.start();
         var javaTime = converter.reverse().convert(value);
         requireNonNull(javaTime);
 
         var result = javaTime.toString();
+        Instrumentation.completed(FORMAT, type, start);
         return result;
     }
 
     @Override
     protected T fromString(String str) {
+        var start = Instrumentation.start();
         T value;
         try {
             var parsed = parser.apply(str);
             value = converter.convert(parsed);
         } catch (RuntimeException e) {
+            Instrumentation.failed(PARSE, type, start, e);
             throw illegalArgumentWithCauseOf(e);
         }
+        Instrumentation.completed(PARSE, type, start);
         return requireNonNull(value);
     }
 }
@@ -39,6 +39,7 @@ final class LocalDateStringifier extends JtStringifier<LocalDate, java.time.Loca
 
     private LocalDateStringifier() {
         super("TimeStringifiers.forLocalDate()",
+              LocalDate.class,
               java.time.LocalDate::parse,
               LocalDates.converter());
     }
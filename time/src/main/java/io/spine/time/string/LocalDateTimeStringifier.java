@@ -39,6 +39,7 @@ final class LocalDateTimeStringifier extends JtStringifier<LocalDateTime, java.t
 
     private LocalDateTimeStringifier() {
         super("TimeStringifiers.forLocalDateTime()",
+              LocalDateTime.class,
               java.time.LocalDateTime::parse,
               LocalDateTimes.converter());
     }
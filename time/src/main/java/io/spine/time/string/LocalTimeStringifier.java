@@ -39,6 +39,7 @@ final class LocalTimeStringifier extends JtStringifier<LocalTime, java.time.Loca
 
     private LocalTimeStringifier() {
         super("TimeStringifiers.forLocalTime()",
+              LocalTime.class,
               java.time.LocalTime::parse,
               LocalTimes.converter());
     }
@@ -40,6 +40,7 @@ final class OffsetDateTimeStringifier
 
     private OffsetDateTimeStringifier() {
         super("TimeStringifiers.forOffsetDateTime()",
+              io.spine.time.OffsetDateTime.class,
               java.time.OffsetDateTime::parse,
               io.spine.time.OffsetDateTimes.converter());
     }
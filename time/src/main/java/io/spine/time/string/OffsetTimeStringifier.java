@@ -40,6 +40,7 @@ final class OffsetTimeStringifier
 
     private OffsetTimeStringifier() {
         super("TimeStringifiers.forOffsetTime()",
+              io.spine.time.OffsetTime.class,
               java.time.OffsetTime::parse,
               io.spine.time.OffsetTimes.converter());
     }
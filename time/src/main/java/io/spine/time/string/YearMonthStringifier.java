@@ -39,6 +39,7 @@ final class YearMonthStringifier extends JtStringifier<YearMonth, java.time.Year
 
     private YearMonthStringifier() {
         super("TimeStringifiers.forYearMonth()",
+              YearMonth.class,
               java.time.YearMonth::parse,
               YearMonths.converter());
     }
@@ -39,6 +39,7 @@ final class ZoneIdStringifier extends JtStringifier<ZoneId, java.time.ZoneId> {
 
     private ZoneIdStringifier() {
         super("TimeStringifiers.forZoneId()",
+              ZoneId.class,
               java.time.ZoneId::of,
               ZoneIds.converter());
     }
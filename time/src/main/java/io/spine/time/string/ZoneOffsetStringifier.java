@@ -40,6 +40,7 @@ final class ZoneOffsetStringifier
 
     private ZoneOffsetStringifier() {
         super("TimeStringifiers.forZoneOffset()",
+              io.spine.time.ZoneOffset.class,
               java.time.ZoneOffset::of,
               io.spine.time.ZoneOffsets.converter());
     }
@@ -39,6 +39,7 @@ final class ZonedDateTimeStringifier extends JtStringifier<ZonedDateTime, java.t
 
     private ZonedDateTimeStringifier() {
         super("TimeStringifiers.forZonedDateTime()",
+              ZonedDateTime.class,
               java.time.ZonedDateTime::parse,
               ZonedDateTimes.converter());
     }
@@ -38,4 +38,4 @@ import java.time.Instant
 /**
  * Converts this instant to [Timestamp].
  */
-public fun Instant.toTimestamp(): Timestamp = InstantConverter.instance().convert(this)!!
+public fun Instant.toTimestamp(): Timestamp = InstantConverter.toTimestamp(this)
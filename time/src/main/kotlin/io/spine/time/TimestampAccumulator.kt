@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time
+
+import com.google.protobuf.Duration
+import com.google.protobuf.Timestamp
+import com.google.protobuf.util.Durations
+import com.google.protobuf.util.Timestamps
+import java.lang.Math.addExact
+import java.lang.Math.floorDiv
+import java.lang.Math.floorMod
+import java.lang.Math.negateExact
+
+/**
+ * Accumulates durations added to or subtracted from a point in time and builds
+ * a single [Timestamp] at the end.
+ *
+ * A chain of operators like `ts + d1 + d2 - d3` creates a timestamp on each step.
+ * The accumulator keeps the seconds and nanoseconds of the intermediate point in time
+ * as primitive values instead:
+ *
+ * ```kotlin
+ * val deadline = start.accumulate {
+ *     this += d1
+ *     this += d2
+ *     this -= d3
+ * }
+ * ```
+ *
+ * Each step performs the same checks as [Timestamps.add] and [Timestamps.subtract] do.
+ * The added duration must be valid, and the intermediate point in time must be a valid
+ * timestamp. Otherwise, [IllegalArgumentException] is thrown. If the seconds overflow,
+ * [ArithmeticException] is thrown.
+ *
+ * Instances of this class are mutable and are not thread-safe.
+ *
+ * @see Timestamp.accumulate
+ */
+public class TimestampAccumulator private constructor(seconds: Long, nanos: Int) {
+
+    /**
+     * The number of seconds since the epoch of the accumulated point in time.
+     */
+    public var seconds: Long = seconds
+        private set
+
+    /**
+     * The fraction of the second of the accumulated point in time,
+     * from 0 to 999,999,999.
+     */
+    public var nanos: Int = nanos
+        private set
+
+    public companion object {
+
+        private const val NANOS_PER_SECOND = 1_000_000_000L
+
+        /**
+         * Creates a new accumulator starting at the given point in time.
+         *
+         * @throws IllegalArgumentException if the timestamp is not valid
+         */
+        @JvmStatic
+        public fun startingAt(start: Timestamp): TimestampAccumulator {
+            Timestamps.checkValid(start)
+            return TimestampAccumulator(start.seconds, start.nanos)
+        }
+    }
+
+    /**
+     * Moves the accumulated point in time forward by the given duration.
+     */
+    public operator fun plusAssign(duration: Duration) {
+        Durations.checkValid(duration)
+        add(duration.seconds, duration.nanos)
+    }
+
+    /**
+     * Moves the accumulated point in time backward by the given duration.
+     */
+    public operator fun minusAssign(duration: Duration) {
+        Durations.checkValid(duration)
+        add(negateExact(duration.seconds), -duration.nanos)
+    }
+
+    private fun add(seconds: Long, nanos: Int) {
+        val totalNanos = this.nanos.toLong() + nanos
+        val newSeconds = addExact(
+            addExact(this.seconds, seconds),
+            floorDiv(totalNanos, NANOS_PER_SECOND)
+        )
+        val newNanos = floorMod(totalNanos, NANOS_PER_SECOND).toInt()
+        require(Timestamps.isValid(newSeconds, newNanos)) {
+            "The resulting timestamp is not valid." +
+                    " Seconds: $newSeconds, nanos: $newNanos."
+        }
+        this.seconds = newSeconds
+        this.nanos = newNanos
+    }
+
+    /**
+     * Builds the timestamp of the accumulated point in time.
+     */
+    public fun toTimestamp(): Timestamp =
+        Timestamp.newBuilder()
+            .setSeconds(seconds)
+            .setNanos(nanos)
+            .build()
+
+    override fun toString(): String = Timestamps.toString(toTimestamp())
+}
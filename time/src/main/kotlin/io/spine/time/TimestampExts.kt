@@ -148,3 +148,13 @@ public operator fun Timestamp.minus(other: Timestamp): Duration = between(this,
  */
 public operator fun Timestamp.minus(length: Duration): Timestamp = subtract(this, length)
 
+/**
+ * Applies the durations added and subtracted in the given [block] to this timestamp,
+ * creating only the resulting timestamp.
+ *
+ * @see TimestampAccumulator
+ */
+public inline fun Timestamp.accumulate(block: TimestampAccumulator.() -> Unit): Timestamp =
+    TimestampAccumulator.startingAt(this)
+        .apply(block)
+        .toTimestamp()
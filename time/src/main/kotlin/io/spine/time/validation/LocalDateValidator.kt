@@ -30,6 +30,8 @@ import com.google.auto.service.AutoService
 import io.spine.base.FieldPath
 import io.spine.time.LocalDate
 import io.spine.time.Month
+import io.spine.time.instrumentation.Instrumentation
+import io.spine.time.instrumentation.TimeOperation.VALIDATE
 import io.spine.validation.DetectedViolation
 import io.spine.validation.FieldViolation
 import io.spine.validation.MessageValidator
@@ -44,12 +46,21 @@ import java.time.YearMonth
  *
  * Ensures that the day of a month is within the range allowed for the given month.
  * This takes into account the number of days in February in leap years.
+ *
+ * Validation is reported to the [Instrumentation].
  */
 @AutoService(MessageValidator::class)
 public class LocalDateValidator : MessageValidator<LocalDate> {
 
-    @Suppress("ReturnCount")
     override fun validate(message: LocalDate): List<DetectedViolation> {
+        val start = Instrumentation.start()
+        val violations = checkDay(message)
+        Instrumentation.completed(VALIDATE, LocalDate::class.java, start)
+        return violations
+    }
+
+    @Suppress("ReturnCount")
+    private fun checkDay(message: LocalDate): List<DetectedViolation> {
         val year = message.year
         val month = message.month
         val day = message.day
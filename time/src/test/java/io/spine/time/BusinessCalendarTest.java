@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static io.spine.time.DayOfWeek.SATURDAY;
+import static io.spine.time.DayOfWeek.SUNDAY;
+import static io.spine.time.Month.DECEMBER;
+import static io.spine.time.Month.JANUARY;
+import static io.spine.time.Month.MAY;
+
+@DisplayName("`BusinessCalendar` should")
+class BusinessCalendarTest {
+
+    /**
+     * A calendar of 2024 with weekends on Saturday and Sunday, May 1 and December 25
+     * being holidays, and Saturday, May 4 being a working day.
+     */
+    private static final BusinessCalendar CALENDAR = BusinessCalendar.from(
+            BusinessCalendarDefinition.newBuilder()
+                    .setId("test")
+                    .setFirstDay(date(JANUARY, 1))
+                    .setLastDay(date(DECEMBER, 31))
+                    .addWeekend(SATURDAY)
+                    .addWeekend(SUNDAY)
+                    .addHoliday(date(MAY, 1))
+                    .addHoliday(date(DECEMBER, 25))
+                    .addExtraWorkingDay(date(MAY, 4))
+                    .build()
+    );
+
+    @Test
+    @DisplayName("not accept `null`s")
+    void nulls() {
+        new NullPointerTester()
+                .setDefault(LocalDate.class, date(JANUARY, 1))
+                .testAllPublicInstanceMethods(CALENDAR);
+        new NullPointerTester()
+                .setDefault(BusinessCalendarDefinition.class,
+                            BusinessCalendarDefinition.getDefaultInstance())
+                .testAllPublicStaticMethods(BusinessCalendar.class);
+    }
+
+    @Test
+    @DisplayName("provide its range")
+    void range() {
+        assertThat(CALENDAR.id())
+                .isEqualTo("test");
+        assertThat(CALENDAR.firstDay())
+                .isEqualTo(date(JANUARY, 1));
+        assertThat(CALENDAR.lastDay())
+                .isEqualTo(date(DECEMBER, 31));
+        // 2024 has 262 weekdays, minus two holidays, plus one working Saturday.
+        assertThat(CALENDAR.workingDayCount())
+                .isEqualTo(261);
+    }
+
+    @Test
+    @DisplayName("tell working days")
+    void workingDays() {
+        assertThat(CALENDAR.isWorkingDay(date(MAY, 2)))
+                .isTrue();
+        assertThat(CALENDAR.isWorkingDay(date(MAY, 1)))
+                .isFalse();
+        assertThat(CALENDAR.isWorkingDay(date(MAY, 4)))
+                .isTrue();
+        assertThat(CALENDAR.isWorkingDay(date(MAY, 5)))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("count working days between dates")
+    void count() {
+        assertThat(CALENDAR.workingDaysBetween(date(MAY, 1), date(MAY, 8)))
+                .isEqualTo(5);
+        assertThat(CALENDAR.workingDaysBetween(date(MAY, 8), date(MAY, 1)))
+                .isEqualTo(-5);
+        assertThat(CALENDAR.workingDaysBetween(date(MAY, 1), date(MAY, 1)))
+                .isEqualTo(0);
+        var nextYear = LocalDates.of(2025, JANUARY, 1);
+        assertThat(CALENDAR.workingDaysBetween(date(JANUARY, 1), nextYear))
+                .isEqualTo(CALENDAR.workingDayCount());
+    }
+
+    @Nested
+    @DisplayName("add working days")
+    class Add {
+
+        @Test
+        @DisplayName("forward")
+        void forward() {
+            // Tuesday, April 30 + 1 skips the holiday on May 1.
+            assertThat(CALENDAR.addWorkingDays(date(Month.APRIL, 30), 1))
+                    .isEqualTo(date(MAY, 2));
+            // Friday, May 3 + 1 is the working Saturday.
+            assertThat(CALENDAR.addWorkingDays(date(MAY, 3), 1))
+                    .isEqualTo(date(MAY, 4));
+            assertThat(CALENDAR.addWorkingDays(date(MAY, 4), 1))
+                    .isEqualTo(date(MAY, 6));
+            // From a holiday.
+            assertThat(CALENDAR.addWorkingDays(date(MAY, 1), 2))
+                    .isEqualTo(date(MAY, 3));
+        }
+
+        @Test
+        @DisplayName("backward")
+        void backward() {
+            assertThat(CALENDAR.addWorkingDays(date(MAY, 2), -1))
+                    .isEqualTo(date(Month.APRIL, 30));
+            assertThat(CALENDAR.addWorkingDays(date(MAY, 5), -1))
+                    .isEqualTo(date(MAY, 4));
+        }
+
+        @Test
+        @DisplayName("consistently with counting")
+        void consistently() {
+            var start = date(JANUARY, 2);
+            for (var days = 1; days < 200; days += 7) {
+                var result = CALENDAR.addWorkingDays(start, days);
+                assertThat(CALENDAR.isWorkingDay(result))
+                        .isTrue();
+                assertThat(CALENDAR.workingDaysBetween(start, result))
+                        .isEqualTo(days);
+            }
+        }
+
+        @Test
+        @DisplayName("returning the same date for zero days")
+        void zero() {
+            assertThat(CALENDAR.addWorkingDays(date(MAY, 5), 0))
+                    .isEqualTo(date(MAY, 5));
+        }
+
+        @Test
+        @DisplayName("not beyond the calendar")
+        void outOfRange() {
+            assertIllegalArgument(() -> CALENDAR.addWorkingDays(date(DECEMBER, 30), 3));
+            assertIllegalArgument(() -> CALENDAR.addWorkingDays(date(JANUARY, 2), -2));
+        }
+    }
+
+    @Test
+    @DisplayName("reject dates out of the range")
+    void dateOutOfRange() {
+        var date = LocalDates.of(2023, DECEMBER, 31);
+        assertIllegalArgument(() -> CALENDAR.isWorkingDay(date));
+        assertIllegalArgument(() -> CALENDAR.workingDaysBetween(date, date(MAY, 1)));
+    }
+
+    @Test
+    @DisplayName("reject holidays out of the range")
+    void holidayOutOfRange() {
+        var definition = BusinessCalendarDefinition.newBuilder()
+                .setFirstDay(date(JANUARY, 1))
+                .setLastDay(date(DECEMBER, 31))
+                .addHoliday(LocalDates.of(2025, JANUARY, 1))
+                .build();
+        assertIllegalArgument(() -> BusinessCalendar.from(definition));
+    }
+
+    private static LocalDate date(Month month, int day) {
+        return LocalDates.of(2024, month, day);
+    }
+}
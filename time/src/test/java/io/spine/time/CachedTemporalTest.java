@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.EqualsTester;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.time.Month.APRIL;
+import static io.spine.time.Month.JULY;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`CachedTemporal` should")
+class CachedTemporalTest {
+
+    private static final LocalDate EARLIER = LocalDates.of(1961, APRIL, 12);
+    private static final LocalDate LATER = LocalDates.of(1969, JULY, 20);
+
+    @Test
+    @DisplayName("remember the point in time of the wrapped value")
+    void rememberTimestamp() {
+        var cached = CachedTemporal.of(EARLIER);
+        var expected = EARLIER.toTimestamp();
+
+        assertThat(cached.value()).isSameInstanceAs(EARLIER);
+        assertThat(cached.toTimestamp()).isEqualTo(expected);
+        assertThat(cached.seconds()).isEqualTo(expected.getSeconds());
+        assertThat(cached.nanos()).isEqualTo(expected.getNanos());
+        assertThat(cached.toInstant()).isEqualTo(EARLIER.toInstant());
+        assertThat(cached.packed()).isEqualTo(EARLIER.packed());
+    }
+
+    @Test
+    @DisplayName("compare as the wrapped values")
+    void compare() {
+        var earlier = CachedTemporal.of(EARLIER);
+        var later = CachedTemporal.of(LATER);
+
+        assertThat(earlier.isBefore(later)).isTrue();
+        assertThat(later.isAfter(earlier)).isTrue();
+        assertThat(earlier.isSameAs(CachedTemporal.of(EARLIER))).isTrue();
+
+        var list = new ArrayList<CachedTemporal<LocalDate>>();
+        list.add(later);
+        list.add(earlier);
+        Collections.sort(list);
+        assertThat(list).containsExactly(earlier, later).inOrder();
+    }
+
+    @Test
+    @DisplayName("reject comparison of values of different types")
+    @SuppressWarnings({"unchecked", "rawtypes"}) // To bypass the compile-time type check.
+    void differentTypes() {
+        CachedTemporal date = CachedTemporal.of(EARLIER);
+        CachedTemporal yearMonth = CachedTemporal.of(YearMonths.of(1961, 4));
+        assertThrows(IllegalArgumentException.class, () -> date.compareTo(yearMonth));
+    }
+
+    @Test
+    @DisplayName("be equal if the wrapped values are equal")
+    void equality() {
+        new EqualsTester()
+                .addEqualityGroup(CachedTemporal.of(EARLIER), CachedTemporal.of(EARLIER))
+                .addEqualityGroup(CachedTemporal.of(LATER))
+                .testEquals();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`CalendarHistograms` should")
+class CalendarHistogramsTest {
+
+    private static final ZoneId NEW_YORK = ZoneIds.of("America/New_York");
+
+    @Test
+    @DisplayName("not accept `null`s")
+    void nulls() {
+        new NullPointerTester()
+                .setDefault(ZoneId.class, NEW_YORK)
+                .setDefault(LongStream.class, LongStream.empty())
+                .testAllPublicStaticMethods(CalendarHistograms.class);
+    }
+
+    @Test
+    @DisplayName("count points in time per date in the zone")
+    void byDate() {
+        var seconds = new long[]{
+                epochSecond("2024-03-10T04:59:59Z"), // 2024-03-09 in New York.
+                epochSecond("2024-03-10T05:00:00Z"),
+                epochSecond("2024-03-10T06:59:59Z"), // The DST starts at 07:00 UTC.
+                epochSecond("2024-03-12T03:59:59Z")  // 2024-03-11 in New York.
+        };
+
+        var histogram = CalendarHistograms.byDate(seconds, NEW_YORK);
+
+        assertThat(histogram.counts())
+                .containsExactly(LocalDates.of(2024, Month.MARCH, 9), 1L,
+                                 LocalDates.of(2024, Month.MARCH, 10), 2L,
+                                 LocalDates.of(2024, Month.MARCH, 11), 1L)
+                .inOrder();
+        assertThat(histogram.totalCount())
+                .isEqualTo(4);
+        assertThat(histogram.hasSums())
+                .isFalse();
+        assertThrows(IllegalStateException.class, histogram::totalSum);
+    }
+
+    @Test
+    @DisplayName("include the periods without values")
+    void dense() {
+        var seconds = new long[]{
+                epochSecond("2023-11-15T12:00:00Z"),
+                epochSecond("2024-02-01T12:00:00Z")
+        };
+
+        var histogram = CalendarHistograms.byMonth(seconds, NEW_YORK);
+
+        assertThat(histogram.size())
+                .isEqualTo(4);
+        assertThat(histogram.key(1))
+                .isEqualTo(YearMonths.of(2023, 12));
+        assertThat(histogram.count(1))
+                .isEqualTo(0);
+        assertThat(histogram.count(YearMonths.of(2024, 2)))
+                .isEqualTo(1);
+        assertThat(histogram.count(YearMonths.of(2030, 1)))
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("sum up values per month")
+    void sums() {
+        var seconds = new long[]{
+                epochSecond("2024-01-31T23:00:00Z"),
+                epochSecond("2024-02-01T04:59:59Z"), // Still January in New York.
+                epochSecond("2024-02-01T05:00:00Z")
+        };
+        var values = new long[]{10, 20, 30};
+
+        var histogram = CalendarHistograms.byMonth(seconds, values, NEW_YORK);
+
+        assertThat(histogram.sums())
+                .containsExactly(YearMonths.of(2024, 1), 30L,
+                                 YearMonths.of(2024, 2), 30L)
+                .inOrder();
+        assertThat(histogram.sum(YearMonths.of(2024, 1)))
+                .isEqualTo(30);
+        assertThat(histogram.totalSum())
+                .isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("count points in time per day of week")
+    void byDayOfWeek() {
+        var seconds = new long[]{
+                epochSecond("2024-06-03T12:00:00Z"), // Monday.
+                epochSecond("2024-06-09T12:00:00Z"), // Sunday.
+                epochSecond("2024-06-16T12:00:00Z")  // Sunday.
+        };
+
+        var histogram = CalendarHistograms.byDayOfWeek(seconds, NEW_YORK);
+
+        assertThat(histogram.size())
+                .isEqualTo(7);
+        assertThat(histogram.key(0))
+                .isEqualTo(DayOfWeek.MONDAY);
+        assertThat(histogram.count(DayOfWeek.MONDAY))
+                .isEqualTo(1);
+        assertThat(histogram.count(DayOfWeek.SUNDAY))
+                .isEqualTo(2);
+        assertThat(histogram.count(DayOfWeek.WEDNESDAY))
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("produce the same result as Java Time in parallel")
+    void parallel() {
+        var random = new Random(42);
+        var from = epochSecond("1990-01-01T00:00:00Z");
+        var to = epochSecond("2030-01-01T00:00:00Z");
+        var seconds = random.longs(200_000, from, to)
+                            .toArray();
+        var zone = NEW_YORK.toJavaTime();
+        var expected = new HashMap<LocalDate, Long>();
+        for (var second : seconds) {
+            var date = LocalDates.of(Instant.ofEpochSecond(second)
+                                            .atZone(zone)
+                                            .toLocalDate());
+            expected.merge(date, 1L, Long::sum);
+        }
+
+        var histogram = CalendarHistograms.byDate(LongStream.of(seconds), NEW_YORK);
+
+        for (var i = 0; i < histogram.size(); i++) {
+            var date = histogram.key(i);
+            assertThat(histogram.count(i))
+                    .isEqualTo(expected.getOrDefault(date, 0L));
+        }
+        assertThat(histogram.totalCount())
+                .isEqualTo(seconds.length);
+    }
+
+    @Test
+    @DisplayName("produce an empty histogram for no values")
+    void empty() {
+        var histogram = CalendarHistograms.byDate(new long[0], new long[0], NEW_YORK);
+        assertThat(histogram.isEmpty())
+                .isTrue();
+        assertThat(histogram.totalSum())
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("detect an overflow of the total sum")
+    void totalOverflow() {
+        var seconds = new long[]{
+                epochSecond("2024-01-15T12:00:00Z"),
+                epochSecond("2024-02-15T12:00:00Z")
+        };
+        var values = new long[]{Long.MAX_VALUE, 1};
+
+        var histogram = CalendarHistograms.byMonth(seconds, values, NEW_YORK);
+
+        assertThrows(ArithmeticException.class, histogram::totalSum);
+    }
+
+    @Test
+    @DisplayName("require a value per point in time")
+    void valueCount() {
+        assertIllegalArgument(
+                () -> CalendarHistograms.byDate(new long[2], new long[1], NEW_YORK)
+        );
+    }
+
+    private static long epochSecond(String instant) {
+        return Instant.parse(instant)
+                      .getEpochSecond();
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Timestamp;
+import io.spine.base.Time;
+import io.spine.testing.time.BackToTheFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+
+@DisplayName("`CronSchedule` should")
+class CronScheduleTest {
+
+    private static final ZoneId KYIV = ZoneIds.of("Europe/Kyiv");
+    private static final ZoneId NEW_YORK = ZoneIds.of("America/New_York");
+    private static final ZoneId UTC = ZoneIds.of("UTC");
+
+    @AfterEach
+    void resetProvider() {
+        Time.resetProvider();
+    }
+
+    @Test
+    @DisplayName("not accept `null`s")
+    void nulls() {
+        new NullPointerTester()
+                .setDefault(Timestamp.class, Timestamp.getDefaultInstance())
+                .testAllPublicInstanceMethods(CronSchedule.parse("* * * * *", UTC));
+        new NullPointerTester()
+                .setDefault(ZoneId.class, UTC)
+                .testAllPublicStaticMethods(CronSchedule.class);
+    }
+
+    @Nested
+    @DisplayName("find the next fire time")
+    class Next {
+
+        @Test
+        @DisplayName("by a step")
+        void step() {
+            var schedule = CronSchedule.parse("*/15 * * * *", UTC);
+            assertNext(schedule, "2024-01-01T10:07:30Z", "2024-01-01T10:15:00Z");
+        }
+
+        @Test
+        @DisplayName("strictly after the given time")
+        void strictlyAfter() {
+            var schedule = CronSchedule.parse("*/15 * * * *", UTC);
+            assertNext(schedule, "2024-01-01T10:15:00Z", "2024-01-01T10:30:00Z");
+        }
+
+        @Test
+        @DisplayName("in the following year")
+        void nextYear() {
+            var schedule = CronSchedule.parse("30 9 * JAN-MAR MON-FRI", KYIV);
+            assertNext(schedule, "2024-03-29T12:00:00Z", "2025-01-01T07:30:00Z");
+        }
+
+        @Test
+        @DisplayName("matching either of the restricted day fields")
+        void eitherDay() {
+            var schedule = CronSchedule.parse("0 0 13 * FRI", UTC);
+            assertNext(schedule, "2024-01-01T00:00:00Z", "2024-01-05T00:00:00Z");
+            assertNext(schedule, "2024-01-05T00:00:00Z", "2024-01-12T00:00:00Z");
+            assertNext(schedule, "2024-01-12T00:00:00Z", "2024-01-13T00:00:00Z");
+        }
+
+        @Test
+        @DisplayName("on Sunday given as 7")
+        void sunday() {
+            var schedule = CronSchedule.parse("0 0 * * 7", UTC);
+            assertNext(schedule, "2024-01-01T00:00:00Z", "2024-01-07T00:00:00Z");
+        }
+
+        @Test
+        @DisplayName("by a macro")
+        void macro() {
+            var schedule = CronSchedule.parse("@weekly", UTC);
+            assertNext(schedule, "2024-01-01T00:00:00Z", "2024-01-07T00:00:00Z");
+        }
+
+        @Test
+        @DisplayName("shifting the local time in a gap forward")
+        void gap() {
+            var schedule = CronSchedule.parse("30 2 * * *", NEW_YORK);
+            var after = timestamp("2024-03-09T12:00:00Z");
+
+            assertNext(schedule, "2024-03-09T12:00:00Z", "2024-03-10T07:30:00Z");
+            var zoned = schedule.nextZoned(after);
+            assertThat(zoned).isPresent();
+            assertThat(zoned.get()
+                            .getDateTime()
+                            .getTime()
+                            .getHour())
+                    .isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("once in an overlap")
+        void overlap() {
+            var schedule = CronSchedule.parse("30 1 * * *", NEW_YORK);
+            assertNext(schedule, "2024-11-03T00:00:00Z", "2024-11-03T05:30:00Z");
+            assertNext(schedule, "2024-11-03T05:30:00Z", "2024-11-04T06:30:00Z");
+        }
+    }
+
+    @Nested
+    @DisplayName("find the previous fire time")
+    class Previous {
+
+        @Test
+        @DisplayName("by a step")
+        void step() {
+            var schedule = CronSchedule.parse("*/15 * * * *", UTC);
+            assertPrevious(schedule, "2024-01-01T10:07:30Z", "2024-01-01T10:00:00Z");
+        }
+
+        @Test
+        @DisplayName("strictly before the given time")
+        void strictlyBefore() {
+            var schedule = CronSchedule.parse("*/15 * * * *", UTC);
+            assertPrevious(schedule, "2024-01-01T10:15:00Z", "2024-01-01T10:00:00Z");
+            assertPrevious(schedule, "2024-01-01T10:15:00.5Z", "2024-01-01T10:15:00Z");
+        }
+
+        @Test
+        @DisplayName("in the previous year")
+        void previousYear() {
+            var schedule = CronSchedule.parse("30 9 * JAN-MAR MON-FRI", KYIV);
+            assertPrevious(schedule, "2025-01-01T07:30:00Z", "2024-03-29T07:30:00Z");
+        }
+
+        @Test
+        @DisplayName("in the repeated hour of an overlap")
+        void overlap() {
+            var schedule = CronSchedule.parse("30 1 * * *", NEW_YORK);
+            assertPrevious(schedule, "2024-11-03T06:45:00Z", "2024-11-03T05:30:00Z");
+        }
+    }
+
+    @Test
+    @DisplayName("not find fire times of a schedule which never fires")
+    void never() {
+        var schedule = CronSchedule.parse("0 0 30 2 *", UTC);
+        var time = timestamp("2024-01-01T00:00:00Z");
+        assertThat(schedule.next(time)).isEmpty();
+        assertThat(schedule.previous(time)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("not find fire times out of the range of `Timestamp`")
+    void outOfRange() {
+        var schedule = CronSchedule.parse("* * * * *", UTC);
+        assertThat(schedule.next(timestamp("9999-12-31T23:59:00Z")))
+                .isEmpty();
+        assertThat(schedule.previous(timestamp("0001-01-01T00:00:00Z")))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("accept a step beyond the range of a field")
+    void largeStep() {
+        var schedule = CronSchedule.parse("1/2147483647 * * * *", UTC);
+        assertNext(schedule, "2024-01-01T00:01:00Z", "2024-01-01T01:01:00Z");
+    }
+
+    @Test
+    @DisplayName("tell if it fires within the minute of the given time")
+    void matches() {
+        var schedule = CronSchedule.parse("0 9 * * MON-FRI", UTC);
+        assertThat(schedule.matches(timestamp("2024-01-01T09:00:30Z")))
+                .isTrue();
+        assertThat(schedule.matches(timestamp("2024-01-01T09:01:00Z")))
+                .isFalse();
+        assertThat(schedule.matches(timestamp("2024-01-06T09:00:00Z")))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("read the current time via `Time`")
+    void currentTime() {
+        var provider = new BackToTheFuture();
+        Time.setProvider(provider);
+        var schedule = CronSchedule.parse("0 * * * *", UTC);
+
+        var first = schedule.next();
+        provider.forward(1);
+        var second = schedule.next();
+
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().getSeconds() - first.get().getSeconds())
+                .isEqualTo(3600);
+        assertThat(schedule.previous())
+                .isEqualTo(schedule.previous(provider.currentTime()));
+    }
+
+    @ParameterizedTest
+    @DisplayName("reject invalid expressions")
+    @ValueSource(strings = {
+            "* * *",
+            "60 * * * *",
+            "*/0 * * * *",
+            "5-1 * * * *",
+            "* * * FOO *",
+            "1,,2 * * * *"
+    })
+    void invalid(String expression) {
+        assertIllegalArgument(() -> CronSchedule.parse(expression, UTC));
+    }
+
+    private static void assertNext(CronSchedule schedule, String after, String expected) {
+        var result = schedule.next(timestamp(after));
+        assertThat(result)
+                .hasValue(timestamp(expected));
+    }
+
+    private static void assertPrevious(CronSchedule schedule, String before, String expected) {
+        var result = schedule.previous(timestamp(before));
+        assertThat(result)
+                .hasValue(timestamp(expected));
+    }
+
+    private static Timestamp timestamp(String instant) {
+        return InstantConverter.toTimestamp(Instant.parse(instant));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+
+@DisplayName("`EpochExtractors` should")
+class EpochExtractorsTest {
+
+    private static final Instant INSTANT = Instant.parse("2021-03-28T01:30:15.000000123Z");
+
+    @Test
+    @DisplayName("not accept `null`s")
+    void nulls() {
+        new NullPointerTester()
+                .setDefault(Message.class, Timestamp.getDefaultInstance())
+                .setDefault(EpochExtractor.class,
+                            EpochExtractor.of(Int64Value::getValue, value -> 0))
+                .testAllPublicStaticMethods(EpochExtractors.class);
+    }
+
+    @Test
+    @DisplayName("extract the point in time of the time types")
+    void timeTypes() {
+        var zone = java.time.ZoneId.of("Europe/London");
+        var zoned = java.time.ZonedDateTime.ofInstant(INSTANT, zone);
+        var values = new Message[]{
+                InstantConverter.toTimestamp(INSTANT),
+                LocalDates.of(zoned.toLocalDate()),
+                LocalDateTimes.of(zoned.toLocalDateTime()),
+                YearMonths.of(java.time.YearMonth.from(zoned)),
+                ZonedDateTimes.of(zoned)
+        };
+        for (var value : values) {
+            var expected = Temporals.from(value).toTimestamp();
+            assertThat(EpochExtractors.epochSecond(value))
+                    .isEqualTo(expected.getSeconds());
+            assertThat(EpochExtractors.nanos(value))
+                    .isEqualTo(expected.getNanos());
+            assertThat(EpochExtractors.epochNanos(value))
+                    .isEqualTo(EpochNanos.from(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("compare the points in time of messages")
+    @SuppressWarnings("deprecation") // `OffsetDateTime` uses the timestamp-based extractor.
+    void compare() {
+        var earlier = java.time.OffsetDateTime.parse("2024-01-01T10:00:00+02:00");
+        var later = java.time.OffsetDateTime.parse("2024-01-01T08:00:00.5Z");
+        var zone = java.time.ZoneId.of("Europe/Kyiv");
+
+        var byTimestamp = EpochExtractors.forType(OffsetDateTime.class);
+        assertThat(byTimestamp.compare(OffsetDateTimes.of(earlier), OffsetDateTimes.of(later)))
+                .isLessThan(0);
+        assertThat(byTimestamp.epochNanos(OffsetDateTimes.of(later)))
+                .isEqualTo(EpochNanos.from(later.toInstant()));
+
+        var zoned = EpochExtractors.forType(ZonedDateTime.class);
+        var zonedEarlier = ZonedDateTimes.of(earlier.atZoneSameInstant(zone));
+        var zonedLater = ZonedDateTimes.of(later.atZoneSameInstant(zone));
+        assertThat(zoned.compare(zonedLater, zonedEarlier))
+                .isGreaterThan(0);
+        assertThat(zoned.compare(zonedEarlier, ZonedDateTimes.of(earlier.toZonedDateTime())))
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("cache the extractor per type")
+    @SuppressWarnings("deprecation") // `OffsetDateTime` uses the timestamp-based extractor.
+    void cache() {
+        assertThat(EpochExtractors.forType(ZonedDateTime.class))
+                .isSameInstanceAs(EpochExtractors.forType(ZonedDateTime.class));
+        assertThat(EpochExtractors.forType(OffsetDateTime.class))
+                .isSameInstanceAs(EpochExtractors.forType(OffsetDateTime.class));
+    }
+
+    @Test
+    @DisplayName("use registered extractors")
+    void registered() {
+        EpochExtractors.register(Int64Value.class, EpochExtractor.of(
+                value -> Math.floorDiv(value.getValue(), 1000L),
+                value -> (int) Math.floorMod(value.getValue(), 1000L) * 1_000_000
+        ));
+        var millis = Int64Value.of(INSTANT.toEpochMilli());
+        assertThat(EpochExtractors.epochSecond(millis))
+                .isEqualTo(INSTANT.getEpochSecond());
+        assertThat(EpochExtractors.nanos(millis))
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("not replace the extractors of the time types")
+    void builtIn() {
+        assertIllegalArgument(() -> EpochExtractors.register(
+                Timestamp.class, EpochExtractor.of(value -> 0L, value -> 0)
+        ));
+    }
+
+    @Test
+    @DisplayName("reject a year-month without a month")
+    void undefinedMonth() {
+        var extractor = EpochExtractors.forType(YearMonth.class);
+        assertIllegalArgument(() -> extractor.epochSecond(YearMonth.getDefaultInstance()));
+    }
+
+    @Test
+    @DisplayName("reject types which do not represent a point in time")
+    void unknownType() {
+        assertIllegalArgument(() -> EpochExtractors.epochSecond(StringValue.of("now")));
+    }
+}
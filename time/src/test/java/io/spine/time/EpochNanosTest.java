@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`EpochNanos` should")
+class EpochNanosTest {
+
+    private static final Instant INSTANT = Instant.parse("2024-02-29T14:34:56.789123456Z");
+    private static final long NANOS = INSTANT.getEpochSecond() * 1_000_000_000L + INSTANT.getNano();
+    private static final Instant BEFORE_EPOCH = Instant.parse("1969-12-31T23:59:59.5Z");
+
+    @Test
+    @DisplayName("not accept `null`s")
+    void nulls() {
+        new NullPointerTester()
+                .setDefault(ZoneId.class, ZoneIds.of("UTC"))
+                .setDefault(Timestamp.class, Timestamp.getDefaultInstance())
+                .testAllPublicStaticMethods(EpochNanos.class);
+    }
+
+    @Test
+    @DisplayName("convert timestamps and instants")
+    void timestampsAndInstants() {
+        var timestamp = InstantConverter.toTimestamp(INSTANT);
+        assertThat(EpochNanos.from(timestamp))
+                .isEqualTo(NANOS);
+        assertThat(EpochNanos.from(INSTANT))
+                .isEqualTo(NANOS);
+        assertThat(EpochNanos.toTimestamp(NANOS))
+                .isEqualTo(timestamp);
+        assertThat(EpochNanos.toInstant(NANOS))
+                .isEqualTo(INSTANT);
+    }
+
+    @Test
+    @DisplayName("handle points in time before the epoch")
+    void beforeEpoch() {
+        var nanos = EpochNanos.from(BEFORE_EPOCH);
+        assertThat(nanos)
+                .isEqualTo(-500_000_000L);
+        assertThat(EpochNanos.epochSecond(nanos))
+                .isEqualTo(-1);
+        assertThat(EpochNanos.nanoOfSecond(nanos))
+                .isEqualTo(500_000_000);
+        assertThat(EpochNanos.toInstant(nanos))
+                .isEqualTo(BEFORE_EPOCH);
+    }
+
+    @Test
+    @DisplayName("convert temporal messages as their timestamps")
+    void temporals() {
+        var zone = java.time.ZoneId.of("America/New_York");
+        var zoned = ZonedDateTimes.of(java.time.ZonedDateTime.ofInstant(INSTANT, zone));
+        var dateTime = LocalDateTimes.of(java.time.LocalDateTime.of(2024, 2, 29, 14, 34, 56, 789));
+        var date = LocalDates.of(2024, Month.FEBRUARY, 29);
+        var yearMonth = YearMonths.of(2024, 2);
+        for (Temporal<?> value : new Temporal<?>[]{zoned, dateTime, date, yearMonth}) {
+            assertThat(EpochNanos.from(value))
+                    .isEqualTo(EpochNanos.from(value.toTimestamp()));
+        }
+        assertThat(EpochNanos.from(CachedTemporal.of(zoned)))
+                .isEqualTo(NANOS);
+        assertThat(EpochNanos.from(EpochNanosTemporal.of(NANOS)))
+                .isEqualTo(NANOS);
+    }
+
+    @Test
+    @DisplayName("create date/time messages")
+    void messages() {
+        assertThat(EpochNanos.toLocalDate(NANOS))
+                .isEqualTo(LocalDates.of(2024, Month.FEBRUARY, 29));
+        assertThat(EpochNanos.toLocalDateTime(NANOS))
+                .isEqualTo(LocalDateTimes.of(java.time.LocalDateTime.of(2024, 2, 29,
+                                                                        14, 34, 56, 789_123_456)));
+        var kyiv = ZoneIds.of("Europe/Kyiv");
+        assertThat(EpochNanos.toZonedDateTime(NANOS, kyiv))
+                .isEqualTo(ZonedDateTimes.of(INSTANT.atZone(kyiv.toJavaTime())));
+    }
+
+    @Test
+    @DisplayName("reject points in time out of the range")
+    void outOfRange() {
+        var timestamp = Timestamp.newBuilder()
+                .setSeconds(Timestamps.MAX_VALUE.getSeconds())
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> EpochNanos.from(timestamp));
+    }
+
+    @Nested
+    @DisplayName("provide `EpochNanosTemporal` which")
+    class TemporalValue {
+
+        private final EpochNanosTemporal value = EpochNanosTemporal.of(NANOS);
+
+        @Test
+        @DisplayName("converts to a timestamp and an instant")
+        void conversions() {
+            assertThat(value.toTimestamp())
+                    .isEqualTo(InstantConverter.toTimestamp(INSTANT));
+            assertThat(value.toInstant())
+                    .isEqualTo(INSTANT);
+        }
+
+        @Test
+        @DisplayName("compares by the number of nanoseconds")
+        void compares() {
+            var later = EpochNanosTemporal.of(NANOS + 1);
+            assertThat(value.isBefore(later))
+                    .isTrue();
+            assertThat(value.compareTo(EpochNanosTemporal.of(NANOS)))
+                    .isEqualTo(0);
+            assertThat(value)
+                    .isEqualTo(EpochNanosTemporal.of(NANOS));
+        }
+
+        @Test
+        @DisplayName("compares with timestamps and instants")
+        void comparesWithOthers() {
+            Timestamp timestamp = InstantConverter.toTimestamp(INSTANT.plusNanos(1));
+            assertThat(value.isBefore(timestamp))
+                    .isTrue();
+            assertThat(value.isSameAs(INSTANT))
+                    .isTrue();
+            assertThat(EpochNanosTemporal.of(-1).isBefore(Instant.EPOCH))
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("is sorted by `Temporals`")
+        void sorted() {
+            var comparator = Temporals.comparator(EpochNanosTemporal.class);
+            assertThat(comparator.compare(value, EpochNanosTemporal.of(NANOS - 1)))
+                    .isGreaterThan(0);
+        }
+    }
+}
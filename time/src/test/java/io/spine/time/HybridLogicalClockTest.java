@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import io.spine.base.Time;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`HybridLogicalClock` should")
+class HybridLogicalClockTest {
+
+    private static final Timestamp PHYSICAL = Timestamps.parse("2024-02-29T12:00:00.123456789Z");
+    private static final Timestamp PHYSICAL_MILLIS = Timestamps.parse("2024-02-29T12:00:00.123Z");
+
+    @AfterEach
+    void resetProvider() {
+        Time.resetProvider();
+    }
+
+    @Test
+    @DisplayName("start from the physical time truncated to milliseconds")
+    void physicalTime() {
+        var clock = HybridLogicalClock.create(() -> PHYSICAL);
+        var first = clock.currentTime();
+        assertThat(first)
+                .isEqualTo(PHYSICAL_MILLIS);
+        assertThat(HybridLogicalClock.physicalMillis(first))
+                .isEqualTo(Timestamps.toMillis(PHYSICAL));
+        assertThat(HybridLogicalClock.logicalCounter(first))
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("increment the logical counter while the physical time stands still")
+    void logicalCounter() {
+        var clock = HybridLogicalClock.create(() -> PHYSICAL);
+        var first = clock.currentTime();
+        var second = clock.currentTime();
+        assertThat(Timestamps.compare(first, second))
+                .isLessThan(0);
+        assertThat(HybridLogicalClock.physicalMillis(second))
+                .isEqualTo(HybridLogicalClock.physicalMillis(first));
+        assertThat(HybridLogicalClock.logicalCounter(second))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("not go back with the physical time")
+    void monotonic() {
+        var physical = new Timestamp[]{PHYSICAL};
+        var clock = HybridLogicalClock.create(() -> physical[0]);
+        var before = clock.currentTime();
+        physical[0] = Timestamps.subtract(PHYSICAL, Durations.fromSeconds(5));
+        var after = clock.currentTime();
+        assertThat(Timestamps.compare(before, after))
+                .isLessThan(0);
+    }
+
+    @Test
+    @DisplayName("issue timestamps after the ones received from peers")
+    void update() {
+        var local = HybridLogicalClock.create(() -> PHYSICAL);
+        var ahead = Timestamps.add(PHYSICAL, Durations.fromSeconds(1));
+        var remote = HybridLogicalClock.create(() -> ahead);
+        var sent = remote.currentTime();
+
+        var received = local.update(sent);
+        assertThat(Timestamps.compare(sent, received))
+                .isLessThan(0);
+        assertThat(Timestamps.compare(received, local.currentTime()))
+                .isLessThan(0);
+    }
+
+    @Test
+    @DisplayName("serve as the provider of the current time")
+    void provider() {
+        var clock = HybridLogicalClock.create();
+        Time.setProvider(clock);
+        var first = Time.currentTime();
+        var second = Time.currentTime();
+        assertThat(Timestamps.compare(first, second))
+                .isLessThan(0);
+    }
+
+    @Test
+    @DisplayName("issue unique timestamps to concurrent callers")
+    void concurrent() throws Exception {
+        var clock = HybridLogicalClock.create(() -> PHYSICAL);
+        var threads = 8;
+        var perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Timestamp>>> futures = new ArrayList<>();
+            for (var i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> issue(clock, perThread)));
+            }
+            List<Timestamp> all = new ArrayList<>();
+            for (var future : futures) {
+                all.addAll(future.get());
+            }
+            assertThat(all.stream().distinct().count())
+                    .isEqualTo(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Timestamp> issue(HybridLogicalClock clock, int count) {
+        List<Timestamp> result = new ArrayList<>(count);
+        for (var i = 0; i < count; i++) {
+            result.add(clock.currentTime());
+        }
+        return result;
+    }
+}
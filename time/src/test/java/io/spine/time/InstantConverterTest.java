@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`InstantConverter` should")
+class InstantConverterTest {
+
+    private static final Instant INSTANT = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+
+    @Test
+    @DisplayName("convert an `Instant` to a `Timestamp` and back directly")
+    void direct() {
+        var timestamp = InstantConverter.toTimestamp(INSTANT);
+        assertThat(timestamp.getSeconds()).isEqualTo(INSTANT.getEpochSecond());
+        assertThat(timestamp.getNanos()).isEqualTo(INSTANT.getNano());
+        assertThat(InstantConverter.toInstant(timestamp)).isEqualTo(INSTANT);
+    }
+
+    @Test
+    @DisplayName("produce the same values as the `Converter`")
+    void sameAsConverter() {
+        var timestamp = InstantConverter.toTimestamp(INSTANT);
+        assertThat(InstantConverter.instance().convert(INSTANT)).isEqualTo(timestamp);
+        assertThat(InstantConverter.reversed().convert(timestamp)).isEqualTo(INSTANT);
+    }
+
+    @Test
+    @DisplayName("write an `Instant` into a reusable builder")
+    void reuseBuilder() {
+        var builder = Timestamp.newBuilder();
+        var later = INSTANT.plusSeconds(1);
+
+        InstantConverter.toTimestamp(INSTANT, builder);
+        assertThat(builder.build()).isEqualTo(InstantConverter.toTimestamp(INSTANT));
+
+        InstantConverter.toTimestamp(later, builder);
+        assertThat(builder.build()).isEqualTo(InstantConverter.toTimestamp(later));
+    }
+}
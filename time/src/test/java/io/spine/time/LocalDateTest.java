@@ -27,9 +27,17 @@
 package io.spine.time;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
 import static io.spine.testing.Assertions.assertIllegalState;
+import static io.spine.time.Month.DECEMBER;
+import static io.spine.time.Month.FEBRUARY;
+import static io.spine.time.Month.JANUARY;
 
 @DisplayName("`LocalDate` should")
 class LocalDateTest extends TemporalMessageTest<LocalDate> {
@@ -48,4 +56,71 @@ class LocalDateTest extends TemporalMessageTest<LocalDate> {
     void defaultInstanceConversion() {
         assertIllegalState(() -> LocalDate.getDefaultInstance().toJavaTime());
     }
+
+    @Nested
+    @DisplayName("add and subtract")
+    class Arithmetic {
+
+        private static final int SAMPLES = 10_000;
+
+        @Test
+        @DisplayName("days, as Java Time does")
+        void days() {
+            var random = new Random(42);
+            for (var i = 0; i < SAMPLES; i++) {
+                var date = java.time.LocalDate.ofEpochDay(random.nextInt(2_000_000) - 1_000_000);
+                var days = random.nextInt(200_000) - 100_000;
+                var value = LocalDates.of(date);
+
+                assertThat(value.plusDays(days).toJavaTime()).isEqualTo(date.plusDays(days));
+                assertThat(value.minusDays(days).toJavaTime()).isEqualTo(date.minusDays(days));
+            }
+        }
+
+        @Test
+        @DisplayName("months and years, as Java Time does")
+        void months() {
+            var random = new Random(42);
+            for (var i = 0; i < SAMPLES; i++) {
+                var date = java.time.LocalDate.ofEpochDay(random.nextInt(2_000_000) - 1_000_000);
+                var months = random.nextInt(20_000) - 10_000;
+                var value = LocalDates.of(date);
+
+                assertThat(value.plusMonths(months).toJavaTime())
+                        .isEqualTo(date.plusMonths(months));
+                assertThat(value.minusMonths(months).toJavaTime())
+                        .isEqualTo(date.minusMonths(months));
+                assertThat(value.plusYears(months).toJavaTime())
+                        .isEqualTo(date.plusYears(months));
+                assertThat(value.minusYears(months).toJavaTime())
+                        .isEqualTo(date.minusYears(months));
+            }
+        }
+
+        @Test
+        @DisplayName("taking the last day of a shorter month")
+        void lastDayOfMonth() {
+            var endOfJanuary = LocalDates.of(2024, JANUARY, 31);
+            var leapDay = LocalDates.of(2024, FEBRUARY, 29);
+
+            assertThat(endOfJanuary.plusMonths(1)).isEqualTo(leapDay);
+            assertThat(leapDay.plusYears(1)).isEqualTo(LocalDates.of(2025, FEBRUARY, 28));
+        }
+
+        @Test
+        @DisplayName("rejecting a result out of the supported range")
+        void outOfRange() {
+            var last = LocalDates.of(999_999_999, DECEMBER, 31);
+
+            assertIllegalArgument(() -> last.plusDays(1));
+            assertIllegalArgument(() -> last.plusMonths(1));
+        }
+
+        @Test
+        @DisplayName("rejecting an invalid date")
+        void invalidDate() {
+            assertIllegalState(() -> LocalDate.getDefaultInstance().plusDays(1));
+            assertIllegalState(() -> LocalDate.getDefaultInstance().plusMonths(1));
+        }
+    }
 }
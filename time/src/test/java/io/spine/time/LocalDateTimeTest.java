@@ -26,7 +26,14 @@
 
 package io.spine.time;
 
+import com.google.protobuf.util.Durations;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.time.ZoneOffset.UTC;
 
 @DisplayName("LocalDateTime should")
 class LocalDateTimeTest extends TemporalMessageTest<LocalDateTime> {
@@ -39,4 +46,33 @@ class LocalDateTimeTest extends TemporalMessageTest<LocalDateTime> {
     LocalDateTime create() {
         return Now.get().asLocalDateTime();
     }
+
+    @Test
+    @DisplayName("add and subtract durations, as Java Time does")
+    void duration() {
+        var random = new Random(42);
+        for (var i = 0; i < 10_000; i++) {
+            var dateTime = java.time.LocalDateTime.ofEpochSecond(
+                    random.nextInt() * 16L, random.nextInt(1_000_000_000), UTC);
+            var duration = java.time.Duration.ofSeconds(random.nextInt(),
+                                                        random.nextInt(1_000_000_000));
+            var protoDuration = Durations.fromNanos(duration.toNanos());
+            var value = LocalDateTimes.of(dateTime);
+
+            assertThat(value.plus(protoDuration).toJavaTime())
+                    .isEqualTo(dateTime.plus(duration));
+            assertThat(value.minus(protoDuration).toJavaTime())
+                    .isEqualTo(dateTime.minus(duration));
+        }
+    }
+
+    @Test
+    @DisplayName("add calendar units keeping the time")
+    void calendarUnits() {
+        var value = LocalDateTimes.parse("2024-01-31T10:15:30.5");
+
+        assertThat(value.plusDays(1)).isEqualTo(LocalDateTimes.parse("2024-02-01T10:15:30.5"));
+        assertThat(value.plusMonths(1)).isEqualTo(LocalDateTimes.parse("2024-02-29T10:15:30.5"));
+        assertThat(value.minusYears(1)).isEqualTo(LocalDateTimes.parse("2023-01-31T10:15:30.5"));
+    }
 }
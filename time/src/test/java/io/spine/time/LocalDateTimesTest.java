@@ -27,10 +27,16 @@
 package io.spine.time;
 
 import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
 import static io.spine.base.Time.currentTimeZone;
 import static io.spine.time.Asserts.assertDatesEqual;
 import static io.spine.time.Month.JULY;
@@ -53,8 +59,9 @@ class LocalDateTimesTest
     @Override
     void addDefaults(NullPointerTester nullTester) {
         nullTester.setDefault(LocalTime.class, LocalTime.getDefaultInstance())
-                  .setDefault(LocalDate.class, LocalDate.getDefaultInstance());
-
+                  .setDefault(LocalDate.class, LocalDate.getDefaultInstance())
+                  .setDefault(LocalDateTime.class, LocalDateTime.getDefaultInstance())
+                  .setDefault(Duration.class, Durations.fromHours(1));
     }
 
     @Nested
@@ -109,4 +116,54 @@ class LocalDateTimesTest
         assertEquals(today, todayMidnight.getDate());
         assertEquals(midnight, todayMidnight.getTime());
     }
+
+    @Nested
+    @DisplayName("obtain a range of values")
+    class Range {
+
+        @Test
+        @DisplayName("stepping by hours over the end of a month")
+        void byHours() {
+            var start = LocalDateTimes.parse("2024-02-29T21:30:00");
+            var end = LocalDateTimes.parse("2024-03-01T03:00:00");
+
+            var range = LocalDateTimes.range(start, end, Durations.fromHours(2))
+                                      .collect(toImmutableList());
+
+            assertThat(range).containsExactly(
+                    LocalDateTimes.parse("2024-02-29T21:30:00"),
+                    LocalDateTimes.parse("2024-02-29T23:30:00"),
+                    LocalDateTimes.parse("2024-03-01T01:30:00")
+            ).inOrder();
+        }
+
+        @Test
+        @DisplayName("stepping by a fraction of a second, as Java Time does")
+        void byFraction() {
+            var start = java.time.LocalDateTime.of(1969, 12, 31, 23, 59, 58, 999_999_999);
+            var end = start.plusSeconds(5);
+            var step = java.time.Duration.ofMillis(1_234).plusNanos(567);
+            var expected = Stream.iterate(start, t -> t.isBefore(end), t -> t.plus(step))
+                                 .map(LocalDateTimes::of)
+                                 .collect(toImmutableList());
+
+            var protoStep = Durations.fromNanos(step.toNanos());
+            var range = LocalDateTimes.range(LocalDateTimes.of(start),
+                                             LocalDateTimes.of(end),
+                                             protoStep)
+                                      .parallel()
+                                      .collect(toImmutableList());
+
+            assertThat(range).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("rejecting non-positive step")
+        void nonPositiveStep() {
+            var value = LocalDateTimes.parse("2024-02-29T21:30:00");
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> LocalDateTimes.range(value, value, Durations.ZERO));
+        }
+    }
 }
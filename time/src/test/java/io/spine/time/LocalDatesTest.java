@@ -33,10 +33,18 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
 
 import static io.spine.base.Time.currentTimeZone;
 import static io.spine.time.Asserts.assertDatesEqual;
 import static io.spine.time.LocalDates.checkDate;
+import static io.spine.time.Month.FEBRUARY;
+import static io.spine.time.Month.JANUARY;
+import static io.spine.time.Month.MARCH;
 import static io.spine.testing.time.TimeTests.avoidDayEdge;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -162,4 +170,87 @@ class LocalDatesTest extends AbstractDateTimeUtilityTest<LocalDate, java.time.Lo
             );
         }
     }
+
+    @Test
+    @DisplayName("convert to and from the day since the epoch, as Java Time does")
+    void epochDay() {
+        for (var epochDay = -800_000L; epochDay <= 800_000L; epochDay += 997) {
+            var expected = java.time.LocalDate.ofEpochDay(epochDay);
+            var date = LocalDates.ofEpochDay(epochDay);
+
+            assertEquals(expected, date.toJavaTime());
+            assertEquals(epochDay, LocalDates.toEpochDay(date));
+        }
+        assertThrows(IllegalArgumentException.class,
+                     () -> LocalDates.toEpochDay(LocalDate.getDefaultInstance()));
+    }
+
+    @Nested
+    @DisplayName("obtain a range of dates")
+    class Range {
+
+        @Test
+        @DisplayName("stepping by one day")
+        void byDay() {
+            var start = LocalDates.of(2024, FEBRUARY, 27);
+            var end = LocalDates.of(2024, MARCH, 2);
+
+            var range = LocalDates.range(start, end)
+                                  .map(LocalDates::toString)
+                                  .collect(toImmutableList());
+
+            assertThat(range).containsExactly(
+                    "2024-02-27", "2024-02-28", "2024-02-29", "2024-03-01"
+            ).inOrder();
+        }
+
+        @Test
+        @DisplayName("stepping by several days, as Java Time does")
+        void byStep() {
+            var start = java.time.LocalDate.of(1899, 12, 1);
+            var end = java.time.LocalDate.of(2101, 3, 1);
+            var step = 17;
+            var expected = Stream.iterate(start, d -> d.isBefore(end), d -> d.plusDays(step))
+                                 .map(LocalDates::of)
+                                 .collect(toImmutableList());
+
+            var range = LocalDates.range(LocalDates.of(start), LocalDates.of(end), step)
+                                  .collect(toImmutableList());
+
+            assertThat(range).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("in parallel")
+        void parallel() {
+            var start = LocalDates.of(1970, JANUARY, 1);
+            var end = LocalDates.of(2070, JANUARY, 1);
+            var expected = ChronoUnit.DAYS.between(start.toJavaTime(), end.toJavaTime());
+
+            var range = LocalDates.range(start, end)
+                                  .parallel()
+                                  .collect(toImmutableList());
+
+            assertThat(range).hasSize((int) expected);
+            assertThat(range.get(0)).isEqualTo(start);
+            assertThat(range.get(range.size() - 1))
+                    .isEqualTo(LocalDates.of(2069, Month.DECEMBER, 31));
+        }
+
+        @Test
+        @DisplayName("which is empty if the end is not after the start")
+        void empty() {
+            var date = LocalDates.of(2000, JANUARY, 1);
+
+            assertThat(LocalDates.range(date, date).count()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("rejecting non-positive step")
+        void nonPositiveStep() {
+            var date = LocalDates.of(2000, JANUARY, 1);
+
+            assertThrows(IllegalArgumentException.class, () -> LocalDates.range(date, date, 0));
+        }
+    }
 }
@@ -238,4 +238,17 @@ class LocalTimesTest extends AbstractDateTimeUtilityTest<LocalTime, java.time.Lo
         assertEquals(0, time.getMinute());
         assertEquals(0, time.getSecond());
     }
+
+    @Test
+    @DisplayName("convert to and from the nanosecond of a day, as Java Time does")
+    void nanoOfDay() {
+        var time = java.time.LocalTime.of(23, 59, 58, 123_456_789);
+        var nanoOfDay = time.toNanoOfDay();
+
+        assertEquals(nanoOfDay, LocalTimes.toNanoOfDay(LocalTimes.of(time)));
+        assertEquals(LocalTimes.of(time), LocalTimes.ofNanoOfDay(nanoOfDay));
+        assertThrows(IllegalArgumentException.class, () -> LocalTimes.ofNanoOfDay(-1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> LocalTimes.ofNanoOfDay(TimeUnit.DAYS.toNanos(1)));
+    }
 }
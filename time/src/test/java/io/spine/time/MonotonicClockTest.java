@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import io.spine.base.Time;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`MonotonicClock` should")
+class MonotonicClockTest {
+
+    private static final Timestamp PHYSICAL = Timestamps.parse("2024-02-29T12:00:00.123456Z");
+    private static final int CALLS_PER_THREAD = 20_000;
+
+    @AfterEach
+    void resetProvider() {
+        Time.resetProvider();
+    }
+
+    @Test
+    @DisplayName("follow the physical time")
+    void physicalTime() {
+        var clock = MonotonicClock.create(() -> PHYSICAL);
+        assertThat(clock.currentTime())
+                .isEqualTo(PHYSICAL);
+    }
+
+    @Test
+    @DisplayName("issue increasing values while the physical time stands still")
+    void sameTick() {
+        var clock = MonotonicClock.create(() -> PHYSICAL);
+        var first = clock.currentTime();
+        var second = clock.currentTime();
+        assertThat(Timestamps.between(first, second))
+                .isEqualTo(Durations.fromNanos(1));
+    }
+
+    @Test
+    @DisplayName("not go back with the physical time")
+    void backwards() {
+        var physical = new Timestamp[]{PHYSICAL};
+        var clock = MonotonicClock.create(() -> physical[0]);
+        var before = clock.currentTime();
+        physical[0] = Timestamps.subtract(PHYSICAL, Durations.fromSeconds(5));
+        var after = clock.currentTime();
+        assertThat(Timestamps.compare(before, after))
+                .isLessThan(0);
+    }
+
+    @Test
+    @DisplayName("serve as the provider of the current time")
+    void provider() {
+        Time.setProvider(MonotonicClock.create());
+        var first = Time.currentTime();
+        var second = Time.currentTime();
+        assertThat(Timestamps.compare(first, second))
+                .isLessThan(0);
+    }
+
+    /**
+     * Calls the clock from many threads at once.
+     *
+     * <p>Each thread must observe strictly increasing values, and no value may be issued
+     * twice across the threads. Sorting all the values and checking that they strictly
+     * increase detects duplicates.
+     */
+    @ParameterizedTest(name = "with {0} threads")
+    @ValueSource(ints = {1, 2, 4, 8, 16, 32, 64})
+    @DisplayName("issue unique increasing values under contention")
+    void contention(int threads) throws Exception {
+        var clock = MonotonicClock.create();
+        var executor = Executors.newFixedThreadPool(threads);
+        var start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (var i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return issue(clock);
+                }));
+            }
+            start.countDown();
+            var all = new long[threads * CALLS_PER_THREAD];
+            var offset = 0;
+            for (var future : futures) {
+                var values = future.get();
+                assertThat(isStrictlyIncreasing(values))
+                        .isTrue();
+                System.arraycopy(values, 0, all, offset, values.length);
+                offset += values.length;
+            }
+            Arrays.sort(all);
+            assertThat(isStrictlyIncreasing(all))
+                    .isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean isStrictlyIncreasing(long[] values) {
+        for (var i = 1; i < values.length; i++) {
+            if (values[i] <= values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] issue(MonotonicClock clock) {
+        var result = new long[CALLS_PER_THREAD];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = clock.nextNanos();
+        }
+        return result;
+    }
+}
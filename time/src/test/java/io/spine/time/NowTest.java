@@ -34,6 +34,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.truth.Truth.assertThat;
 
@@ -134,6 +137,27 @@ class NowTest {
             assertThat(yearMonth.getMonthValue()).isEqualTo(frozenTime.getMonthValue());
         }
 
+        @Test
+        @DisplayName("epoch day")
+        void epochDay() {
+            assertThat(now.epochDay())
+                    .isEqualTo(frozenTime.toLocalDate().toEpochDay());
+        }
+
+        @Test
+        @DisplayName("nanosecond of day")
+        void nanoOfDay() {
+            assertThat(now.nanoOfDay())
+                    .isEqualTo(frozenTime.toLocalTime().toNanoOfDay());
+        }
+
+        @Test
+        @DisplayName("epoch second")
+        void epochSecond() {
+            assertThat(now.epochSecond())
+                    .isEqualTo(frozenTime.toEpochSecond());
+        }
+
         @Test
         @DisplayName("ZonedDateTime")
         void zonedDateTime() {
@@ -216,4 +240,51 @@ class NowTest {
             return Now.get(NEW_YORK_OFFSET);
         }
     }
+
+    @Test
+    @DisplayName("reuse the instance for the same time zone")
+    void cacheInstances() {
+        assertThat(Now.get(NEW_YORK))
+                .isSameInstanceAs(Now.get(JT_NEW_YORK));
+        assertThat(Now.get())
+                .isSameInstanceAs(Now.get(Time.currentTimeZone()));
+    }
+
+    @Nested
+    @DisplayName("serve many threads")
+    class ManyThreads {
+
+        private static final int THREADS = 16;
+        private static final int TASKS = 100_000;
+
+        @AfterEach
+        void resetProvider() {
+            Time.resetProvider();
+        }
+
+        @Test
+        @DisplayName("reading the time concurrently")
+        void concurrentReads() throws InterruptedException {
+            var frozen = java.time.ZonedDateTime.now(JT_NEW_YORK);
+            var timestamp = ZonedDateTimes.of(frozen).toTimestamp();
+            Time.setProvider(() -> timestamp);
+            var expected = Now.get(JT_NEW_YORK);
+            var expectedDay = frozen.toLocalDate().toEpochDay();
+            var mismatches = new AtomicInteger();
+            var executor = Executors.newFixedThreadPool(THREADS);
+            for (var i = 0; i < TASKS; i++) {
+                executor.execute(() -> {
+                    var now = Now.get(JT_NEW_YORK);
+                    if (now != expected || now.epochDay() != expectedDay) {
+                        mismatches.incrementAndGet();
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES))
+                    .isTrue();
+            assertThat(mismatches.get())
+                    .isEqualTo(0);
+        }
+    }
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static io.spine.time.DayOfWeek.MONDAY;
+import static io.spine.time.DayOfWeek.TUESDAY;
+import static io.spine.time.DayOfWeek.WEDNESDAY;
+import static io.spine.time.Frequency.DAILY;
+import static io.spine.time.Frequency.MONTHLY;
+import static io.spine.time.Frequency.WEEKLY;
+import static io.spine.time.Frequency.YEARLY;
+
+@DisplayName("`Recurrence` should")
+class RecurrenceTest {
+
+    private static final ZoneId KYIV = ZoneIds.of("Europe/Kyiv");
+    private static final ZoneId NEW_YORK = ZoneIds.of("America/New_York");
+    private static final ZoneId UTC = ZoneIds.of("UTC");
+
+    @Test
+    @DisplayName("not accept `null`s")
+    void nulls() {
+        var recurrence = Recurrence.of(rule(DAILY, dateTime(2024, 1, 1, 9, 0), UTC).build());
+        new NullPointerTester()
+                .setDefault(Temporal.class, LocalDates.of(2024, Month.JANUARY, 1))
+                .setDefault(Timestamp.class, Timestamp.getDefaultInstance())
+                .testAllPublicInstanceMethods(recurrence);
+        new NullPointerTester()
+                .setDefault(RecurrenceRule.class, RecurrenceRule.getDefaultInstance())
+                .testAllPublicStaticMethods(Recurrence.class);
+    }
+
+    @Test
+    @DisplayName("expand ordinal days of week with the zone offsets")
+    void ordinalDayOfWeek() {
+        var rule = rule(MONTHLY, dateTime(2024, 1, 1, 9, 0), KYIV)
+                .addDayOfWeekInMonth(DayOfWeekInMonth.newBuilder()
+                                             .setDay(TUESDAY)
+                                             .setOrdinal(2))
+                .build();
+
+        var result = expand(rule, "2024-01-01T00:00:00Z", "2024-06-01T00:00:00Z");
+
+        // Kyiv switches from UTC+2 to UTC+3 on March 31.
+        assertThat(result)
+                .containsExactly(Instant.parse("2024-01-09T07:00:00Z"),
+                                 Instant.parse("2024-02-13T07:00:00Z"),
+                                 Instant.parse("2024-03-12T07:00:00Z"),
+                                 Instant.parse("2024-04-09T06:00:00Z"),
+                                 Instant.parse("2024-05-14T06:00:00Z"))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("expand days of week with an interval and a count")
+    void weekly() {
+        var rule = rule(WEEKLY, dateTime(2024, 1, 3, 10, 0), UTC)
+                .setInterval(2)
+                .addDayOfWeek(MONDAY)
+                .addDayOfWeek(WEDNESDAY)
+                .setCount(5)
+                .build();
+
+        var result = expand(rule, "2020-01-01T00:00:00Z", "2030-01-01T00:00:00Z");
+
+        assertThat(result)
+                .containsExactly(Instant.parse("2024-01-03T10:00:00Z"),
+                                 Instant.parse("2024-01-15T10:00:00Z"),
+                                 Instant.parse("2024-01-17T10:00:00Z"),
+                                 Instant.parse("2024-01-29T10:00:00Z"),
+                                 Instant.parse("2024-01-31T10:00:00Z"))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("count the occurrences from the start of the rule")
+    void countFromStart() {
+        var rule = rule(DAILY, dateTime(2024, 1, 1, 12, 0), UTC)
+                .setCount(3)
+                .build();
+
+        var result = expand(rule, "2024-01-02T00:00:00Z", "2024-02-01T00:00:00Z");
+
+        assertThat(result)
+                .containsExactly(Instant.parse("2024-01-02T12:00:00Z"),
+                                 Instant.parse("2024-01-03T12:00:00Z"))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("shift the local times in a gap forward")
+    void gap() {
+        var rule = rule(DAILY, dateTime(2024, 3, 9, 2, 30), NEW_YORK)
+                .setUntil(dateTime(2024, 3, 11, 2, 30))
+                .build();
+        var recurrence = Recurrence.of(rule);
+
+        var result = recurrence.between(timestamp("2024-03-01T00:00:00Z"),
+                                        timestamp("2024-04-01T00:00:00Z"))
+                               .map(value -> value.getDateTime().getTime().getHour())
+                               .collect(toImmutableList());
+
+        assertThat(result)
+                .containsExactly(2, 3, 2)
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("expand days of month counted from the end")
+    void lastDayOfMonth() {
+        var rule = rule(MONTHLY, dateTime(2024, 1, 1, 0, 0), UTC)
+                .addDayOfMonth(-1)
+                .build();
+
+        var result = expand(rule, "2024-01-01T00:00:00Z", "2024-04-01T00:00:00Z");
+
+        assertThat(result)
+                .containsExactly(Instant.parse("2024-01-31T00:00:00Z"),
+                                 Instant.parse("2024-02-29T00:00:00Z"),
+                                 Instant.parse("2024-03-31T00:00:00Z"))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("skip the periods without the day of the start")
+    void yearly() {
+        var rule = rule(YEARLY, dateTime(2020, 2, 29, 8, 0), UTC).build();
+
+        var result = expand(rule, "2020-01-01T00:00:00Z", "2030-01-01T00:00:00Z");
+
+        assertThat(result)
+                .containsExactly(Instant.parse("2020-02-29T08:00:00Z"),
+                                 Instant.parse("2024-02-29T08:00:00Z"),
+                                 Instant.parse("2028-02-29T08:00:00Z"))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("expand yearly days of month over the whole year if no month is given")
+    void yearlyDaysOfMonth() {
+        var rule = rule(YEARLY, dateTime(2024, 3, 1, 8, 0), UTC)
+                .addDayOfMonth(1)
+                .build();
+
+        var result = expand(rule, "2024-01-01T00:00:00Z", "2024-07-01T00:00:00Z");
+
+        assertThat(result)
+                .containsExactly(Instant.parse("2024-03-01T08:00:00Z"),
+                                 Instant.parse("2024-04-01T08:00:00Z"),
+                                 Instant.parse("2024-05-01T08:00:00Z"),
+                                 Instant.parse("2024-06-01T08:00:00Z"))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("expand several times of day")
+    void times() {
+        var rule = rule(DAILY, dateTime(2024, 1, 1, 12, 0), UTC)
+                .addTime(LocalTimes.of(18, 0))
+                .addTime(LocalTimes.of(6, 0))
+                .build();
+
+        var result = expand(rule, "2024-01-01T00:00:00Z", "2024-01-03T00:00:00Z");
+
+        assertThat(result)
+                .containsExactly(Instant.parse("2024-01-01T18:00:00Z"),
+                                 Instant.parse("2024-01-02T06:00:00Z"),
+                                 Instant.parse("2024-01-02T18:00:00Z"))
+                .inOrder();
+    }
+
+    @Nested
+    @DisplayName("produce occurrences lazily")
+    class Lazily {
+
+        @Test
+        @DisplayName("starting from the lower bound")
+        void fromLowerBound() {
+            var rule = rule(DAILY, dateTime(1990, 1, 1, 9, 0), UTC).build();
+
+            var result = expand(rule, "2040-01-01T00:00:00Z", "2040-01-03T00:00:00Z");
+
+            assertThat(result)
+                    .containsExactly(Instant.parse("2040-01-01T09:00:00Z"),
+                                     Instant.parse("2040-01-02T09:00:00Z"))
+                    .inOrder();
+        }
+
+        @Test
+        @DisplayName("for a large range")
+        void largeRange() {
+            var rule = rule(DAILY, dateTime(2024, 1, 1, 9, 0), UTC).build();
+            var result = Recurrence.of(rule)
+                                   .between(timestamp("2024-01-01T00:00:00Z"),
+                                            timestamp("9999-01-01T00:00:00Z"))
+                                   .limit(3)
+                                   .count();
+            assertThat(result)
+                    .isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("reject invalid rules")
+    void invalid() {
+        var start = dateTime(2024, 1, 1, 9, 0);
+        assertIllegalArgument(() -> Recurrence.of(
+                rule(Frequency.FREQUENCY_UNDEFINED, start, UTC).build()
+        ));
+        assertIllegalArgument(() -> Recurrence.of(
+                rule(MONTHLY, start, UTC).addDayOfMonth(32)
+                                         .build()
+        ));
+        assertIllegalArgument(() -> Recurrence.of(
+                rule(MONTHLY, start, UTC).addDayOfWeekInMonth(DayOfWeekInMonth.newBuilder()
+                                                                      .setDay(MONDAY)
+                                                                      .setOrdinal(6))
+                                         .build()
+        ));
+    }
+
+    private static RecurrenceRule.Builder rule(Frequency frequency,
+                                               LocalDateTime start,
+                                               ZoneId zone) {
+        return RecurrenceRule.newBuilder()
+                .setFrequency(frequency)
+                .setStart(start)
+                .setZone(zone);
+    }
+
+    private static List<Instant> expand(RecurrenceRule rule, String from, String to) {
+        return Recurrence.of(rule)
+                         .between(timestamp(from), timestamp(to))
+                         .map(Temporal::toInstant)
+                         .collect(toImmutableList());
+    }
+
+    private static LocalDateTime dateTime(int year, int month, int day, int hour, int minute) {
+        return LocalDateTimes.of(java.time.LocalDateTime.of(year, month, day, hour, minute));
+    }
+
+    private static Timestamp timestamp(String instant) {
+        return InstantConverter.toTimestamp(Instant.parse(instant));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.spine.base.FieldPath;
+import io.spine.time.given.EventDetails;
+import io.spine.time.given.EventWithoutTime;
+import io.spine.time.given.ScheduledEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.protobuf.AnyPacker.pack;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`TemporalFields` should")
+class TemporalFieldsTest {
+
+    private static final Instant INSTANT = Instant.parse("2025-11-02T08:15:30.5Z");
+
+    private final TemporalFields<ScheduledEvent> fields = TemporalFields.of(ScheduledEvent.class);
+
+    @Test
+    @DisplayName("not accept `null`s")
+    void nulls() {
+        new NullPointerTester()
+                .testAllPublicStaticMethods(TemporalFields.class);
+        new NullPointerTester()
+                .setDefault(Message.class, ScheduledEvent.getDefaultInstance())
+                .setDefault(TemporalValues.class, new TemporalValues())
+                .testAllPublicInstanceMethods(fields);
+    }
+
+    @Test
+    @DisplayName("find the paths of the temporal fields")
+    void paths() {
+        assertThat(fields.paths())
+                .containsExactly(path("when"),
+                                 path("date"),
+                                 path("meetings"),
+                                 path("deadlines"),
+                                 path("details", "created"))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("be computed once per type")
+    void cache() {
+        assertThat(TemporalFields.of(ScheduledEvent.class))
+                .isSameInstanceAs(fields);
+    }
+
+    @Test
+    @DisplayName("have no paths for types without temporal fields")
+    void noFields() {
+        assertThat(TemporalFields.of(EventWithoutTime.class).isEmpty())
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("extract values of singular, repeated, map, and nested fields")
+    void extract() {
+        var timestamp = InstantConverter.toTimestamp(INSTANT);
+        var date = LocalDates.of(2025, Month.NOVEMBER, 2);
+        var meeting = ZonedDateTimes.of(INSTANT.atZone(java.time.ZoneId.of("Asia/Tokyo")));
+        var deadline = LocalDateTimes.of(java.time.LocalDateTime.of(2025, 12, 31, 23, 59));
+        var created = Timestamp.newBuilder()
+                .setSeconds(-1)
+                .setNanos(1)
+                .build();
+        var event = ScheduledEvent.newBuilder()
+                .setWhen(timestamp)
+                .setDate(date)
+                .addMeetings(meeting)
+                .addMeetings(meeting)
+                .putDeadlines("year-end", deadline)
+                .setDetails(EventDetails.newBuilder()
+                                    .setCreated(created))
+                .setExtra(pack(timestamp))
+                .setPrevious(ScheduledEvent.newBuilder()
+                                     .setWhen(timestamp))
+                .putLabels("kind", "test")
+                .build();
+
+        var values = fields.extract(event);
+
+        assertThat(values.size())
+                .isEqualTo(6);
+        assertValue(values, 0, 0, timestamp);
+        assertValue(values, 1, 1, date.toTimestamp());
+        assertValue(values, 2, 2, meeting.toTimestamp());
+        assertValue(values, 3, 2, meeting.toTimestamp());
+        assertValue(values, 4, 3, deadline.toTimestamp());
+        assertValue(values, 5, 4, created);
+    }
+
+    @Test
+    @DisplayName("skip unset fields and reuse the buffer")
+    void skipUnset() {
+        var values = new TemporalValues();
+        var timestamp = InstantConverter.toTimestamp(INSTANT);
+        fields.extract(ScheduledEvent.newBuilder()
+                               .setWhen(timestamp)
+                               .setDetails(EventDetails.newBuilder()
+                                                   .setAuthor("Alice"))
+                               .build(), values);
+        assertThat(values.size())
+                .isEqualTo(1);
+
+        fields.extract(ScheduledEvent.getDefaultInstance(), values);
+        assertThat(values.isEmpty())
+                .isTrue();
+        assertThrows(IndexOutOfBoundsException.class, () -> values.epochSecond(0));
+    }
+
+    @Test
+    @DisplayName("grow the buffer")
+    void grow() {
+        var meeting = ZonedDateTimes.of(INSTANT.atZone(java.time.ZoneId.of("UTC")));
+        var builder = ScheduledEvent.newBuilder();
+        var count = 100;
+        for (var i = 0; i < count; i++) {
+            builder.addMeetings(meeting);
+        }
+
+        var values = fields.extract(builder.build());
+
+        assertThat(values.size())
+                .isEqualTo(count);
+        assertThat(values.epochNanos(count - 1))
+                .isEqualTo(EpochNanos.from(INSTANT));
+    }
+
+    private static void assertValue(TemporalValues values, int index, int pathIndex,
+                                    Timestamp expected) {
+        assertThat(values.pathIndex(index))
+                .isEqualTo(pathIndex);
+        assertThat(values.epochSecond(index))
+                .isEqualTo(expected.getSeconds());
+        assertThat(values.nanos(index))
+                .isEqualTo(expected.getNanos());
+    }
+
+    private static FieldPath path(String... names) {
+        return FieldPath.newBuilder()
+                .addAllFieldName(Arrays.asList(names))
+                .build();
+    }
+}
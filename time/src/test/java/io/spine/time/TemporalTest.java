@@ -222,6 +222,20 @@ class TemporalTest {
             var temporal = inBetween();
             assertIllegalArgument(() -> temporal.isBetween(future(), past()));
             assertIllegalArgument(() -> temporal.isBetween(future(), future()));
+            assertIllegalArgument(() -> temporal.isBetween(future().toTimestamp(),
+                                                           past().toTimestamp()));
+            assertIllegalArgument(() -> temporal.isBetween(future().toTimestamp(),
+                                                           future().toTimestamp()));
+        }
+
+        @Test
+        @DisplayName("rejecting invalid `Timestamp` bounds")
+        void invalidBounds() {
+            var invalidEnd = Timestamp.newBuilder()
+                    .setSeconds(Long.MAX_VALUE)
+                    .build();
+            var start = inBetween().toTimestamp();
+            assertIllegalArgument(() -> past().isBetween(start, invalidEnd));
         }
     }
 
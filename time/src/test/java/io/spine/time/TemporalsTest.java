@@ -27,11 +27,19 @@
 package io.spine.time;
 
 import com.google.protobuf.Empty;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
 import io.spine.base.Time;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
 
 import static io.spine.time.given.TimestampTemporalTestEnv.assertEqual;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -72,4 +80,113 @@ class TemporalsTest {
 
         assertEqual(timestamp, instant);
     }
+
+    @Nested
+    @DisplayName("provide a comparator which orders")
+    class ComparatorTest {
+
+        @Test
+        @DisplayName("`LocalDate`s")
+        void localDates() {
+            assertSameOrder(LocalDate.class, day(2019, 12, 31), day(2020, 1, 1), day(2020, 2, 1));
+        }
+
+        @Test
+        @DisplayName("`LocalDateTime`s")
+        void localDateTimes() {
+            var date = day(2020, 2, 29);
+            assertSameOrder(LocalDateTime.class,
+                            LocalDateTimes.of(date, LocalTimes.of(9, 30)),
+                            LocalDateTimes.of(date, LocalTimes.of(9, 30, 0, 1)),
+                            LocalDateTimes.of(date, LocalTimes.of(23, 0)),
+                            LocalDateTimes.of(day(2020, 3, 1), LocalTimes.of(0, 0)));
+        }
+
+        @Test
+        @DisplayName("`YearMonth`s")
+        void yearMonths() {
+            assertSameOrder(YearMonth.class,
+                            YearMonths.of(-1, 12), YearMonths.of(2020, 1), YearMonths.of(2020, 2));
+        }
+
+        @Test
+        @DisplayName("`ZonedDateTime`s")
+        void zonedDateTimes() {
+            var time = LocalDateTimes.of(day(2020, 6, 1), LocalTimes.of(12, 0));
+            assertSameOrder(ZonedDateTime.class,
+                            ZonedDateTimes.of(time, ZoneIds.of("Asia/Tokyo")),
+                            ZonedDateTimes.of(time, ZoneIds.of("Europe/Kyiv")),
+                            ZonedDateTimes.of(time, ZoneIds.of("UTC")),
+                            ZonedDateTimes.of(time, ZoneIds.of("America/New_York")));
+        }
+
+        @Test
+        @DisplayName("other `Temporal`s by their timestamps")
+        void others() {
+            var now = Time.currentTime();
+            assertSameOrder(TimestampTemporal.class,
+                            TimestampTemporal.from(Timestamps.subtract(now, Durations.fromDays(1))),
+                            TimestampTemporal.from(now),
+                            TimestampTemporal.from(Timestamps.add(now, Durations.fromNanos(1))));
+        }
+
+        @SafeVarargs
+        private <T extends Temporal<T>> void assertSameOrder(Class<T> type, T... ascending) {
+            var comparator = Temporals.comparator(type);
+            for (var i = 0; i < ascending.length; i++) {
+                for (var j = 0; j < ascending.length; j++) {
+                    var expected = Integer.signum(ascending[i].compareTo(ascending[j]));
+                    var actual = Integer.signum(comparator.compare(ascending[i], ascending[j]));
+                    assertEquals(expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sort a list by points in time of its elements")
+    void sortByTime() {
+        var random = new Random(42);
+        var dates = new ArrayList<LocalDate>();
+        for (var i = 0; i < 10_000; i++) {
+            dates.add(LocalDates.of(1900 + random.nextInt(200),
+                                    Month.forNumber(1 + random.nextInt(12)),
+                                    1 + random.nextInt(28)));
+        }
+        var expected = new ArrayList<>(dates);
+        expected.sort(Comparator.naturalOrder());
+
+        Temporals.sortByTime(dates);
+        assertEquals(expected, dates);
+    }
+
+    @Test
+    @DisplayName("sort equal seconds by nanoseconds, keeping the order of equal points in time")
+    void sortByTimeStable() {
+        var first = temporal(10, 5);
+        var second = temporal(10, 1);
+        var third = temporal(5, 0);
+        var fourth = temporal(10, 5);
+        var fifth = temporal(10, 1);
+        var list = new ArrayList<Temporal<?>>(List.of(first, second, third, fourth, fifth));
+
+        Temporals.sortByTime(list);
+
+        assertEquals(List.of(third, second, fifth, first, fourth), list);
+        assertSame(second, list.get(1));
+        assertSame(fifth, list.get(2));
+        assertSame(first, list.get(3));
+        assertSame(fourth, list.get(4));
+    }
+
+    private static Temporal<?> temporal(long seconds, int nanos) {
+        return TimestampTemporal.from(Timestamp.newBuilder()
+                                               .setSeconds(seconds)
+                                               .setNanos(nanos)
+                                               .build());
+    }
+
+    private static LocalDate day(int year, int month, int day) {
+        return LocalDates.of(year, Month.forNumber(month), day);
+    }
 }
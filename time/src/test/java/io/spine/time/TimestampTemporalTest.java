@@ -37,6 +37,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.spine.base.Time.currentTime;
 import static io.spine.protobuf.AnyPacker.pack;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("`TimestampTemporal` should")
 class TimestampTemporalTest {
@@ -70,6 +71,19 @@ class TimestampTemporalTest {
         assertEquals(pack(timestamp), temporal.packed());
     }
 
+    @Test
+    @DisplayName("be created from a trusted `Timestamp` without validation")
+    void trusted() {
+        var timestamp = currentTime();
+        assertEquals(timestamp, TimestampTemporal.trusted(timestamp).toTimestamp());
+
+        var invalid = Timestamp.newBuilder()
+                .setNanos(-1)
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> TimestampTemporal.from(invalid));
+        assertEquals(invalid, TimestampTemporal.trusted(invalid).toTimestamp());
+    }
+
     private static TimestampTemporal now() {
         return TimestampTemporal.from(currentTime());
     }
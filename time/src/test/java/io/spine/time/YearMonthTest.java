@@ -29,6 +29,10 @@ package io.spine.time;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.testing.Assertions.assertIllegalState;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("`YearMonth` should")
@@ -49,4 +53,31 @@ class YearMonthTest extends TemporalMessageTest<YearMonth> {
         var now = Now.get().asYearMonth();
         assertTrue(now.isInPast());
     }
+
+    @Test
+    @DisplayName("add and subtract months and years, as Java Time does")
+    void arithmetic() {
+        var random = new Random(42);
+        for (var i = 0; i < 10_000; i++) {
+            var value = java.time.YearMonth.of(random.nextInt(4_000) - 1_000,
+                                               random.nextInt(12) + 1);
+            var months = random.nextInt(20_000) - 10_000;
+            var yearMonth = YearMonths.of(value);
+
+            assertThat(YearMonths.toJavaTime(yearMonth.plusMonths(months)))
+                    .isEqualTo(value.plusMonths(months));
+            assertThat(YearMonths.toJavaTime(yearMonth.minusMonths(months)))
+                    .isEqualTo(value.minusMonths(months));
+            assertThat(YearMonths.toJavaTime(yearMonth.plusYears(months)))
+                    .isEqualTo(value.plusYears(months));
+            assertThat(YearMonths.toJavaTime(yearMonth.minusYears(months)))
+                    .isEqualTo(value.minusYears(months));
+        }
+    }
+
+    @Test
+    @DisplayName("reject arithmetic on a value with an invalid month")
+    void invalidMonth() {
+        assertIllegalState(() -> YearMonth.getDefaultInstance().plusMonths(1));
+    }
 }
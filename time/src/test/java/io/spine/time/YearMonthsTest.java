@@ -31,9 +31,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
 import static io.spine.base.Time.currentTimeZone;
 import static io.spine.testing.time.TimeTests.avoidDayEdge;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("`YearMonths` should")
 class YearMonthsTest extends AbstractDateTimeUtilityTest<YearMonth, java.time.YearMonth> {
@@ -48,7 +53,8 @@ class YearMonthsTest extends AbstractDateTimeUtilityTest<YearMonth, java.time.Ye
 
     @Override
     void addDefaults(NullPointerTester nullTester) {
-        // None.
+        nullTester.setDefault(YearMonth.class, current())
+                  .setDefault(int.class, 1);
     }
 
     private static void assertMonthsEqual(java.time.YearMonth jt, YearMonth value) {
@@ -74,4 +80,55 @@ class YearMonthsTest extends AbstractDateTimeUtilityTest<YearMonth, java.time.Ye
             assertMonthsEqual(ym, YearMonths.of(ym.getYear(), ym.getMonthValue()));
         }
     }
+
+    @Nested
+    @DisplayName("obtain a range of months")
+    class Range {
+
+        @Test
+        @DisplayName("across years")
+        void acrossYears() {
+            var range = YearMonths.range(YearMonths.of(2023, 11), YearMonths.of(2024, 3))
+                                  .map(YearMonths::toString)
+                                  .collect(toImmutableList());
+
+            assertThat(range).containsExactly(
+                    "2023-11", "2023-12", "2024-01", "2024-02"
+            ).inOrder();
+        }
+
+        @Test
+        @DisplayName("stepping by several months, as Java Time does")
+        void byStep() {
+            var start = java.time.YearMonth.of(-3, 5);
+            var end = java.time.YearMonth.of(2401, 1);
+            var step = 7;
+            var expected = Stream.iterate(start, m -> m.isBefore(end), m -> m.plusMonths(step))
+                                 .map(YearMonths::of)
+                                 .collect(toImmutableList());
+
+            var range = YearMonths.range(YearMonths.of(start), YearMonths.of(end), step)
+                                  .parallel()
+                                  .collect(toImmutableList());
+
+            assertThat(range).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("which is empty if the end is before the start")
+        void empty() {
+            var range = YearMonths.range(YearMonths.of(2024, 1), YearMonths.of(2023, 1));
+
+            assertThat(range.count()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("rejecting non-positive step")
+        void nonPositiveStep() {
+            var month = YearMonths.of(2024, 1);
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> YearMonths.range(month, month, -1));
+        }
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time;
+
+import io.spine.base.Time;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.time.ZoneOffset.UTC;
+
+@DisplayName("`ZoneOffsetCache` should")
+class ZoneOffsetCacheTest {
+
+    private static final int SAMPLES = 10_000;
+    private static final long STEP_AROUND_TRANSITION = 15 * 60L;
+    private static final long DISTANCE_AROUND_TRANSITION = 3 * 60 * 60L;
+
+    @AfterEach
+    void resetProvider() {
+        Time.resetProvider();
+    }
+
+    @Test
+    @DisplayName("not read the current time when created")
+    void noCurrentTime() {
+        Time.setProvider(() -> {
+            throw new AssertionError("The current time must not be read.");
+        });
+        var cache = ZoneOffsetCache.of("America/Sao_Paulo");
+        Time.resetProvider();
+
+        var expected = java.time.ZoneId.of("America/Sao_Paulo")
+                                       .getRules()
+                                       .getOffset(Instant.EPOCH)
+                                       .getTotalSeconds();
+        assertThat(cache.offsetAt(0L))
+                .isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "in `{0}`")
+    @ValueSource(strings = {
+            "Europe/Kyiv", "America/New_York", "Australia/Lord_Howe",
+            "Pacific/Apia", "Asia/Kolkata", "UTC", "+05:30"
+    })
+    @DisplayName("resolve the same offset as `ZoneRules`")
+    void offsetAt(String zoneId) {
+        var zone = java.time.ZoneId.of(zoneId);
+        var cache = ZoneOffsetCache.of(zoneId);
+        var random = new Random(zoneId.hashCode());
+        for (var i = 0; i < SAMPLES; i++) {
+            var seconds = randomSeconds(random);
+            var expected = zone.getRules()
+                               .getOffset(Instant.ofEpochSecond(seconds))
+                               .getTotalSeconds();
+            assertThat(cache.offsetAt(seconds))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest(name = "in `{0}`")
+    @ValueSource(strings = {"Europe/Kyiv", "America/New_York", "Pacific/Apia", "+05:30"})
+    @DisplayName("resolve the same offset as `ZoneRules` in a window of its own")
+    void window(String zoneId) {
+        var zone = java.time.ZoneId.of(zoneId);
+        var window = ZoneOffsetCache.of(zoneId)
+                                    .newWindow();
+        var random = new Random(zoneId.hashCode());
+        for (var i = 0; i < SAMPLES; i++) {
+            var seconds = randomSeconds(random);
+            var expected = zone.getRules()
+                               .getOffset(Instant.ofEpochSecond(seconds))
+                               .getTotalSeconds();
+            assertThat(window.offsetAt(seconds))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest(name = "in `{0}`")
+    @ValueSource(strings = {
+            "Europe/Kyiv", "America/New_York", "Australia/Lord_Howe",
+            "Pacific/Apia", "Asia/Kolkata", "UTC", "+05:30"
+    })
+    @DisplayName("convert local time to an instant as `ZonedDateTime` does")
+    void toEpochSecond(String zoneId) {
+        var zone = java.time.ZoneId.of(zoneId);
+        var cache = ZoneOffsetCache.of(zoneId);
+        var random = new Random(zoneId.hashCode());
+        for (var i = 0; i < SAMPLES; i++) {
+            assertSameInstant(cache, zone, randomSeconds(random));
+        }
+    }
+
+    @ParameterizedTest(name = "in `{0}`")
+    @ValueSource(strings = {"Europe/Kyiv", "America/New_York", "Australia/Lord_Howe"})
+    @DisplayName("resolve gaps and overlaps as `ZonedDateTime` does")
+    void gapsAndOverlaps(String zoneId) {
+        var zone = java.time.ZoneId.of(zoneId);
+        var cache = ZoneOffsetCache.of(zoneId);
+        for (var transition : zone.getRules().getTransitions()) {
+            var local = transition.getDateTimeBefore().toEpochSecond(UTC);
+            for (var delta = -DISTANCE_AROUND_TRANSITION;
+                 delta <= DISTANCE_AROUND_TRANSITION;
+                 delta += STEP_AROUND_TRANSITION) {
+                assertSameInstant(cache, zone, local + delta);
+            }
+        }
+    }
+
+    private static void assertSameInstant(ZoneOffsetCache cache,
+                                          java.time.ZoneId zone,
+                                          long localSeconds) {
+        var local = java.time.LocalDateTime.ofEpochSecond(localSeconds, 0, UTC);
+        var expected = ZonedDateTime.of(local, zone).toEpochSecond();
+        assertThat(cache.toEpochSecond(localSeconds))
+                .isEqualTo(expected);
+    }
+
+    /**
+     * Obtains seconds which mostly fall around the current time, and sometimes
+     * into the last century.
+     */
+    private static long randomSeconds(Random random) {
+        var recent = random.nextInt(3) > 0;
+        var start = recent ? 1_600_000_000L : -2_000_000_000L;
+        var range = recent ? 200_000_000L : 6_000_000_000L;
+        return start + (long) (random.nextDouble() * range);
+    }
+}
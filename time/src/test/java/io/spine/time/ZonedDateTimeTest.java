@@ -26,7 +26,12 @@
 
 package io.spine.time;
 
+import com.google.protobuf.util.Durations;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.google.common.truth.Truth.assertThat;
 
 @DisplayName("ZonedDateTime should")
 class ZonedDateTimeTest extends TemporalMessageTest<ZonedDateTime> {
@@ -39,4 +44,47 @@ class ZonedDateTimeTest extends TemporalMessageTest<ZonedDateTime> {
     ZonedDateTime create() {
         return Now.get().asZonedDateTime();
     }
+
+    @ParameterizedTest(name = "starting at `{0}`")
+    @ValueSource(strings = {
+            "2024-03-31T02:30:00+02:00[Europe/Kyiv]",
+            "2024-03-30T03:30:00+02:00[Europe/Kyiv]",
+            "2024-10-26T03:30:00+03:00[Europe/Kyiv]",
+            "2024-03-09T02:15:00.25-05:00[America/New_York]",
+            "2024-01-31T12:00:00Z[UTC]"
+    })
+    @DisplayName("add durations and calendar units, as Java Time does")
+    void arithmetic(String start) {
+        var dateTime = java.time.ZonedDateTime.parse(start);
+        var value = ZonedDateTimes.of(dateTime);
+
+        for (var hours = -30; hours <= 30; hours++) {
+            var duration = java.time.Duration.ofHours(hours)
+                                             .plusMillis(750);
+            var protoDuration = Durations.fromNanos(duration.toNanos());
+            assertSameInstant(value.plus(protoDuration), dateTime.plus(duration));
+            assertSameInstant(value.minus(protoDuration), dateTime.minus(duration));
+        }
+        for (var n = -3; n <= 3; n++) {
+            assertSameLocal(value.plusDays(n), dateTime.plusDays(n));
+            assertSameLocal(value.plusMonths(n), dateTime.plusMonths(n));
+            assertSameLocal(value.plusYears(n), dateTime.plusYears(n));
+        }
+    }
+
+    /**
+     * Asserts that the actual value has the same local date-time as the expected one and
+     * refers to the same instant, assuming that the local date-time falling into an overlap
+     * is resolved to the earlier offset.
+     */
+    private static void assertSameInstant(ZonedDateTime actual, java.time.ZonedDateTime expected) {
+        assertThat(actual.getDateTime().toJavaTime()).isEqualTo(expected.toLocalDateTime());
+        assertThat(actual.toInstant())
+                .isEqualTo(expected.withEarlierOffsetAtOverlap().toInstant());
+    }
+
+    private static void assertSameLocal(ZonedDateTime actual, java.time.ZonedDateTime expected) {
+        assertThat(actual.getDateTime().toJavaTime()).isEqualTo(expected.toLocalDateTime());
+        assertThat(actual.getZone().getValue()).isEqualTo(expected.getZone().getId());
+    }
 }
@@ -27,6 +27,8 @@
 package io.spine.time;
 
 import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Timestamp;
+import io.spine.base.Time;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -34,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import static io.spine.base.Time.currentTimeZone;
 import static io.spine.protobuf.Messages.isNotDefault;
 import static io.spine.time.Asserts.assertDatesEqual;
+import static io.spine.time.JavaTimeExtensions.toTimestamp;
 import static io.spine.time.ZonedDateTimes.toJavaTime;
 import static io.spine.testing.time.TimeTests.avoidDayEdge;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -55,7 +58,10 @@ class ZonedDateTimesTest
     @Override
     void addDefaults(NullPointerTester nullTester) {
         nullTester.setDefault(ZoneId.class, ZoneIds.systemDefault())
-                  .setDefault(LocalDateTime.class, Now.get().asLocalDateTime());
+                  .setDefault(LocalDateTime.class, Now.get().asLocalDateTime())
+                  .setDefault(Timestamp.class, Time.currentTime())
+                  .setDefault(java.time.ZoneId.class, currentTimeZone())
+                  .setDefault(DateTimeFields.class, new DateTimeFields());
 
     }
 
@@ -96,6 +102,71 @@ class ZonedDateTimesTest
         }
     }
 
+    @Nested
+    @DisplayName("localize a point in time")
+    class Localize {
+
+        private final java.time.ZoneId kyiv = java.time.ZoneId.of("Europe/Kyiv");
+        private final java.time.Instant[] instants = {
+                java.time.Instant.parse("2024-03-31T00:59:59.5Z"),
+                java.time.Instant.parse("2024-03-31T01:00:00Z"),
+                java.time.Instant.parse("2024-10-27T00:30:00.123456789Z"),
+                java.time.Instant.parse("2024-10-27T01:30:00Z"),
+                java.time.Instant.parse("1969-12-31T23:59:59.999Z"),
+                java.time.Instant.parse("0001-01-01T00:00:00Z"),
+                java.time.Instant.parse("9999-12-31T23:59:59Z"),
+        };
+
+        @Test
+        @DisplayName("into a `LocalDateTime`")
+        void toMessage() {
+            for (var instant : instants) {
+                var timestamp = toTimestamp(instant);
+                var expected = LocalDateTimes.of(
+                        java.time.LocalDateTime.ofInstant(instant, kyiv)
+                );
+                assertEquals(expected, ZonedDateTimes.localize(timestamp, kyiv));
+                assertEquals(expected, ZonedDateTimes.localize(timestamp, ZoneIds.of(kyiv)));
+            }
+        }
+
+        @Test
+        @DisplayName("into reusable fields")
+        void toFields() {
+            var fields = new DateTimeFields();
+            for (var instant : instants) {
+                var expected = java.time.ZonedDateTime.ofInstant(instant, kyiv);
+                ZonedDateTimes.localize(instant.getEpochSecond(), instant.getNano(),
+                                        kyiv, fields);
+                assertEquals(expected.getYear(), fields.year());
+                assertEquals(expected.getMonthValue(), fields.month());
+                assertEquals(expected.getDayOfMonth(), fields.day());
+                assertEquals(expected.getHour(), fields.hour());
+                assertEquals(expected.getMinute(), fields.minute());
+                assertEquals(expected.getSecond(), fields.second());
+                assertEquals(expected.getNano(), fields.nano());
+                assertEquals(expected.getOffset().getTotalSeconds(), fields.offsetSeconds());
+                assertEquals(LocalDateTimes.of(expected.toLocalDateTime()),
+                             fields.toLocalDateTime());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("obtain the epoch second of a zoned date-time")
+    void epochSecond() {
+        var kyiv = java.time.ZoneId.of("Europe/Kyiv");
+        var values = new java.time.ZonedDateTime[]{
+                java.time.ZonedDateTime.of(2024, 3, 31, 3, 30, 0, 0, kyiv),
+                java.time.ZonedDateTime.of(2024, 10, 27, 3, 30, 0, 0, kyiv),
+                java.time.ZonedDateTime.of(1969, 12, 31, 23, 59, 59, 999, kyiv)
+        };
+        for (var value : values) {
+            assertEquals(value.toEpochSecond(),
+                         ZonedDateTimes.epochSecond(ZonedDateTimes.of(value)));
+        }
+    }
+
     @Nested
     @DisplayName("reject")
     class Arguments {
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.instrumentation;
+
+import io.spine.time.LocalDate;
+import io.spine.time.LocalDates;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.time.instrumentation.TimeOperation.PARSE;
+
+/**
+ * Tests the instrumentation with no listeners installed.
+ *
+ * <p>The tests with an installed listener belong to the {@code instrumentationTest}
+ * source set, which runs in a JVM of its own.
+ */
+@DisplayName("`Instrumentation` should")
+class InstrumentationTest {
+
+    @Test
+    @DisplayName("be disabled when no listener is installed")
+    void disabled() {
+        assertThat(Instrumentation.enabled())
+                .isFalse();
+        assertThat(Instrumentation.listener(TimeListener.class))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("not read the clock when disabled")
+    void noClock() {
+        assertThat(Instrumentation.start())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("ignore the reported operations when disabled")
+    void ignoreReports() {
+        Instrumentation.completed(PARSE, LocalDate.class, 0L);
+        Instrumentation.failed(PARSE, LocalDate.class, 0L, new IllegalStateException());
+
+        var date = LocalDates.parse("2024-02-29");
+        assertThat(LocalDates.toString(date))
+                .isEqualTo("2024-02-29");
+    }
+}
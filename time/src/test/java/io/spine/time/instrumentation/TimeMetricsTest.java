@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.time.instrumentation;
+
+import io.spine.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.time.instrumentation.TimeOperation.FORMAT;
+import static io.spine.time.instrumentation.TimeOperation.PARSE;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`TimeMetrics` should collect")
+class TimeMetricsTest {
+
+    private final TimeMetrics metrics = new TimeMetrics();
+
+    @Test
+    @DisplayName("counters per operation and type")
+    void counters() {
+        metrics.completed(PARSE, LocalDate.class, 10);
+        metrics.completed(PARSE, LocalDate.class, 20);
+        metrics.failed(PARSE, LocalDate.class, 30, new IllegalStateException());
+        metrics.completed(FORMAT, LocalDate.class, 40);
+
+        var stats = metrics.stats(PARSE, LocalDate.class);
+        assertThat(stats.count())
+                .isEqualTo(3);
+        assertThat(stats.failures())
+                .isEqualTo(1);
+        assertThat(stats.totalNanos())
+                .isEqualTo(60);
+        assertThat(metrics.stats(PARSE).keySet())
+                .containsExactly(LocalDate.class);
+    }
+
+    @Test
+    @DisplayName("latency histograms by powers of two")
+    void histogram() {
+        metrics.completed(PARSE, LocalDate.class, 0);
+        metrics.completed(PARSE, LocalDate.class, 1);
+        metrics.completed(PARSE, LocalDate.class, 1000);
+        metrics.completed(PARSE, LocalDate.class, 1023);
+
+        var stats = metrics.stats(PARSE, LocalDate.class);
+        var histogram = stats.histogram();
+        assertThat(histogram[0])
+                .isEqualTo(1);
+        assertThat(histogram[1])
+                .isEqualTo(1);
+        assertThat(histogram[10])
+                .isEqualTo(2);
+        assertThat(stats.quantile(0.5))
+                .isEqualTo(1);
+        assertThat(stats.quantile(1.0))
+                .isEqualTo(1023);
+    }
+
+    @Test
+    @DisplayName("and reject an invalid quantile")
+    void invalidQuantile() {
+        var stats = metrics.stats(PARSE, LocalDate.class);
+        assertThrows(IllegalArgumentException.class, () -> stats.quantile(1.5));
+    }
+}
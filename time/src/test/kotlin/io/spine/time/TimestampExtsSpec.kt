@@ -27,12 +27,15 @@
 package io.spine.time
 
 import com.google.protobuf.Timestamp
+import com.google.protobuf.duration
 import com.google.protobuf.timestamp
+import com.google.protobuf.util.Durations
 import com.google.protobuf.util.Timestamps
 import com.google.protobuf.util.Timestamps.between
 import com.google.protobuf.util.Timestamps.toMicros
 import com.google.protobuf.util.Timestamps.toMillis
 import com.google.protobuf.util.Timestamps.toNanos
+import io.kotest.assertions.throwables.shouldThrow
 import io.kotest.matchers.shouldBe
 import io.spine.time.given.ImportantTimes.future
 import io.spine.time.given.ImportantTimes.inBetween
@@ -138,4 +141,43 @@ internal class TimestampExtsSpec {
             timestamp shouldBe past
         }
     }
+
+    @Nested
+    inner class `Accumulate durations` {
+
+        private val hour = Durations.fromHours(1)
+        private val fraction = Durations.fromNanos(999_999_999)
+
+        @Test
+        fun `as the operators do`() {
+            val expected = past + hour + fraction - hour - fraction - fraction
+            val result = past.accumulate {
+                this += hour
+                this += fraction
+                this -= hour
+                this -= fraction
+                this -= fraction
+            }
+            result shouldBe expected
+        }
+
+        @Test
+        fun `rejecting invalid durations`() {
+            val invalid = duration { nanos = -1; seconds = 1 }
+            shouldThrow<IllegalArgumentException> {
+                past.accumulate { this += invalid }
+            }
+        }
+
+        @Test
+        fun `rejecting an invalid intermediate timestamp`() {
+            val max = Timestamps.parse("9999-12-31T23:59:59.999999999Z")
+            shouldThrow<IllegalArgumentException> {
+                max.accumulate {
+                    this += fraction
+                    this -= hour
+                }
+            }
+        }
+    }
 }